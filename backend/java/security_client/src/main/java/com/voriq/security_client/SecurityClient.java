@@ -0,0 +1,348 @@
+package com.voriq.security_client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client of security_service's {@code GET /v1/tokens/validate} for other backends.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>Calls go through one shared {@link HttpClient}, which keeps HTTP/1.1 connections alive and reuses them
+ *       (pool size: JDK property {@code jdk.httpclient.connectionPoolSize}, unbounded by default). A call that
+ *       fails on a connection closed by the server is retried once; timeouts are not retried.</li>
+ *   <li>Answers are cached per token: valid tokens for {@code cacheTtl}, invalid ones for
+ *       {@code negativeCacheTtl}, at most {@code maxEntries} tokens. {@code cacheTtl} must be shorter than
+ *       security_service's {@code token.access-token-expiration-ms}: a revoked or expired token can still be
+ *       accepted from the cache for up to that long. {@link #invalidate(String)} drops a token immediately.</li>
+ *   <li>Concurrent validations of the same uncached token share one HTTP call (single flight); the first caller
+ *       makes the call on its own thread.</li>
+ *   <li>Valid entries that were used since they were loaded and expire within {@code refreshAhead} are
+ *       re-validated in the background every {@code refreshInterval}, so hot tokens never fall out of the cache.
+ *       {@code refreshAhead = 0} disables it.</li>
+ *   <li>{@code 204} means valid; {@code 400} and {@code 401} mean invalid. Anything else (timeouts, {@code 429},
+ *       {@code 503}, ...) throws {@link SecurityClientException} and is not cached.</li>
+ * </ul>
+ *
+ * <p>Thread-safe. Create one instance per target service and {@link #close()} it on shutdown.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+public class SecurityClient implements AutoCloseable {
+
+    public static final String VALIDATE_PATH = "/v1/tokens/validate";
+
+    private final HttpClient http;
+    private final URI validateUri;
+    private final Duration requestTimeout;
+    private final long cacheTtlMs;
+    private final long negativeCacheTtlMs;
+    private final long refreshAheadMs;
+    private final ValidationCache cache;
+    private final ConcurrentHashMap<String, CompletableFuture<Boolean>> flights = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refresher;
+
+    /**
+     * Bumped on every invalidation; a call caches its result only if no invalidation happened meanwhile.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+
+    private SecurityClient(Builder builder) {
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(builder.connectTimeout)
+                .build();
+        this.validateUri = URI.create(builder.baseUrl.replaceAll("/+$", "") + VALIDATE_PATH);
+        this.requestTimeout = builder.requestTimeout;
+        this.cacheTtlMs = builder.cacheTtl.toMillis();
+        this.negativeCacheTtlMs = builder.negativeCacheTtl.toMillis();
+        this.refreshAheadMs = builder.refreshAhead.toMillis();
+        this.cache = new ValidationCache(builder.maxEntries);
+
+        if (refreshAheadMs > 0 && cacheTtlMs > 0) {
+            refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "security-client-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long periodMs = builder.refreshInterval.toMillis();
+            refresher.scheduleWithFixedDelay(this::refresh, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        } else {
+            refresher = null;
+        }
+    }
+
+    /**
+     * @param baseUrl security_service base URL including the context path, e.g. {@code http://security:8080/api}
+     */
+    public static Builder builder(String baseUrl) {
+        return new Builder(baseUrl);
+    }
+
+    /**
+     * Validates an access token.
+     *
+     * @param token bearer token; {@code null} or empty is invalid
+     * @return {@code true} if security_service accepts the token (possibly answered from the cache)
+     * @throws SecurityClientException if no answer could be obtained
+     */
+    public boolean validate(String token) {
+        if (token == null || token.isEmpty()) return false;
+
+        ValidationCache.Entry entry = cacheTtlMs > 0 ? cache.get(token, System.currentTimeMillis()) : null;
+        if (entry != null) {
+            hits.increment();
+            return entry.valid;
+        }
+        misses.increment();
+
+        CompletableFuture<Boolean> mine = new CompletableFuture<>();
+        CompletableFuture<Boolean> leader = flights.putIfAbsent(token, mine);
+        if (leader != null) {
+            coalesced.increment();
+            return await(leader);
+        }
+        try {
+            long version = invalidations.get();
+            boolean valid = call(token);
+            store(token, valid, version);
+            mine.complete(valid);
+            return valid;
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            flights.remove(token, mine);
+        }
+    }
+
+    /**
+     * Drops the cached answer for {@code token}, e.g. on a revocation event.
+     *
+     * @param token token; {@code null} clears the whole cache
+     */
+    public void invalidate(String token) {
+        invalidations.incrementAndGet();
+        if (token == null) {
+            cache.clear();
+        } else {
+            cache.remove(token);
+        }
+    }
+
+    /**
+     * @return counters since creation
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), coalesced.sum(), refreshes.sum(), cache.size());
+    }
+
+    @Override
+    public void close() {
+        if (refresher != null) refresher.shutdownNow();
+    }
+
+    private boolean call(String token) {
+        try {
+            return interpret(send(token));
+        } catch (HttpTimeoutException ex) {
+            throw new SecurityClientException("security_service did not answer within " + requestTimeout, ex);
+        } catch (IOException ex) {
+            throw new SecurityClientException("security_service is unreachable: " + ex.getMessage(), ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SecurityClientException("Interrupted while validating a token", ex);
+        }
+    }
+
+    /**
+     * Sends the validate request, retrying once if a pooled connection turns out to be closed by the server.
+     */
+    private int send(String token) throws IOException, InterruptedException {
+        HttpRequest request = request(token);
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (HttpTimeoutException ex) {
+            throw ex;
+        } catch (IOException ex) {
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        }
+    }
+
+    private HttpRequest request(String token) {
+        return HttpRequest.newBuilder(validateUri)
+                .timeout(requestTimeout)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private static boolean interpret(int status) {
+        return switch (status) {
+            case 204 -> true;
+            case 400, 401 -> false;
+            default -> throw new SecurityClientException(status, "security_service answered " + status);
+        };
+    }
+
+    private void store(String token, boolean valid, long version) {
+        long ttl = valid ? cacheTtlMs : negativeCacheTtlMs;
+        if (ttl > 0 && invalidations.get() == version) {
+            cache.put(token, new ValidationCache.Entry(valid, System.currentTimeMillis() + ttl));
+        }
+    }
+
+    /**
+     * Re-validates hot entries close to expiry; failures leave the entry to expire and are retried next run.
+     */
+    private void refresh() {
+        for (String token : cache.refreshCandidates(System.currentTimeMillis(), refreshAheadMs)) {
+            long version = invalidations.get();
+            http.sendAsync(request(token), HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        store(token, interpret(response.statusCode()), version);
+                        refreshes.increment();
+                    })
+                    .exceptionally(ex -> {
+                        cache.release(token);
+                        return null;
+                    });
+        }
+    }
+
+    private static boolean await(CompletableFuture<Boolean> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * @param hits      answers served from the cache
+     * @param misses    answers that needed a call (including coalesced ones)
+     * @param coalesced callers that joined another caller's call
+     * @param refreshes background re-validations completed
+     * @param size      cached tokens
+     */
+    public record Stats(long hits, long misses, long coalesced, long refreshes, int size) {
+    }
+
+    public static final class Builder {
+
+        private final String baseUrl;
+        private Duration connectTimeout = Duration.ofSeconds(1);
+        private Duration requestTimeout = Duration.ofSeconds(2);
+        private Duration cacheTtl = Duration.ofSeconds(5);
+        private Duration negativeCacheTtl = Duration.ofSeconds(1);
+        private Duration refreshAhead = Duration.ofSeconds(1);
+        private Duration refreshInterval = Duration.ofMillis(500);
+        private Duration maxTokenLifetime;
+        private int maxEntries = 10_000;
+
+        private Builder(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * Lifetime of a cached "valid" answer (default 5s); {@link Duration#ZERO} disables caching.
+         */
+        public Builder cacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        /**
+         * Lifetime of a cached "invalid" answer (default 1s); {@link Duration#ZERO} disables negative caching.
+         */
+        public Builder negativeCacheTtl(Duration negativeCacheTtl) {
+            this.negativeCacheTtl = negativeCacheTtl;
+            return this;
+        }
+
+        /**
+         * Window before expiry in which used entries are re-validated (default 1s); {@link Duration#ZERO}
+         * disables background re-validation.
+         */
+        public Builder refreshAhead(Duration refreshAhead) {
+            this.refreshAhead = refreshAhead;
+            return this;
+        }
+
+        /**
+         * Period of the background re-validation scan (default 500ms).
+         */
+        public Builder refreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
+        /**
+         * security_service's {@code token.access-token-expiration-ms}; when set, {@link #build()} rejects a
+         * {@code cacheTtl} that is not shorter.
+         */
+        public Builder maxTokenLifetime(Duration maxTokenLifetime) {
+            this.maxTokenLifetime = maxTokenLifetime;
+            return this;
+        }
+
+        /**
+         * Max cached tokens, valid and invalid together (default 10000).
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the settings are inconsistent
+         */
+        public SecurityClient build() {
+            if (baseUrl == null || baseUrl.isBlank()) {
+                throw new IllegalArgumentException("baseUrl is required");
+            }
+            if (maxTokenLifetime != null && cacheTtl.compareTo(maxTokenLifetime) >= 0) {
+                throw new IllegalArgumentException("cacheTtl must be shorter than the token lifetime " + maxTokenLifetime);
+            }
+            if (refreshAhead.compareTo(cacheTtl) >= 0 && !cacheTtl.isZero()) {
+                throw new IllegalArgumentException("refreshAhead must be shorter than cacheTtl");
+            }
+            if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+                throw new IllegalArgumentException("refreshInterval must be positive");
+            }
+            return new SecurityClient(this);
+        }
+    }
+}
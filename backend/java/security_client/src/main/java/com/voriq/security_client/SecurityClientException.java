@@ -0,0 +1,32 @@
+package com.voriq.security_client;
+
+/**
+ * The validate call could not produce an answer: security_service was unreachable, timed out, or replied with a
+ * status other than {@code 204}, {@code 400} or {@code 401} (e.g. {@code 429} or {@code 503}).
+ *
+ * <p>Such results are never cached; callers decide whether to fail closed or retry.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+public class SecurityClientException extends RuntimeException {
+
+    /**
+     * HTTP status of the reply, or {@code -1} if there was no reply.
+     */
+    private final int status;
+
+    public SecurityClientException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public SecurityClientException(String message, Throwable cause) {
+        super(message, cause);
+        this.status = -1;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,123 @@
+package com.voriq.security_client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of validate results, keyed by token.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>Two generations of at most {@code maxEntries / 2} entries each. When the current one is full, the previous
+ *       one is dropped and the current one becomes previous; an entry found in the previous generation is promoted,
+ *       so frequently validated tokens survive eviction.</li>
+ *   <li>Expired entries are dropped lazily on lookup.</li>
+ *   <li>Every lookup hit marks its entry as <em>used</em>; {@link #refreshCandidates(long, long)} only returns used
+ *       entries, so idle tokens are left to expire instead of being re-validated.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+final class ValidationCache {
+
+    private final int generationEntries;
+    private volatile ConcurrentHashMap<String, Entry> current = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<String, Entry> previous = new ConcurrentHashMap<>();
+
+    ValidationCache(int maxEntries) {
+        this.generationEntries = Math.max(1, maxEntries / 2);
+    }
+
+    /**
+     * @return the live entry of {@code token}, or {@code null}
+     */
+    Entry get(String token, long now) {
+        Entry entry = current.get(token);
+        if (entry == null) {
+            entry = previous.remove(token);
+            if (entry == null) return null;
+            current.putIfAbsent(token, entry);
+        }
+        if (entry.expiresAt <= now) {
+            current.remove(token, entry);
+            return null;
+        }
+        entry.used = true;
+        return entry;
+    }
+
+    void put(String token, Entry entry) {
+        if (current.size() >= generationEntries) {
+            rotate();
+        }
+        current.put(token, entry);
+    }
+
+    void remove(String token) {
+        current.remove(token);
+        previous.remove(token);
+    }
+
+    void clear() {
+        current.clear();
+        previous.clear();
+    }
+
+    int size() {
+        return current.size() + previous.size();
+    }
+
+    /**
+     * Claims the positive entries that were used since they were loaded and expire within {@code refreshAheadMs}.
+     * A claimed entry is not returned again until it is replaced.
+     *
+     * @return tokens to re-validate
+     */
+    List<String> refreshCandidates(long now, long refreshAheadMs) {
+        List<String> tokens = new ArrayList<>();
+        collect(current, now, refreshAheadMs, tokens);
+        collect(previous, now, refreshAheadMs, tokens);
+        return tokens;
+    }
+
+    /**
+     * Makes a claimed entry eligible for {@link #refreshCandidates(long, long)} again after a failed refresh.
+     */
+    void release(String token) {
+        Entry entry = current.get(token);
+        if (entry == null) entry = previous.get(token);
+        if (entry != null) entry.refreshing = false;
+    }
+
+    private static void collect(ConcurrentHashMap<String, Entry> generation, long now, long refreshAheadMs,
+                                List<String> tokens) {
+        generation.forEach((token, entry) -> {
+            if (entry.valid && entry.used && !entry.refreshing
+                    && entry.expiresAt > now && entry.expiresAt - now <= refreshAheadMs) {
+                entry.refreshing = true;
+                tokens.add(token);
+            }
+        });
+    }
+
+    private synchronized void rotate() {
+        if (current.size() < generationEntries) return;
+        previous = current;
+        current = new ConcurrentHashMap<>();
+    }
+
+    static final class Entry {
+
+        final boolean valid;
+        final long expiresAt;
+        volatile boolean used;
+        volatile boolean refreshing;
+
+        Entry(boolean valid, long expiresAt) {
+            this.valid = valid;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.voriq.security_client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Security client tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class SecurityClientTest {
+
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final CountDownLatch slowRelease = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/api" + SecurityClient.VALIDATE_PATH, exchange -> {
+            String token = exchange.getRequestHeaders().getFirst("Authorization").substring("Bearer ".length());
+            calls.computeIfAbsent(token, t -> new AtomicInteger()).incrementAndGet();
+            int status = switch (token) {
+                case "good" -> 204;
+                case "down" -> 503;
+                case "slow" -> {
+                    awaitQuietly(slowRelease);
+                    yield 204;
+                }
+                default -> 401;
+            };
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/api";
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowRelease.countDown();
+        executor.shutdownNow();
+        server.stop(0);
+    }
+
+    @Test
+    void answers_are_cached_and_failures_are_not() {
+        try (SecurityClient client = SecurityClient.builder(baseUrl).build()) {
+            assertTrue(client.validate("good"));
+            assertTrue(client.validate("good"));
+            assertFalse(client.validate("bad"));
+            assertFalse(client.validate("bad"));
+            assertEquals(1, calls.get("good").get());
+            assertEquals(1, calls.get("bad").get());
+
+            SecurityClientException ex = assertThrows(SecurityClientException.class, () -> client.validate("down"));
+            assertEquals(503, ex.getStatus());
+            assertThrows(SecurityClientException.class, () -> client.validate("down"));
+            assertEquals(2, calls.get("down").get());
+
+            client.invalidate("good");
+            assertTrue(client.validate("good"));
+            assertEquals(2, calls.get("good").get());
+        }
+    }
+
+    @Test
+    void concurrent_validations_of_one_token_share_one_call() throws Exception {
+        try (SecurityClient client = SecurityClient.builder(baseUrl).build()) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                results.add(executor.submit(() -> client.validate("slow")));
+            }
+            long deadline = System.currentTimeMillis() + 5000;
+            while (client.stats().coalesced() < 5 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            slowRelease.countDown();
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, calls.get("slow").get());
+            assertEquals(5, client.stats().coalesced());
+        }
+    }
+
+    @Test
+    void used_entries_are_revalidated_before_expiry() throws Exception {
+        try (SecurityClient client = SecurityClient.builder(baseUrl)
+                .cacheTtl(Duration.ofMillis(400))
+                .refreshAhead(Duration.ofMillis(300))
+                .refreshInterval(Duration.ofMillis(50))
+                .build()) {
+            assertTrue(client.validate("good"));
+            assertTrue(client.validate("good"));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (client.stats().refreshes() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(1, client.stats().refreshes());
+            assertEquals(2, calls.get("good").get());
+            assertEquals(1, client.stats().misses());
+        }
+    }
+
+    @Test
+    void cache_ttl_must_be_shorter_than_the_token_lifetime() {
+        SecurityClient.Builder builder = SecurityClient.builder(baseUrl)
+                .cacheTtl(Duration.ofMinutes(5))
+                .maxTokenLifetime(Duration.ofMinutes(5));
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
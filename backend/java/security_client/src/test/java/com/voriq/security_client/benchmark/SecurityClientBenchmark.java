@@ -0,0 +1,100 @@
+package com.voriq.security_client.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import com.voriq.security_client.SecurityClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validate cost seen by a calling service: {@link SecurityClient} with its cache against plain pooled HTTP calls
+ * ({@code cacheTtl = 0}), with several threads validating a working set of tokens.
+ *
+ * <p>security_service is replaced by an in-process stub that answers {@code 204} after {@code latencyMs}, so the
+ * numbers isolate the client. Run with {@code mvn -Pbenchmark test -Djmh.args="SecurityClient -prof gc"}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class SecurityClientBenchmark {
+
+    @Param({"cached", "uncached"})
+    public String mode;
+
+    @Param({"0", "2"})
+    public int latencyMs;
+
+    @Param({"100"})
+    public int tokens;
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private SecurityClient client;
+    private String[] workingSet;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        serverThreads = Executors.newFixedThreadPool(8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverThreads);
+        server.createContext("/api" + SecurityClient.VALIDATE_PATH, exchange -> {
+            if (latencyMs > 0) {
+                try {
+                    Thread.sleep(latencyMs);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+
+        SecurityClient.Builder builder = SecurityClient.builder("http://127.0.0.1:" + server.getAddress().getPort() + "/api");
+        if ("uncached".equals(mode)) {
+            builder.cacheTtl(Duration.ZERO).negativeCacheTtl(Duration.ZERO).refreshAhead(Duration.ZERO);
+        }
+        client = builder.build();
+
+        workingSet = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            workingSet[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return client.validate(workingSet[ThreadLocalRandom.current().nextInt(workingSet.length)]);
+    }
+}
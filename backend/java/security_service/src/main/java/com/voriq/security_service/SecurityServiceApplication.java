@@ -2,8 +2,10 @@ package com.voriq.security_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// The R2DBC connection factory exists only in the reactive stack (ReactiveConfig)
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class SecurityServiceApplication {
 
 	public static void main(String[] args) {
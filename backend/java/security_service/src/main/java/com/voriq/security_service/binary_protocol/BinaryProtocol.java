@@ -0,0 +1,107 @@
+package com.voriq.security_service.binary_protocol;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Wire format of the binary validation protocol served by {@link BinaryProtocolServer}.
+ *
+ * <p>All integers are big-endian. Every frame starts with its length, which counts the bytes that follow the
+ * length field itself.</p>
+ *
+ * <h3>Request frame</h3>
+ * <pre>
+ * int32 length | int32 requestId | int8 opcode | payload
+ * </pre>
+ * <ul>
+ *   <li>{@link #OP_VALIDATE} — payload: 16-byte token.</li>
+ *   <li>{@link #OP_VALIDATE_BATCH} — payload: {@code uint16 count}, then {@code count} 16-byte tokens.</li>
+ *   <li>{@link #OP_OWNER} — payload: 16-byte token.</li>
+ * </ul>
+ *
+ * <h3>Response frame</h3>
+ * <pre>
+ * int32 length | int32 requestId | int8 status | payload
+ * </pre>
+ * <ul>
+ *   <li>{@link #OP_VALIDATE} — {@link #STATUS_OK} if the token is valid, {@link #STATUS_INVALID} otherwise;
+ *       no payload.</li>
+ *   <li>{@link #OP_VALIDATE_BATCH} — {@link #STATUS_OK} with {@code uint16 count}, then one status byte per token
+ *       in request order.</li>
+ *   <li>{@link #OP_OWNER} — {@link #STATUS_OK} with the 16-byte owner id, or {@link #STATUS_INVALID} if the token
+ *       is unknown.</li>
+ *   <li>Any request may be answered with {@link #STATUS_BAD_REQUEST} (malformed payload, unknown opcode) or
+ *       {@link #STATUS_UNAVAILABLE} (token store failure, server overloaded); no payload.</li>
+ * </ul>
+ *
+ * <p>Requests are pipelined: a client may send many frames without waiting, and responses may arrive in any
+ * order; {@code requestId} pairs them up. A frame whose length is out of bounds closes the connection.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+public final class BinaryProtocol {
+
+    public static final byte OP_VALIDATE = 1;
+    public static final byte OP_VALIDATE_BATCH = 2;
+    public static final byte OP_OWNER = 3;
+
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_INVALID = 1;
+    public static final byte STATUS_BAD_REQUEST = 2;
+    public static final byte STATUS_UNAVAILABLE = 3;
+
+    /**
+     * Size of the length prefix.
+     */
+    public static final int LENGTH_BYTES = 4;
+
+    /**
+     * Size of {@code requestId} plus opcode (request) or status (response).
+     */
+    public static final int HEADER_BYTES = 5;
+
+    public static final int UUID_BYTES = 16;
+
+    /**
+     * Size of the {@code count} field of batch payloads.
+     */
+    public static final int COUNT_BYTES = 2;
+
+    /**
+     * Largest batch a {@code uint16} count can describe.
+     */
+    public static final int MAX_BATCH_SIZE = 0xFFFF;
+
+    private BinaryProtocol() {
+    }
+
+    /**
+     * Allocates a frame and writes its length prefix and header.
+     *
+     * @param requestId    request id
+     * @param code         opcode (request) or status (response)
+     * @param payloadBytes exact payload size the caller will write next
+     * @return heap buffer positioned at the start of the payload
+     */
+    public static ByteBuffer frame(int requestId, byte code, int payloadBytes) {
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_BYTES + HEADER_BYTES + payloadBytes);
+        frame.putInt(HEADER_BYTES + payloadBytes).putInt(requestId).put(code);
+        return frame;
+    }
+
+    /**
+     * @return largest frame body (everything after the length prefix) for the given batch limit
+     */
+    public static int maxFrameBytes(int maxBatchSize) {
+        return HEADER_BYTES + COUNT_BYTES + maxBatchSize * UUID_BYTES;
+    }
+
+    public static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+    }
+
+    public static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,246 @@
+package com.voriq.security_service.binary_protocol;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.voriq.security_service.binary_protocol.BinaryProtocol.*;
+
+/**
+ * Small client of the binary validation protocol ({@link BinaryProtocol}).
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>Keeps a fixed pool of connections, opened lazily and picked round-robin; a broken connection is replaced
+ *       on its next use.</li>
+ *   <li>Requests are pipelined: any number of threads may send on the same connection without waiting for earlier
+ *       responses; a reader thread per connection completes the futures by {@code requestId}.</li>
+ *   <li>Futures fail with {@link StatusException} on {@link BinaryProtocol#STATUS_BAD_REQUEST} /
+ *       {@link BinaryProtocol#STATUS_UNAVAILABLE}, and with {@link UncheckedIOException} when the connection
+ *       breaks. There is no built-in timeout; use {@link CompletableFuture#orTimeout}.</li>
+ * </ul>
+ *
+ * <p>Thread-safe.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+public class BinaryProtocolClient implements AutoCloseable {
+
+    private final InetSocketAddress address;
+    private final int connectTimeoutMs;
+    private final Connection[] pool;
+    private final AtomicInteger next = new AtomicInteger();
+    /**
+     * Guards (re)connecting a slot; a lock so that a virtual thread blocked in connect does not pin its carrier.
+     */
+    private final ReentrantLock poolLock = new ReentrantLock();
+    private volatile boolean closed;
+
+    /**
+     * @param host             server host
+     * @param port             server port ({@code binary-protocol.port})
+     * @param connections      pool size
+     * @param connectTimeoutMs connect timeout of each connection
+     */
+    public BinaryProtocolClient(String host, int port, int connections, int connectTimeoutMs) {
+        this.address = new InetSocketAddress(host, port);
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.pool = new Connection[Math.max(1, connections)];
+    }
+
+    /**
+     * @return future of {@code true} if the token is valid
+     */
+    public CompletableFuture<Boolean> validate(UUID token) {
+        return send(OP_VALIDATE, UUID_BYTES, frame -> putUuid(frame, token))
+                .thenApply(response -> response.status == STATUS_OK);
+    }
+
+    /**
+     * @param tokens between 1 and the server's {@code binary-protocol.max-batch-size} tokens
+     * @return future of one flag per token, in request order
+     */
+    public CompletableFuture<boolean[]> validateBatch(List<UUID> tokens) {
+        if (tokens.isEmpty() || tokens.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must hold 1.." + MAX_BATCH_SIZE + " tokens");
+        }
+        return send(OP_VALIDATE_BATCH, COUNT_BYTES + tokens.size() * UUID_BYTES, frame -> {
+            frame.putShort((short) tokens.size());
+            for (UUID token : tokens) {
+                putUuid(frame, token);
+            }
+        }).thenApply(response -> {
+            ByteBuffer payload = response.payload;
+            boolean[] valid = new boolean[Short.toUnsignedInt(payload.getShort())];
+            for (int i = 0; i < valid.length; i++) {
+                valid[i] = payload.get() == STATUS_OK;
+            }
+            return valid;
+        });
+    }
+
+    /**
+     * @return future of the owner's user id, or of {@code null} if the token is unknown
+     */
+    public CompletableFuture<UUID> owner(UUID token) {
+        return send(OP_OWNER, UUID_BYTES, frame -> putUuid(frame, token))
+                .thenApply(response -> response.status == STATUS_OK ? getUuid(response.payload) : null);
+    }
+
+    /**
+     * Closes every connection; pending futures fail.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        poolLock.lock();
+        try {
+            for (Connection connection : pool) {
+                if (connection != null) connection.fail(new IOException("Client closed"));
+            }
+        } finally {
+            poolLock.unlock();
+        }
+    }
+
+    private CompletableFuture<Response> send(byte op, int payloadBytes, PayloadWriter writer) {
+        Connection connection;
+        try {
+            connection = connection();
+        } catch (IOException ex) {
+            return CompletableFuture.failedFuture(new UncheckedIOException(ex));
+        }
+        int requestId = connection.requestIds.incrementAndGet();
+        ByteBuffer frame = frame(requestId, op, payloadBytes);
+        writer.write(frame);
+        return connection.send(requestId, frame.array());
+    }
+
+    private Connection connection() throws IOException {
+        int slot = Math.floorMod(next.getAndIncrement(), pool.length);
+        Connection connection = pool[slot];
+        if (connection != null && !connection.broken) return connection;
+        poolLock.lock();
+        try {
+            if (closed) throw new IOException("Client closed");
+            connection = pool[slot];
+            if (connection == null || connection.broken) {
+                connection = new Connection(slot);
+                pool[slot] = connection;
+            }
+            return connection;
+        } finally {
+            poolLock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    private interface PayloadWriter {
+        void write(ByteBuffer frame);
+    }
+
+    private record Response(byte status, ByteBuffer payload) {
+    }
+
+    /**
+     * Server answered {@link BinaryProtocol#STATUS_BAD_REQUEST} or {@link BinaryProtocol#STATUS_UNAVAILABLE}.
+     */
+    public static class StatusException extends RuntimeException {
+
+        private final byte status;
+
+        public StatusException(byte status) {
+            super(status == STATUS_BAD_REQUEST ? "Request rejected as malformed" : "Token store unavailable");
+            this.status = status;
+        }
+
+        public byte getStatus() {
+            return status;
+        }
+    }
+
+    private final class Connection {
+
+        private final Socket socket;
+        private final OutputStream out;
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private final ConcurrentHashMap<Integer, CompletableFuture<Response>> pending = new ConcurrentHashMap<>();
+        private final AtomicInteger requestIds = new AtomicInteger();
+        private volatile boolean broken;
+
+        private Connection(int slot) throws IOException {
+            socket = new Socket();
+            socket.setTcpNoDelay(true);
+            socket.connect(address, connectTimeoutMs);
+            out = new BufferedOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            Thread reader = new Thread(() -> read(in), "binary-protocol-client-" + slot);
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        private CompletableFuture<Response> send(int requestId, byte[] frame) {
+            CompletableFuture<Response> future = new CompletableFuture<>();
+            pending.put(requestId, future);
+            writeLock.lock();
+            try {
+                out.write(frame);
+                // later writers are already queued on the lock: let the last one flush for all of them
+                if (!writeLock.hasQueuedThreads()) out.flush();
+            } catch (IOException ex) {
+                fail(ex);
+            } finally {
+                writeLock.unlock();
+            }
+            if (broken) fail(new IOException("Connection closed"));
+            return future;
+        }
+
+        private void read(DataInputStream in) {
+            try {
+                while (true) {
+                    int length = in.readInt();
+                    int requestId = in.readInt();
+                    byte status = in.readByte();
+                    byte[] payload = new byte[length - HEADER_BYTES];
+                    in.readFully(payload);
+
+                    CompletableFuture<Response> future = pending.remove(requestId);
+                    if (future == null) continue;
+                    if (status == STATUS_BAD_REQUEST || status == STATUS_UNAVAILABLE) {
+                        future.completeExceptionally(new StatusException(status));
+                    } else {
+                        future.complete(new Response(status, ByteBuffer.wrap(payload)));
+                    }
+                }
+            } catch (IOException ex) {
+                fail(ex);
+            }
+        }
+
+        private void fail(IOException cause) {
+            broken = true;
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+            for (Integer requestId : pending.keySet()) {
+                CompletableFuture<Response> future = pending.remove(requestId);
+                if (future != null) future.completeExceptionally(new UncheckedIOException(cause));
+            }
+        }
+    }
+}
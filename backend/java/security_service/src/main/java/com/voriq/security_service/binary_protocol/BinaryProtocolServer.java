@@ -0,0 +1,465 @@
+package com.voriq.security_service.binary_protocol;
+
+import com.voriq.security_service.service.TokenStoreStrategy.TokenStoreStrategy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.voriq.security_service.binary_protocol.BinaryProtocol.*;
+import static com.voriq.security_service.utilitie.UuidUtilities.parseOrNull;
+
+/**
+ * Length-prefixed binary listener exposing token validation, batch validation and owner lookup over the
+ * {@link TokenStoreStrategy} (wire format in {@link BinaryProtocol}).
+ *
+ * <p>Meant for co-located gateways and sidecars: a validate costs a 25-byte request and a 9-byte response
+ * instead of an HTTP exchange. Active with {@code binary-protocol.enabled=true}; it listens on
+ * {@code binary-protocol.host:port} ({@code 127.0.0.1} by default) once the application is ready.</p>
+ *
+ * <h3>Threading</h3>
+ * <ul>
+ *   <li>One selector thread accepts connections, decodes frames and writes responses.</li>
+ *   <li>Token store calls run on {@code binary-protocol.workers} worker threads, so a slow backend never stalls
+ *       the selector. A full worker queue ({@code binary-protocol.queue-capacity}) answers
+ *       {@link BinaryProtocol#STATUS_UNAVAILABLE}.</li>
+ * </ul>
+ *
+ * <h3>Pipelining and back-pressure</h3>
+ * <ul>
+ *   <li>Every connection may have up to {@code binary-protocol.max-in-flight-per-connection} requests between
+ *       decoding and the completed write of their response. Beyond that the connection is no longer read, so a
+ *       client that pipelines faster than it is served is slowed down by TCP instead of by errors.</li>
+ *   <li>Responses are written as soon as they are ready, possibly out of order, several per write call.</li>
+ *   <li>At most {@code binary-protocol.max-connections} connections are kept; further ones are closed on accept.</li>
+ * </ul>
+ *
+ * <h3>Security</h3>
+ * <p>The listener has no authentication and bypasses the HTTP rate limits; bind it to loopback or a private
+ * network only.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code binary.protocol.requests} — timer of served requests, tagged {@code op} and {@code status}.</li>
+ *   <li>{@code binary.protocol.connections} — open connections.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "binary-protocol.enabled", havingValue = "true")
+@Slf4j
+public class BinaryProtocolServer {
+
+    private static final String[] OPS = {"unknown", "validate", "validate_batch", "owner"};
+    private static final String[] STATUSES = {"ok", "invalid", "bad_request", "unavailable"};
+
+    /**
+     * Responses handed to a single gathering write.
+     */
+    private static final int WRITE_BATCH = 64;
+
+    private final TokenStoreStrategy tokenStoreStrategy;
+    private final String host;
+    private final int port;
+    private final int maxConnections;
+    private final int maxInFlight;
+    private final int maxBatchSize;
+    private final int maxFrameBytes;
+    private final ThreadPoolExecutor workers;
+    private final Timer[][] timers = new Timer[OPS.length][STATUSES.length];
+
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Connections with responses queued since their last flush.
+     */
+    private final Queue<Connection> flushes = new ConcurrentLinkedQueue<>();
+
+    private volatile Selector selector;
+    private volatile ServerSocketChannel serverChannel;
+    private volatile boolean running;
+
+    public BinaryProtocolServer(TokenStoreStrategy tokenStoreStrategy,
+                                MeterRegistry meterRegistry,
+                                @Value("${binary-protocol.host:127.0.0.1}") String host,
+                                @Value("${binary-protocol.port:7070}") int port,
+                                @Value("${binary-protocol.workers:16}") int workers,
+                                @Value("${binary-protocol.queue-capacity:1024}") int queueCapacity,
+                                @Value("${binary-protocol.max-connections:256}") int maxConnections,
+                                @Value("${binary-protocol.max-in-flight-per-connection:128}") int maxInFlight,
+                                @Value("${binary-protocol.max-batch-size:256}") int maxBatchSize) {
+        this.tokenStoreStrategy = tokenStoreStrategy;
+        this.host = host;
+        this.port = port;
+        this.maxConnections = maxConnections;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxBatchSize = Math.min(Math.max(1, maxBatchSize), MAX_BATCH_SIZE);
+        this.maxFrameBytes = BinaryProtocol.maxFrameBytes(this.maxBatchSize);
+
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread thread = new Thread(r, "binary-protocol-worker-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (int op = 0; op < OPS.length; op++) {
+            for (int status = 0; status < STATUSES.length; status++) {
+                timers[op][status] = Timer.builder("binary.protocol.requests")
+                        .description("Requests served by the binary validation protocol")
+                        .tag("op", OPS[op])
+                        .tag("status", STATUSES[status])
+                        .register(meterRegistry);
+            }
+        }
+        Gauge.builder("binary.protocol.connections", connections, Set::size)
+                .description("Open binary protocol connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Binds the listener and starts the selector thread.
+     *
+     * @throws UncheckedIOException if the address cannot be bound
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) return;
+        try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(host, port));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException ex) {
+            stop();
+            throw new UncheckedIOException("Binary protocol listener could not bind " + host + ":" + port, ex);
+        }
+        running = true;
+        Thread thread = new Thread(this::run, "binary-protocol-selector");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Binary protocol listening on {}:{}", host, getPort());
+    }
+
+    /**
+     * Closes the listener, every connection and the worker pool.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        for (Connection connection : connections) {
+            connection.close();
+        }
+        closeQuietly(serverChannel);
+        closeQuietly(selector);
+        workers.shutdownNow();
+    }
+
+    /**
+     * @return the bound port (useful with {@code binary-protocol.port=0}), or {@code -1} if not started
+     */
+    public int getPort() {
+        try {
+            ServerSocketChannel channel = serverChannel;
+            return channel == null ? -1 : ((InetSocketAddress) channel.getLocalAddress()).getPort();
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                selector.select();
+                for (Connection connection; (connection = flushes.poll()) != null; ) {
+                    connection.flush();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    Connection connection = (Connection) key.attachment();
+                    if (key.isReadable()) connection.read();
+                    if (key.isValid() && key.isWritable()) connection.flush();
+                }
+            } catch (ClosedSelectorException ex) {
+                return;
+            } catch (IOException ex) {
+                if (running) log.warn("Binary protocol selector failed: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) return;
+        if (connections.size() >= maxConnections) {
+            closeQuietly(channel);
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        Connection connection = new Connection(channel);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+        connections.add(connection);
+    }
+
+    /**
+     * Serves a decoded request on a worker thread.
+     */
+    private ByteBuffer handle(int requestId, byte op, UUID[] tokens) {
+        long startedAt = System.nanoTime();
+        ByteBuffer response;
+        byte status;
+        try {
+            switch (op) {
+                case OP_VALIDATE -> {
+                    status = isValid(tokens[0]) ? STATUS_OK : STATUS_INVALID;
+                    response = frame(requestId, status, 0);
+                }
+                case OP_VALIDATE_BATCH -> {
+                    status = STATUS_OK;
+                    response = frame(requestId, status, COUNT_BYTES + tokens.length);
+                    response.putShort((short) tokens.length);
+                    for (UUID token : tokens) {
+                        response.put(isValid(token) ? STATUS_OK : STATUS_INVALID);
+                    }
+                }
+                default -> {
+                    UUID owner = parseOrNull(tokenStoreStrategy.getSetValueByKey(tokens[0].toString()));
+                    status = owner != null ? STATUS_OK : STATUS_INVALID;
+                    response = frame(requestId, status, owner != null ? UUID_BYTES : 0);
+                    if (owner != null) putUuid(response, owner);
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.debug("Binary protocol request failed: {}", ex.getMessage());
+            status = STATUS_UNAVAILABLE;
+            response = frame(requestId, status, 0);
+        }
+        timers[op][status].record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return response.flip();
+    }
+
+    private boolean isValid(UUID token) {
+        return tokenStoreStrategy.isValid(token.toString());
+    }
+
+    private static ByteBuffer status(int requestId, byte status) {
+        return frame(requestId, status, 0).flip();
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) return;
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Per-connection state. Apart from {@link #send(ByteBuffer)}, used by worker threads, everything runs on the
+     * selector thread.
+     */
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(LENGTH_BYTES + maxFrameBytes);
+        private final Queue<ByteBuffer> out = new ConcurrentLinkedQueue<>();
+        private final ByteBuffer[] writeBatch = new ByteBuffer[WRITE_BATCH];
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+        private SelectionKey key;
+
+        /**
+         * Requests decoded and not yet written back.
+         */
+        private int inFlight;
+        private boolean readPaused;
+        private boolean writePending;
+        private volatile boolean closed;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        private void read() {
+            try {
+                if (channel.read(in) < 0) {
+                    close();
+                    return;
+                }
+                decode();
+            } catch (IOException ex) {
+                close();
+            }
+        }
+
+        /**
+         * Decodes every complete frame in the input buffer, stopping once the in-flight limit is reached.
+         */
+        private void decode() {
+            in.flip();
+            while (in.remaining() >= LENGTH_BYTES && inFlight < maxInFlight) {
+                int length = in.getInt(in.position());
+                if (length < HEADER_BYTES || length > maxFrameBytes) {
+                    log.debug("Binary protocol frame of {} bytes rejected, closing connection", length);
+                    close();
+                    return;
+                }
+                if (in.remaining() < LENGTH_BYTES + length) break;
+
+                int next = in.position() + LENGTH_BYTES + length;
+                in.position(in.position() + LENGTH_BYTES);
+                int requestId = in.getInt();
+                byte op = in.get();
+                UUID[] tokens = tokens(op, length - HEADER_BYTES);
+                in.position(next);
+
+                inFlight++;
+                if (tokens == null) {
+                    timers[op > 0 && op < OPS.length ? op : 0][STATUS_BAD_REQUEST].record(0, TimeUnit.NANOSECONDS);
+                    send(status(requestId, STATUS_BAD_REQUEST));
+                    continue;
+                }
+                try {
+                    workers.execute(() -> send(handle(requestId, op, tokens)));
+                } catch (RejectedExecutionException ex) {
+                    timers[op][STATUS_UNAVAILABLE].record(0, TimeUnit.NANOSECONDS);
+                    send(status(requestId, STATUS_UNAVAILABLE));
+                }
+            }
+            in.compact();
+            readPaused = inFlight >= maxInFlight;
+            updateInterest();
+        }
+
+        /**
+         * @return the tokens of a well-formed payload, or {@code null} for a malformed one or an unknown opcode
+         */
+        private UUID[] tokens(byte op, int payloadBytes) {
+            switch (op) {
+                case OP_VALIDATE, OP_OWNER -> {
+                    return payloadBytes == UUID_BYTES ? new UUID[]{getUuid(in)} : null;
+                }
+                case OP_VALIDATE_BATCH -> {
+                    if (payloadBytes < COUNT_BYTES) return null;
+                    int count = Short.toUnsignedInt(in.getShort());
+                    if (count == 0 || count > maxBatchSize || payloadBytes != COUNT_BYTES + count * UUID_BYTES) {
+                        return null;
+                    }
+                    UUID[] tokens = new UUID[count];
+                    for (int i = 0; i < count; i++) {
+                        tokens[i] = getUuid(in);
+                    }
+                    return tokens;
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+
+        /**
+         * Queues a response and makes sure the selector flushes it.
+         */
+        private void send(ByteBuffer response) {
+            if (closed) return;
+            out.add(response);
+            if (flushScheduled.compareAndSet(false, true)) {
+                flushes.add(this);
+                selector.wakeup();
+            }
+        }
+
+        /**
+         * Writes queued responses with gathering writes until the queue is empty or the socket buffer is full.
+         */
+        private void flush() {
+            if (closed) return;
+            flushScheduled.set(false);
+            try {
+                int written = 0;
+                while (true) {
+                    int n = 0;
+                    for (ByteBuffer response : out) {
+                        if (n == WRITE_BATCH) break;
+                        writeBatch[n++] = response;
+                    }
+                    if (n == 0) break;
+                    channel.write(writeBatch, 0, n);
+                    int done = 0;
+                    while (done < n && !writeBatch[done].hasRemaining()) {
+                        out.poll();
+                        done++;
+                    }
+                    Arrays.fill(writeBatch, 0, n, null);
+                    written += done;
+                    if (done < n) break;
+                }
+                writePending = !out.isEmpty();
+                inFlight -= written;
+                if (readPaused && inFlight < maxInFlight) {
+                    decode();
+                } else {
+                    updateInterest();
+                }
+            } catch (IOException ex) {
+                close();
+            }
+        }
+
+        private void updateInterest() {
+            if (closed || !key.isValid()) return;
+            key.interestOps((readPaused ? 0 : SelectionKey.OP_READ) | (writePending ? SelectionKey.OP_WRITE : 0));
+        }
+
+        private void close() {
+            if (closed) return;
+            closed = true;
+            connections.remove(this);
+            if (key != null) key.cancel();
+            closeQuietly(channel);
+            out.clear();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.voriq.security_service.config;
+
+import com.voriq.security_service.exception_handler.exception.UnauthorizedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsConfigurationSource;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.voriq.security_service.config.SecurityConfig.ISSUE_URL;
+import static com.voriq.security_service.config.SecurityConfig.REVOKE_URL;
+import static com.voriq.security_service.config.SecurityConfig.VALIDATE_URL;
+
+/**
+ * Configuration of the reactive (WebFlux) deployment, active with {@code spring.main.web-application-type=reactive}.
+ *
+ * <h3>Responsibilities</h3>
+ * <ul>
+ *   <li>Serves on Reactor Netty. Tomcat stays on the classpath for the servlet stack and would otherwise be
+ *       picked for WebFlux too.</li>
+ *   <li>Security: the same public token endpoints as {@link SecurityConfig}, stateless, without CSRF, HTTP Basic or
+ *       form login. Paths are matched below {@code spring.webflux.base-path}; unauthenticated requests are answered
+ *       with a JSON 401 by the {@link com.voriq.security_service.exception_handler.ReactiveExceptionHandler}.</li>
+ *   <li>CORS from the {@code cors.allowed-origins} property.</li>
+ * </ul>
+ *
+ * <h3>Notes</h3>
+ * <ul>
+ *   <li>Spring Boot's R2DBC auto-configuration is excluded: JPA, Flyway and the blocking fallbacks keep using the
+ *       JDBC {@code DataSource}; user keys are read over R2DBC by
+ *       {@link com.voriq.security_service.repository.R2dbcUserKeyLookup}.</li>
+ *   <li>The revocation feed, the validate fast path and Swagger UI are served by the servlet stack only.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    @Value("${cors.allowed-origins}")
+    private String allowedOrigins;
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .cors(cors -> cors.configurationSource(reactiveCorsConfigurationSource()))
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .requestCache(ServerHttpSecurity.RequestCacheSpec::disable)
+                .authorizeExchange(auth -> auth
+                        .pathMatchers("/error").permitAll()
+                        .pathMatchers(HttpMethod.POST, ISSUE_URL).permitAll()
+                        .pathMatchers(HttpMethod.GET, VALIDATE_URL).permitAll()
+                        .pathMatchers(HttpMethod.DELETE, REVOKE_URL).permitAll()
+                        .anyExchange().authenticated()
+                )
+                .exceptionHandling(ex -> ex
+                        .authenticationEntryPoint((exchange, authException) ->
+                                Mono.error(new UnauthorizedException("Unauthorized access", authException)))
+                )
+                .build();
+    }
+
+    /**
+     * CORS configuration built from {@code cors.allowed-origins}, as {@link SecurityConfig#corsConfigurationSource()}.
+     */
+    @Bean
+    public CorsConfigurationSource reactiveCorsConfigurationSource() {
+        CorsConfiguration config = new CorsConfiguration();
+        List<String> allowedOriginsList = Arrays.asList(allowedOrigins.split(","));
+        config.setAllowedOrigins(allowedOriginsList);
+        config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        config.setAllowedHeaders(List.of("*"));
+        config.setAllowCredentials(true);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", config);
+
+        return source;
+    }
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -2,6 +2,9 @@ package com.voriq.security_service.config;
 
 import com.voriq.security_service.config.configs_components.CustomAccessDeniedHandler;
 import com.voriq.security_service.config.configs_components.CustomAuthenticationEntryPoint;
+import com.voriq.security_service.filter.ConcurrencyLimitFilter;
+import com.voriq.security_service.filter.IpRateLimitFilter;
+import com.voriq.security_service.filter.IssueRequestParsingFilter;
 import com.voriq.security_service.filter.TokenRateLimitFilter;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -9,6 +12,7 @@ import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -37,7 +41,8 @@ import static org.springframework.security.config.Customizer.withDefaults;
  *   <li>Stateless security (no HTTP sessions).</li>
  *   <li>Permits Swagger & OpenAPI endpoints and the token issue endpoint.</li>
  *   <li>Registers {@link TokenRateLimitFilter} <em>before</em> {@link UsernamePasswordAuthenticationFilter}
- *       to enforce per-user rate limiting prior to any authentication logic.</li>
+ *       to enforce per-user rate limiting prior to any authentication logic, preceded by the per-IP
+ *       {@link IpRateLimitFilter} and the load-shedding {@link ConcurrencyLimitFilter}.</li>
  *   <li>Configures CORS from the {@code cors.allowed-origins} property.</li>
  *   <li>Sets up OpenAPI with Bearer authentication scheme.</li>
  * </ul>
@@ -52,10 +57,14 @@ import static org.springframework.security.config.Customizer.withDefaults;
  * @since 1.0.0
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final TokenRateLimitFilter tokenRateLimitFilter;
+    private final IssueRequestParsingFilter issueRequestParsingFilter;
+    private final IpRateLimitFilter ipRateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
@@ -74,6 +83,10 @@ public class SecurityConfig {
      * Relative URL for revoking tokens (mounted under the global context path, e.g. "/api").
      */
     public static final String REVOKE_URL = "/v1/tokens/revoke";
+    /**
+     * Relative URL of the revocation feed (Server-Sent Events, mounted under the global context path, e.g. "/api").
+     */
+    public static final String REVOCATION_FEED_URL = "/v1/revocations/stream";
 
     /**
      * Builds the main Spring Security filter chain.
@@ -95,6 +108,7 @@ public class SecurityConfig {
      *       <li>{@link #ISSUE_URL} — {@code POST} only</li>
      *       <li>{@link #VALIDATE_URL} — {@code GET} only</li>
      *       <li>{@link #REVOKE_URL} — {@code DELETE} only</li>
+     *       <li>{@link #REVOCATION_FEED_URL} — {@code GET} only (optionally guarded by {@code revocation.feed.access-key})</li>
      *     </ul>
      *   </li>
      *   <li>All other requests require authentication.</li>
@@ -107,7 +121,10 @@ public class SecurityConfig {
      * <p><strong>Filter ordering:</strong> {@code tokenRateLimitFilter} is added
      * <em>before</em> {@link org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter}
      * so rate limiting is enforced before authentication components read the request body. This prevents unnecessary
-     * authentication work and allows early rejection of bursty traffic to token endpoints.</p>
+     * authentication work and allows early rejection of bursty traffic to token endpoints.
+     * {@code issueRequestParsingFilter} runs right before it and parses the issue body once for the whole request;
+     * {@code ipRateLimitFilter} runs first of all and sheds per-IP floods before the body is read, followed by
+     * {@code concurrencyLimitFilter}, which sheds load with 503 once the adaptive concurrency limit is reached.</p>
      *
      * <p><strong>Extensibility notes:</strong></p>
      * <ul>
@@ -133,6 +150,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, ISSUE_URL).permitAll()
                         .requestMatchers(HttpMethod.GET, VALIDATE_URL).permitAll()
                         .requestMatchers(HttpMethod.DELETE, REVOKE_URL).permitAll()
+                        .requestMatchers(HttpMethod.GET, REVOCATION_FEED_URL).permitAll()
                         .anyRequest().authenticated()
                 )
                 .httpBasic(AbstractHttpConfigurer::disable)
@@ -142,6 +160,12 @@ public class SecurityConfig {
                 )
                 // Ensure rate-limit runs early, before auth processing reads the request body
                 .addFilterBefore(tokenRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
+                // Parse the issue body once so the rate limiter can key on its userId
+                .addFilterBefore(issueRequestParsingFilter, TokenRateLimitFilter.class)
+                // Shed load with 503 before a request occupies a thread on slow backends
+                .addFilterBefore(concurrencyLimitFilter, IssueRequestParsingFilter.class)
+                // Shed per-IP floods before any body read or token store access
+                .addFilterBefore(ipRateLimitFilter, ConcurrencyLimitFilter.class)
                 .build();
     }
 
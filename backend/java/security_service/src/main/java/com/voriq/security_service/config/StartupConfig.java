@@ -0,0 +1,90 @@
+package com.voriq.security_service.config;
+
+import com.voriq.security_service.scheduler.FilesZipper;
+import com.voriq.security_service.service.ZipService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import java.util.Set;
+
+/**
+ * Lazy initialization of infrastructure that is not on the token hot path.
+ *
+ * <p>Active with {@code startup.lazy-init.enabled=true}. The property is read when the bean factory is post-processed,
+ * not through a condition, so it can still be switched at runtime in an AOT-processed build.</p>
+ *
+ * <h3>Lazy beans</h3>
+ * <ul>
+ *   <li>Springdoc (OpenAPI / Swagger UI): created with the first {@code /v3/api-docs} or Swagger UI request.</li>
+ *   <li>{@link FilesZipper} and its {@link ZipService}: created once the application is ready, which registers the
+ *       archive schedules then instead of during the context refresh.</li>
+ * </ul>
+ * <p>Beans that a non-lazy bean depends on are still created during the refresh.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Configuration
+@Slf4j
+public class StartupConfig {
+
+    static final String LAZY_INIT_PROPERTY = "startup.lazy-init.enabled";
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    private static final Set<String> LAZY_TYPES = Set.of(FilesZipper.class.getName(), ZipService.class.getName());
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyInfrastructurePostProcessor(Environment environment) {
+        return beanFactory -> {
+            if (!isLazyInitEnabled(environment)) return;
+            int count = 0;
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isLazyCandidate(beanFactory, definition)) {
+                    definition.setLazyInit(true);
+                    count++;
+                }
+            }
+            log.info("Startup lazy init: {} infrastructure beans deferred", count);
+        };
+    }
+
+    /**
+     * Creates the {@link FilesZipper} left out of the refresh, so its schedules are registered.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initDeferredBeans(ApplicationReadyEvent event) {
+        if (!isLazyInitEnabled(event.getApplicationContext().getEnvironment())) return;
+        event.getApplicationContext().getBeanProvider(FilesZipper.class)
+                .ifAvailable(zipper -> log.debug("Deferred archive scheduler initialized"));
+    }
+
+    private static boolean isLazyInitEnabled(Environment environment) {
+        return environment.getProperty(LAZY_INIT_PROPERTY, Boolean.class, false);
+    }
+
+    private static boolean isLazyCandidate(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String type = typeName(beanFactory, definition);
+        return type != null && (LAZY_TYPES.contains(type) || type.startsWith(SPRINGDOC_PACKAGE));
+    }
+
+    /**
+     * @return class of the bean, or of the configuration declaring it for a {@code @Bean} method
+     */
+    private static String typeName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBean = definition.getFactoryBeanName();
+        if (factoryBean != null && beanFactory.containsBeanDefinition(factoryBean)) {
+            String declaring = beanFactory.getBeanDefinition(factoryBean).getBeanClassName();
+            if (declaring != null && declaring.startsWith(SPRINGDOC_PACKAGE)) return declaring;
+        }
+        return definition.getBeanClassName();
+    }
+}
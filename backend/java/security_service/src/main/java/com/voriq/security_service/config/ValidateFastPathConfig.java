@@ -0,0 +1,133 @@
+package com.voriq.security_service.config;
+
+import com.voriq.security_service.controller.ValidateFastPathServlet;
+import com.voriq.security_service.filter.ConcurrencyLimitFilter;
+import com.voriq.security_service.filter.IpRateLimitFilter;
+import com.voriq.security_service.filter.TokenRateLimitFilter;
+import com.voriq.security_service.service.interfaces.TokenService;
+import jakarta.servlet.Filter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+import org.springframework.security.web.header.HeaderWriterFilter;
+import org.springframework.security.web.header.writers.CacheControlHeadersWriter;
+import org.springframework.security.web.header.writers.HstsHeaderWriter;
+import org.springframework.security.web.header.writers.XContentTypeOptionsHeaderWriter;
+import org.springframework.security.web.header.writers.XXssProtectionHeaderWriter;
+import org.springframework.security.web.header.writers.frameoptions.XFrameOptionsHeaderWriter;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.List;
+
+import static com.voriq.security_service.config.SecurityConfig.VALIDATE_URL;
+
+/**
+ * Optional fast path for {@code GET VALIDATE_URL}.
+ *
+ * <p>Active with {@code fast-path.validate.enabled=true}. The endpoint is then served by
+ * {@link ValidateFastPathServlet}, mapped to the exact URL (so it wins over the {@code DispatcherServlet}), and
+ * skips the Spring Security filter chain, handler mapping, argument resolution and controller advice.</p>
+ *
+ * <h3>Filter chain of the fast path</h3>
+ * <ol>
+ *   <li>{@link CorsFilter} built from the same {@link CorsConfigurationSource} as the security chain</li>
+ *   <li>{@link HeaderWriterFilter} writing Spring Security's default response headers</li>
+ *   <li>{@link IpRateLimitFilter}</li>
+ *   <li>{@link ConcurrencyLimitFilter}</li>
+ *   <li>{@link TokenRateLimitFilter}</li>
+ * </ol>
+ * <p>The filters are bound to the fast-path servlet only; every other request still meets them inside the
+ * security chain (see {@link SecurityConfig}). Container-wide filters such as HTTP metrics keep applying.
+ * CORS and the security headers come first so that rejections by the limiters carry them as well; preflight
+ * ({@code OPTIONS}) requests are not bypassed and are still answered by the security chain.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "fast-path.validate.enabled", havingValue = "true")
+public class ValidateFastPathConfig {
+
+    /**
+     * First position of the fast-path filters: after Spring Security's proxy
+     * ({@code SecurityProperties.DEFAULT_FILTER_ORDER = -100}) and the observation filter.
+     */
+    private static final int FILTER_ORDER = 0;
+
+    @Bean
+    public ServletRegistrationBean<ValidateFastPathServlet> validateFastPathServlet(
+            TokenService tokenService,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+
+        ServletRegistrationBean<ValidateFastPathServlet> registration =
+                new ServletRegistrationBean<>(new ValidateFastPathServlet(tokenService, exceptionResolver), VALIDATE_URL);
+        registration.setName("validateFastPathServlet");
+        registration.setLoadOnStartup(1);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<CorsFilter> corsFastPathFilter(
+            CorsConfigurationSource corsConfigurationSource, ServletRegistrationBean<ValidateFastPathServlet> servlet) {
+        return fastPathFilter(new CorsFilter(corsConfigurationSource), servlet, FILTER_ORDER);
+    }
+
+    /**
+     * Same headers as the defaults of {@code http.headers()}, which the bypassed security chain would have written.
+     */
+    @Bean
+    public FilterRegistrationBean<HeaderWriterFilter> headerWriterFastPathFilter(
+            ServletRegistrationBean<ValidateFastPathServlet> servlet) {
+        HeaderWriterFilter filter = new HeaderWriterFilter(List.of(
+                new XContentTypeOptionsHeaderWriter(),
+                new XXssProtectionHeaderWriter(),
+                new CacheControlHeadersWriter(),
+                new HstsHeaderWriter(),
+                new XFrameOptionsHeaderWriter()));
+        return fastPathFilter(filter, servlet, FILTER_ORDER + 1);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IpRateLimitFilter> ipRateLimitFastPathFilter(
+            IpRateLimitFilter filter, ServletRegistrationBean<ValidateFastPathServlet> servlet) {
+        return fastPathFilter(filter, servlet, FILTER_ORDER + 2);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFastPathFilter(
+            ConcurrencyLimitFilter filter, ServletRegistrationBean<ValidateFastPathServlet> servlet) {
+        return fastPathFilter(filter, servlet, FILTER_ORDER + 3);
+    }
+
+    @Bean
+    public FilterRegistrationBean<TokenRateLimitFilter> tokenRateLimitFastPathFilter(
+            TokenRateLimitFilter filter, ServletRegistrationBean<ValidateFastPathServlet> servlet) {
+        return fastPathFilter(filter, servlet, FILTER_ORDER + 4);
+    }
+
+    /**
+     * Lets {@code GET VALIDATE_URL} bypass the security filter chain; the endpoint is public
+     * ({@code permitAll}) and does its own bearer-token check. CORS and the security headers are restored by
+     * the fast-path filters above.
+     */
+    @Bean
+    public WebSecurityCustomizer validateFastPathSecurityBypass() {
+        return web -> web.ignoring().requestMatchers(HttpMethod.GET, VALIDATE_URL);
+    }
+
+    private static <T extends Filter> FilterRegistrationBean<T> fastPathFilter(
+            T filter, ServletRegistrationBean<?> servlet, int order) {
+        FilterRegistrationBean<T> registration = new FilterRegistrationBean<>(filter, servlet);
+        registration.setOrder(order);
+        return registration;
+    }
+}
@@ -1,7 +1,9 @@
 package com.voriq.security_service.config;
 
 import com.voriq.security_service.config.annotation.bearer_token.BearerTokenResolver;
+import com.voriq.security_service.config.annotation.issue_request.IssueRequestResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -9,14 +11,17 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import java.util.List;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
     private final BearerTokenResolver bearerTokenResolver;
+    private final IssueRequestResolver issueRequestResolver;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(bearerTokenResolver);
+        resolvers.add(issueRequestResolver);
     }
 }
 
@@ -0,0 +1,59 @@
+package com.voriq.security_service.config.annotation.issue_request;
+
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.filter.IssueRequestParser;
+import com.voriq.security_service.filter.ParsedIssueRequest;
+import com.voriq.security_service.filter.RepeatableBodyRequestWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import static com.voriq.security_service.filter.IssueRequestParsingFilter.ATTR_ISSUE_REQUEST;
+
+/**
+ * Binds {@link IssueRequest} parameters from the {@link ParsedIssueRequest} stored by the parsing filter.
+ * If the filter did not run, the body is parsed here once. A recorded parse/validation failure is rethrown.
+ */
+@Component
+@RequiredArgsConstructor
+public class IssueRequestResolver implements HandlerMethodArgumentResolver {
+
+    private final IssueRequestParser parser;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(IssueRequest.class) &&
+                parameter.getParameterType().equals(TokenRequestDto.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) throws Exception {
+        Object attr = webRequest.getAttribute(ATTR_ISSUE_REQUEST, RequestAttributes.SCOPE_REQUEST);
+        ParsedIssueRequest parsed;
+        if (attr instanceof ParsedIssueRequest p) {
+            parsed = p;
+        } else {
+            RepeatableBodyRequestWrapper body = parser.readBody(webRequest.getNativeRequest(HttpServletRequest.class));
+            try {
+                parsed = parser.parse(body);
+            } finally {
+                body.release();
+            }
+            webRequest.setAttribute(ATTR_ISSUE_REQUEST, parsed, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        if (parsed.error() != null) {
+            throw parsed.error();
+        }
+        return parsed.dto();
+    }
+}
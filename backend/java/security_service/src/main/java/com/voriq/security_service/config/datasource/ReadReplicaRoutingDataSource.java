@@ -0,0 +1,170 @@
+package com.voriq.security_service.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource that sends read-only work to replica pools and everything else to the primary.
+ *
+ * <h3>Routing</h3>
+ * <ul>
+ *   <li>Inside a read-only transaction ({@code @Transactional(readOnly = true)}) connections come from a
+ *       replica, chosen round-robin among the healthy ones; otherwise from the primary. Wrap this DataSource
+ *       in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the read-only flag is
+ *       known when the physical connection is fetched.</li>
+ *   <li>{@link #readOnlyView()} always routes to replicas, for non-transactional reads (e.g. plain JDBC).</li>
+ * </ul>
+ *
+ * <h3>Health-aware fallback</h3>
+ * <ul>
+ *   <li>A replica whose pool fails to hand out a connection is marked down and skipped; the request tries the
+ *       next replica and, if none is healthy, the primary.</li>
+ *   <li>{@link #checkReplicas(int)} (scheduled by {@link RoutingDataSourceConfig}) validates every replica and
+ *       brings recovered ones back.</li>
+ *   <li>Replicas may lag behind the primary: a user provisioned a moment ago can still be missing on them.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param primary  primary (read-write) pool
+     * @param replicas replica pools; may be empty, in which case everything goes to the primary
+     */
+    public ReadReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    /**
+     * Routes like {@link #getConnection()} and passes the credentials to the chosen pool, which may not support
+     * them (HikariCP throws {@link SQLFeatureNotSupportedException}; that does not mark a replica down).
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * @return a DataSource that serves every connection from a healthy replica (or the primary as fallback)
+     */
+    public DataSource readOnlyView() {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return replicaConnection(DataSource::getConnection);
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return replicaConnection(dataSource -> dataSource.getConnection(username, password));
+            }
+        };
+    }
+
+    /**
+     * Validates every replica and updates its health flag.
+     *
+     * @param timeoutSeconds {@link Connection#isValid(int)} timeout
+     */
+    public void checkReplicas(int timeoutSeconds) {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(timeoutSeconds);
+            } catch (SQLException | RuntimeException ex) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.warn("Read replica #{} is now {}", replicas.indexOf(replica), healthy ? "up" : "down");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    /**
+     * @return number of replicas currently considered healthy
+     */
+    public int healthyReplicas() {
+        int count = 0;
+        for (Replica replica : replicas) {
+            if (replica.healthy) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Closes the replica pools; the primary pool is owned by its creator.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? replicaConnection(source)
+                : source.connect(primary);
+    }
+
+    private Connection replicaConnection(ConnectionSource source) throws SQLException {
+        int size = replicas.size();
+        int start = size > 0 ? Math.floorMod(next.getAndIncrement(), size) : 0;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) continue;
+            try {
+                return source.connect(replica.dataSource);
+            } catch (SQLFeatureNotSupportedException ex) {
+                throw ex;
+            } catch (SQLException | RuntimeException ex) {
+                replica.healthy = false;
+                log.warn("Read replica #{} is now down, falling back: {}", (start + i) % size, ex.getMessage());
+            }
+        }
+        return source.connect(primary);
+    }
+
+    /**
+     * How a connection is taken from the chosen pool: with or without explicit credentials.
+     */
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.voriq.security_service.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-replica routing of the application {@link DataSource}.
+ *
+ * <p>Active with {@code datasource.routing.enabled=true}; otherwise Spring Boot's single auto-configured pool
+ * is used unchanged.</p>
+ *
+ * <h3>Pools</h3>
+ * <ul>
+ *   <li>Primary — built from {@code spring.datasource.*} and {@code spring.datasource.hikari.*}; receives all
+ *       writes (user provisioning) and every non read-only transaction.</li>
+ *   <li>Replicas — one pool per URL in {@code datasource.routing.replica-urls} (comma-separated), sharing the
+ *       primary's Hikari settings; credentials default to the primary's.</li>
+ * </ul>
+ *
+ * <p>The exposed {@code @Primary} DataSource is a {@link LazyConnectionDataSourceProxy} over
+ * {@link ReadReplicaRoutingDataSource}, so the physical connection is taken only once the transaction's
+ * read-only flag is known. Replica health is re-checked every
+ * {@code datasource.routing.health-check-interval-ms}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Value("${datasource.routing.validation-timeout-seconds:1}")
+    private int validationTimeoutSeconds;
+
+    private final ObjectProvider<ReadReplicaRoutingDataSource> routingDataSource;
+
+    public RoutingDataSourceConfig(ObjectProvider<ReadReplicaRoutingDataSource> routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    /**
+     * Primary (read-write) pool.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Routing DataSource over the primary pool and one pool per configured replica.
+     */
+    @Bean(destroyMethod = "close")
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.routing.replica-urls:}") String replicaUrls,
+            @Value("${datasource.routing.replica-username:}") String replicaUsername,
+            @Value("${datasource.routing.replica-password:}") String replicaPassword) {
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : StringUtils.commaDelimitedListToStringArray(replicaUrls)) {
+            if (url.isBlank()) continue;
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            if (StringUtils.hasText(replicaUsername)) {
+                replica.setUsername(replicaUsername);
+                replica.setPassword(replicaPassword);
+            }
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primaryDataSource, replicas);
+        Gauge.builder("datasource.replicas.healthy", routing, ReadReplicaRoutingDataSource::healthyReplicas)
+                .description("Read replicas currently receiving read-only queries")
+                .register(meterRegistry);
+        return routing;
+    }
+
+    /**
+     * Application DataSource used by JPA and JDBC.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    /**
+     * Re-validates the replicas, marking failed ones down and recovered ones up.
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        routingDataSource.getObject().checkReplicas(validationTimeoutSeconds);
+    }
+}
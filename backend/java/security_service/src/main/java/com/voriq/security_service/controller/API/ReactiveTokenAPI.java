@@ -0,0 +1,36 @@
+package com.voriq.security_service.controller.API;
+
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.domain.dto.TokensDto;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux variant of {@link TokenAPI}: same paths, statuses and bodies (see {@link TokenAPI} for the documented
+ * responses). The bearer token is read from the {@code Authorization} header of the exchange.
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@RequestMapping("/v1/tokens")
+@Tag(name = "Token controller", description = "Controller for  issuing, validating, and revoking access tokens")
+public interface ReactiveTokenAPI {
+
+    @PostMapping("/issue")
+    Mono<ResponseEntity<TokensDto>> issue(@Valid @RequestBody Mono<TokenRequestDto> request,
+                                          ServerWebExchange exchange);
+
+    @GetMapping("/validate")
+    Mono<ResponseEntity<Void>> validate(ServerWebExchange exchange);
+
+    @DeleteMapping("/revoke")
+    Mono<ResponseEntity<Void>> revoke(ServerWebExchange exchange);
+}
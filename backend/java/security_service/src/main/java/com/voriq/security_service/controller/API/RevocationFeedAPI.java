@@ -0,0 +1,60 @@
+package com.voriq.security_service.controller.API;
+
+import com.voriq.security_service.exception_handler.dto.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RequestMapping("/v1/revocations")
+@Tag(name = "Revocation feed controller", description = "Controller for streaming revoked tokens and blocked users")
+public interface RevocationFeedAPI {
+
+    @Operation(
+            summary = "Revocation feed",
+            description = "Server-Sent Events stream of revoked tokens (token_revoked) and blocked users (user_blocked). " +
+                    "Reconnect with Last-Event-ID to receive the missed events; a reset event means the cache " +
+                    "must be dropped."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+            ),
+            @ApiResponse(responseCode = "401",
+                    description = "Invalid feed key",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+            @ApiResponse(responseCode = "404",
+                    description = "The revocation feed is disabled.",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+            @ApiResponse(responseCode = "503",
+                    description = "Too many subscribers. Try again later.",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    ))}
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter stream(
+            @Parameter(description = "Id of the last event received before a disconnect")
+            @RequestHeader(value = "Last-Event-ID", required = false)
+            String lastEventId,
+            @Parameter(description = "Feed access key, required when revocation.feed.access-key is set")
+            @RequestHeader(value = "X-Feed-Key", required = false)
+            String feedKey);
+}
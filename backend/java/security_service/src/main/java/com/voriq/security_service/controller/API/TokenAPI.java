@@ -1,6 +1,7 @@
 package com.voriq.security_service.controller.API;
 
 import com.voriq.security_service.config.annotation.bearer_token.BearerToken;
+import com.voriq.security_service.config.annotation.issue_request.IssueRequest;
 import com.voriq.security_service.domain.dto.TokenRequestDto;
 import com.voriq.security_service.domain.dto.TokensDto;
 import com.voriq.security_service.exception_handler.dto.ErrorResponse;
@@ -11,7 +12,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -77,8 +77,8 @@ public interface TokenAPI {
     )
     @PostMapping("/issue")
     ResponseEntity<TokensDto> issue(
-            @Valid
-            @org.springframework.web.bind.annotation.RequestBody
+            @IssueRequest
+            @Parameter(hidden = true)
             TokenRequestDto dto);
 
 
@@ -144,6 +144,12 @@ public interface TokenAPI {
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ErrorResponse.class)
                     )),
+            @ApiResponse(responseCode = "429",
+                    description = "Too many requests. Try again later.",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
             @ApiResponse(responseCode = "500",
                     description = "Temporary service error.",
                     content = @Content(
@@ -0,0 +1,62 @@
+package com.voriq.security_service.controller;
+
+import com.voriq.security_service.controller.API.ReactiveTokenAPI;
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.domain.dto.TokensDto;
+import com.voriq.security_service.exception_handler.dto.ValidationError;
+import com.voriq.security_service.exception_handler.exception.ValidationException;
+import com.voriq.security_service.filter.ReactiveTokenRateLimit;
+import com.voriq.security_service.service.interfaces.ReactiveTokenService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+import static com.voriq.security_service.utilitie.TokenUtilities.extractTokenFromRequest;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReactiveTokenController implements ReactiveTokenAPI {
+
+    ReactiveTokenService tokenService;
+    ReactiveTokenRateLimit tokenRateLimit;
+
+    @Override
+    public Mono<ResponseEntity<TokensDto>> issue(Mono<TokenRequestDto> request, ServerWebExchange exchange) {
+        return request
+                .flatMap(dto -> tokenRateLimit.issue(dto.getUserId().toString(), exchange)
+                        .then(Mono.defer(() -> tokenService.createTokens(dto))))
+                .map(tokens -> ResponseEntity.status(HttpStatus.OK).body(tokens));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> validate(ServerWebExchange exchange) {
+        String token = extractTokenFromRequest(exchange.getRequest());
+        if (token == null) return Mono.error(missingToken());
+        return tokenRateLimit.validate(token, exchange)
+                .then(Mono.defer(() -> tokenService.validateToken(token)))
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> revoke(ServerWebExchange exchange) {
+        String token = extractTokenFromRequest(exchange.getRequest());
+        if (token == null) return Mono.error(missingToken());
+        return tokenService.revokeToken(token)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    private static ValidationException missingToken() {
+        return new ValidationException("The error of validation of the request",
+                Set.of(ValidationError.builder().message("Bearer token cannot be null").build()));
+    }
+}
@@ -0,0 +1,35 @@
+package com.voriq.security_service.controller;
+
+import com.voriq.security_service.controller.API.RevocationFeedAPI;
+import com.voriq.security_service.exception_handler.exception.UnauthorizedException;
+import com.voriq.security_service.service.revocation_feed.RevocationFeed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RevocationFeedController implements RevocationFeedAPI {
+
+    private final RevocationFeed revocationFeed;
+    private final byte[] accessKey;
+
+    public RevocationFeedController(RevocationFeed revocationFeed,
+                                    @Value("${revocation.feed.access-key:}") String accessKey) {
+        this.revocationFeed = revocationFeed;
+        this.accessKey = accessKey.isEmpty() ? null : accessKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public SseEmitter stream(String lastEventId, String feedKey) {
+        if (accessKey != null && (feedKey == null
+                || !MessageDigest.isEqual(accessKey, feedKey.getBytes(StandardCharsets.UTF_8)))) {
+            throw new UnauthorizedException("Invalid feed key");
+        }
+        return revocationFeed.subscribe(lastEventId);
+    }
+}
@@ -0,0 +1,73 @@
+package com.voriq.security_service.controller;
+
+import com.voriq.security_service.exception_handler.dto.ValidationError;
+import com.voriq.security_service.exception_handler.exception.ValidationException;
+import com.voriq.security_service.service.interfaces.TokenService;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+
+import static com.voriq.security_service.filter.TokenRateLimitFilter.ATTR_USER_ID;
+import static com.voriq.security_service.service.TokenStoreStrategy.DelegatingTokenStoreStrategy.DEFAULT_SET_VALUE;
+import static com.voriq.security_service.utilitie.TokenUtilities.extractTokenFromRequest;
+import static com.voriq.security_service.utilitie.TokenUtilities.getMaskedUuid;
+
+/**
+ * Minimal servlet answering {@code GET VALIDATE_URL} outside Spring Security and the {@code DispatcherServlet}.
+ *
+ * <p>Registered by {@link com.voriq.security_service.config.ValidateFastPathConfig} when
+ * {@code fast-path.validate.enabled=true}; behaves like {@link TokenController#validate(String)}:</p>
+ * <ul>
+ *   <li>{@code 204} for a valid bearer token.</li>
+ *   <li>Errors (missing, malformed or unknown token) are rendered by the application
+ *       {@link HandlerExceptionResolver}, so bodies and status codes match the MVC endpoint and the logging
+ *       aspect still records one line per failed request.</li>
+ *   <li>Successes are logged in the logging aspect's format, with the user id the rate-limit filter resolved
+ *       (no extra token store lookup).</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Slf4j(topic = "com.voriq.security_service.aop")
+public class ValidateFastPathServlet extends HttpServlet {
+
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+
+    private final transient TokenService tokenService;
+    private final transient HandlerExceptionResolver exceptionResolver;
+
+    public ValidateFastPathServlet(TokenService tokenService, HandlerExceptionResolver exceptionResolver) {
+        this.tokenService = tokenService;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) {
+        String token = extractTokenFromRequest(request);
+        try {
+            if (token == null) {
+                throw new ValidationException("The error of validation of the request",
+                        Set.of(ValidationError.builder().message("Bearer token cannot be null").build()));
+            }
+            tokenService.validateToken(token);
+        } catch (RuntimeException ex) {
+            exceptionResolver.resolveException(request, response, null, ex);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+
+        if (log.isInfoEnabled()) {
+            Object userId = request.getAttribute(ATTR_USER_ID);
+            log.info("[INFO] {} - User with ID {} validated token {} succeeded. Code= {}",
+                    LocalDateTime.now().format(FMT), userId != null ? userId : DEFAULT_SET_VALUE,
+                    getMaskedUuid(token), HttpServletResponse.SC_NO_CONTENT);
+        }
+    }
+}
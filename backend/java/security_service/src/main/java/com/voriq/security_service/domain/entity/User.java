@@ -1,5 +1,6 @@
 package com.voriq.security_service.domain.entity;
 
+import com.voriq.security_service.service.UserKeyCacheInvalidator;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,6 +8,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserKeyCacheInvalidator.class)
 @Getter
 @Setter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -0,0 +1,125 @@
+package com.voriq.security_service.exception_handler;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-serialized JSON error bodies for the hot error paths (401, 400, 413, 429, 503).
+ *
+ * <p>Renders the same document Jackson produces for an
+ * {@link com.voriq.security_service.exception_handler.dto.ErrorResponse} without validation errors:</p>
+ * <pre>{"timestamp":"…","status":401,"error":"Unauthorized","message":["…"],"path":"…","validationErrors":null}</pre>
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>Everything between {@code timestamp} and {@code path} is serialized once per (status, message) pair and
+ *       cached; at most {@code error.templates.max-entries} pairs are kept, further ones are rendered uncached.</li>
+ *   <li>Only the timestamp (formatted once per millisecond, system zone) and the escaped request path are filled
+ *       in per response; a body costs one {@code byte[]} allocation.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+public class ErrorBodyTemplates {
+
+    private static final byte[] HEAD = "{\"timestamp\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TAIL = "\",\"validationErrors\":null}".getBytes(StandardCharsets.US_ASCII);
+
+    private final ConcurrentHashMap<Key, byte[]> templates = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private volatile Timestamp timestamp = new Timestamp(Long.MIN_VALUE, new byte[0]);
+
+    public ErrorBodyTemplates(@Value("${error.templates.max-entries:256}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Renders an error body.
+     *
+     * @param status  response status
+     * @param message single error message
+     * @param path    request URI
+     * @return UTF-8 JSON body
+     */
+    public byte[] render(HttpStatus status, String message, String path) {
+        byte[] middle = template(status, message);
+        byte[] ts = timestamp();
+        byte[] escapedPath = escape(path);
+
+        byte[] body = new byte[HEAD.length + ts.length + middle.length + escapedPath.length + TAIL.length];
+        int pos = 0;
+        System.arraycopy(HEAD, 0, body, pos, HEAD.length);
+        pos += HEAD.length;
+        System.arraycopy(ts, 0, body, pos, ts.length);
+        pos += ts.length;
+        System.arraycopy(middle, 0, body, pos, middle.length);
+        pos += middle.length;
+        System.arraycopy(escapedPath, 0, body, pos, escapedPath.length);
+        pos += escapedPath.length;
+        System.arraycopy(TAIL, 0, body, pos, TAIL.length);
+        return body;
+    }
+
+    /**
+     * @return number of cached templates
+     */
+    int size() {
+        return templates.size();
+    }
+
+    private byte[] template(HttpStatus status, String message) {
+        Key key = new Key(status.value(), message);
+        byte[] template = templates.get(key);
+        if (template != null) return template;
+
+        template = ("\",\"status\":" + status.value()
+                + ",\"error\":\"" + new String(escape(status.getReasonPhrase()), StandardCharsets.UTF_8)
+                + "\",\"message\":[\"" + new String(escape(message), StandardCharsets.UTF_8)
+                + "\"],\"path\":\"").getBytes(StandardCharsets.UTF_8);
+        if (templates.size() < maxEntries) {
+            templates.putIfAbsent(key, template);
+        }
+        return template;
+    }
+
+    private byte[] timestamp() {
+        long now = System.currentTimeMillis();
+        Timestamp current = timestamp;
+        if (current.millis == now) return current.bytes;
+
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), zone);
+        byte[] bytes = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(time).getBytes(StandardCharsets.US_ASCII);
+        timestamp = new Timestamp(now, bytes);
+        return bytes;
+    }
+
+    private static byte[] escape(String value) {
+        if (value == null) return new byte[0];
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\' || c >= 0x7f) {
+                return JsonStringEncoder.getInstance().quoteAsUTF8(value);
+            }
+        }
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record Key(int status, String message) {
+    }
+
+    private record Timestamp(long millis, byte[] bytes) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.voriq.security_service.exception_handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voriq.security_service.exception_handler.dto.ErrorResponse;
+import com.voriq.security_service.exception_handler.dto.ValidationError;
+import com.voriq.security_service.exception_handler.exception.RateLimitExceededException;
+import com.voriq.security_service.exception_handler.exception.RestException;
+import com.voriq.security_service.exception_handler.exception.ServerOverloadedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reactive counterpart of {@link RestExceptionHandler}: maps errors signalled by the WebFlux token endpoints and
+ * {@code WebFilter}s to the same statuses, headers and bodies.
+ *
+ * <h3>Mapping summary</h3>
+ * <ul>
+ *   <li>{@link WebExchangeBindException} (bean validation of the body) → 400 with validation errors</li>
+ *   <li>{@link ServerWebInputException} (missing/unreadable body) → 400, with the parser message for unreadable
+ *       JSON</li>
+ *   <li>{@link RateLimitExceededException} → 429 with {@code Retry-After}</li>
+ *   <li>{@link ServerOverloadedException} → 503 with {@code Retry-After}</li>
+ *   <li>{@link RestException} → as provided by the exception; stackless ones from {@link ErrorBodyTemplates}</li>
+ *   <li>Other {@link ResponseStatusException} → its status (e.g. 404, 405)</li>
+ *   <li>Anything else → 500</li>
+ * </ul>
+ *
+ * <p>Ordered before Spring Boot's {@code ErrorWebExceptionHandler} ({@code -1}). The per-request error line is
+ * written by {@link com.voriq.security_service.logging.ReactiveLoggingAspect}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Order(-2)
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveExceptionHandler implements WebExceptionHandler {
+
+    private final ErrorBodyTemplates errorBodyTemplates;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
+        String path = exchange.getRequest().getPath().value();
+
+        if (ex instanceof RateLimitExceededException rateLimit) {
+            HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(rateLimit.getRetryAfterSeconds()));
+            return write(response, status, errorBodyTemplates.render(status, ex.getMessage(), path));
+        }
+        if (ex instanceof ServerOverloadedException overloaded) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(overloaded.getRetryAfterSeconds()));
+            return write(response, overloaded.getStatus(),
+                    errorBodyTemplates.render(overloaded.getStatus(), ex.getMessage(), path));
+        }
+        if (ex instanceof RestException rest) {
+            if (rest.isStackless()) {
+                return write(response, rest.getStatus(), errorBodyTemplates.render(rest.getStatus(), ex.getMessage(), path));
+            }
+            ErrorResponse errorResponse = rest.getResponse();
+            errorResponse.setPath(path);
+            log.error("REST Error: {}", errorResponse, ex);
+            return write(response, rest.getStatus(), errorResponse);
+        }
+        if (ex instanceof WebExchangeBindException bind) {
+            Set<ValidationError> validationErrors = bind.getFieldErrors().stream()
+                    .map(err -> ValidationError.builder()
+                            .field(err.getField())
+                            .message(err.getDefaultMessage())
+                            .build())
+                    .collect(Collectors.toSet());
+            return write(response, HttpStatus.BAD_REQUEST,
+                    error(HttpStatus.BAD_REQUEST, "The error of validation of the request", path, validationErrors));
+        }
+        if (ex instanceof ServerWebInputException input && input.getCause() instanceof DecodingException decoding) {
+            return write(response, HttpStatus.BAD_REQUEST,
+                    error(HttpStatus.BAD_REQUEST, decoding.getMostSpecificCause().getMessage(), path, null));
+        }
+        if (ex instanceof ResponseStatusException statusException) {
+            HttpStatus status = HttpStatus.resolve(statusException.getStatusCode().value());
+            if (status == null) status = HttpStatus.INTERNAL_SERVER_ERROR;
+            String message = statusException.getReason() != null ? statusException.getReason() : status.getReasonPhrase();
+            return write(response, status, error(status, message, path, null));
+        }
+
+        HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+        ErrorResponse errorResponse = error(status, String.valueOf(ex.getMessage()), path, null);
+        log.error("Some error: {}", errorResponse, ex);
+        return write(response, status, errorResponse);
+    }
+
+    private static ErrorResponse error(HttpStatus status, String message, String path,
+                                       Set<ValidationError> validationErrors) {
+        return ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(Set.of(message))
+                .path(path)
+                .validationErrors(validationErrors)
+                .build();
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, HttpStatus status, ErrorResponse body) {
+        try {
+            return write(response, status, objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, HttpStatus status, byte[] body) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -4,9 +4,14 @@ import com.voriq.security_service.exception_handler.dto.ErrorResponse;
 import com.voriq.security_service.exception_handler.dto.ValidationError;
 import com.voriq.security_service.exception_handler.exception.RateLimitExceededException;
 import com.voriq.security_service.exception_handler.exception.RestException;
+import com.voriq.security_service.exception_handler.exception.ServerOverloadedException;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -35,20 +40,26 @@ import java.util.stream.Collectors;
  *   <li>{@link MethodArgumentNotValidException} → 400</li>
  *   <li>{@link HttpMessageNotReadableException} → 400</li>
  *   <li>{@link RateLimitExceededException} → 429</li>
+ *   <li>{@link ServerOverloadedException} → 503 with {@code Retry-After}</li>
  *   <li>{@link BadCredentialsException}, {@link AuthenticationException} → 401</li>
  *   <li>{@link RestException} → as provided by the exception (custom status/payload)</li>
  *   <li>Other {@link RuntimeException} → 500</li>
  * </ul>
  *
- * <p>Each response includes timestamp, status, reason phrase, messages, and request path.</p>
+ * <p>Each response includes timestamp, status, reason phrase, messages, and request path. Hot client errors
+ * (429, 503 on overload, stackless {@link RestException}s) are written from {@link ErrorBodyTemplates}.</p>
  *
  * @author RsLan
  * @since 1.0.0
  */
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Slf4j
+@RequiredArgsConstructor
 public class RestExceptionHandler {
 
+    private final ErrorBodyTemplates errorBodyTemplates;
+
     /**
      * Handles bean validation failures (e.g., {@code @Valid} on request DTOs).
      *
@@ -145,22 +156,33 @@ public class RestExceptionHandler {
      *
      * @param ex      custom exception containing a human-readable message (and retry hint)
      * @param request current request
-     * @return 429 Too Many Requests
+     * @return 429 Too Many Requests with a {@code Retry-After} header (seconds)
      */
     @ExceptionHandler(RateLimitExceededException.class)
-    public ResponseEntity<ErrorResponse> handleRateLimit(RateLimitExceededException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleRateLimit(RateLimitExceededException ex, HttpServletRequest request) {
         HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(status.value())
-                .error(status.getReasonPhrase())
-                .message(Set.of(ex.getMessage()))
-                .path(request.getRequestURI())
-                .validationErrors(null)
-                .build();
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorBodyTemplates.render(status, ex.getMessage(), request.getRequestURI()));
+    }
 
-        return new ResponseEntity<>(errorResponse, status);
+    /**
+     * Handles requests shed by the adaptive concurrency limit.
+     *
+     * <p>Not logged: shedding is expected under overload and must stay cheap.</p>
+     *
+     * @param ex      overload exception carrying the retry hint
+     * @param request current request
+     * @return 503 Service Unavailable with a {@code Retry-After} header (seconds)
+     */
+    @ExceptionHandler(ServerOverloadedException.class)
+    public ResponseEntity<byte[]> handleOverloaded(ServerOverloadedException ex, HttpServletRequest request) {
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorBodyTemplates.render(ex.getStatus(), ex.getMessage(), request.getRequestURI()));
     }
 
     /**
@@ -210,12 +232,21 @@ public class RestExceptionHandler {
     /**
      * Handles domain-level REST exceptions that already encapsulate status and payload.
      *
+     * <p>Stackless exceptions ({@link RestException#isStackless()}) are expected client errors: they are answered
+     * with a pre-serialized body and not logged here (the logging aspect still records one line per request).</p>
+     *
      * @param ex      domain exception containing {@link ErrorResponse} and HTTP status
      * @param request current request
      * @return response built from the exception
      */
     @ExceptionHandler(RestException.class)
-    public ResponseEntity<ErrorResponse> handleException(RestException ex, HttpServletRequest request) {
+    public ResponseEntity<?> handleException(RestException ex, HttpServletRequest request) {
+        if (ex.isStackless()) {
+            return ResponseEntity.status(ex.getStatus())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(errorBodyTemplates.render(ex.getStatus(), ex.getMessage(), request.getRequestURI()));
+        }
+
         ErrorResponse errorResponse = ex.getResponse();
 
         errorResponse.setPath(request.getRequestURI());
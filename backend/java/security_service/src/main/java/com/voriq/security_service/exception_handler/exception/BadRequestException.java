@@ -4,7 +4,7 @@ import org.springframework.http.HttpStatus;
 
 public class BadRequestException extends RestException {
     public BadRequestException(String message) {
-        super(HttpStatus.BAD_REQUEST, message);
+        super(HttpStatus.BAD_REQUEST, message, true);
     }
 
     public BadRequestException( String message, Throwable cause) {
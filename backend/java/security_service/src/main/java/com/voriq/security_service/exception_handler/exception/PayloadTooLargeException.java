@@ -0,0 +1,9 @@
+package com.voriq.security_service.exception_handler.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class PayloadTooLargeException extends RestException {
+    public PayloadTooLargeException(String message) {
+        super(HttpStatus.PAYLOAD_TOO_LARGE, message, true);
+    }
+}
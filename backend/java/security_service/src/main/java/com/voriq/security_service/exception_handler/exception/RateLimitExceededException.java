@@ -1,8 +1,14 @@
 package com.voriq.security_service.exception_handler.exception;
 
+import lombok.Getter;
+
+@Getter
 public class RateLimitExceededException extends RuntimeException {
 
+    private final long retryAfterSeconds;
+
     public RateLimitExceededException(long retryAfterSeconds) {
-        super("Too many requests. Try again in " + retryAfterSeconds + "s.");
+        super("Too many requests. Try again in " + retryAfterSeconds + "s.", null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
     }
 }
@@ -12,7 +12,14 @@ import java.util.Set;
 @Getter
 public abstract class RestException extends RuntimeException {
     private final HttpStatus status;
-    private final ErrorResponse response;
+    private final Set<String> messages;
+    private final Set<ValidationError> errors;
+
+    /**
+     * {@code true} for expected client errors raised on hot paths: no stack trace is captured, and the
+     * handler answers with a pre-serialized body instead of building an {@link ErrorResponse}.
+     */
+    private final boolean stackless;
 
     protected  RestException(HttpStatus status, String message) {
         this(status, Set.of(message), null, null);
@@ -29,7 +36,27 @@ public abstract class RestException extends RuntimeException {
     protected  RestException(HttpStatus status, Set<String> messages, Throwable cause, Set<ValidationError> errors) {
         super(String.join(";\n", messages), cause);
         this.status = status;
-        this.response = ErrorResponse.builder()
+        this.messages = messages;
+        this.errors = errors;
+        this.stackless = false;
+    }
+
+    /**
+     * Creates a stackless exception with a single message (see {@link #isStackless()}).
+     */
+    protected  RestException(HttpStatus status, String message, boolean stackless) {
+        super(message, null, !stackless, !stackless);
+        this.status = status;
+        this.messages = Set.of(message);
+        this.errors = null;
+        this.stackless = stackless;
+    }
+
+    /**
+     * @return a new error body for this exception, timestamped now
+     */
+    public ErrorResponse getResponse() {
+        return ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
                 .status(status.value())
                 .error(status.getReasonPhrase())
@@ -0,0 +1,14 @@
+package com.voriq.security_service.exception_handler.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServerOverloadedException extends ServiceUnavailableException {
+
+    private final long retryAfterSeconds;
+
+    public ServerOverloadedException(long retryAfterSeconds) {
+        super("The service is overloaded. Try again in " + retryAfterSeconds + "s.", true);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -10,4 +10,8 @@ public class ServiceUnavailableException extends RestException {
     public ServiceUnavailableException(String message, Throwable cause) {
         super(HttpStatus.SERVICE_UNAVAILABLE, message, cause);
     }
+
+    protected ServiceUnavailableException(String message, boolean stackless) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message, stackless);
+    }
 }
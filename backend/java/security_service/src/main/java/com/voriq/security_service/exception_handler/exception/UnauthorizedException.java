@@ -4,7 +4,7 @@ import org.springframework.http.HttpStatus;
 
 public class UnauthorizedException extends RestException {
     public UnauthorizedException(String message) {
-        super(HttpStatus.UNAUTHORIZED, message);
+        super(HttpStatus.UNAUTHORIZED, message, true);
     }
 
     public UnauthorizedException( String message, Throwable cause) {
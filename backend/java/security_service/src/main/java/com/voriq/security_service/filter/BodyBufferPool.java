@@ -0,0 +1,96 @@
+package com.voriq.security_service.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-classed pool of request body buffers used by {@link RepeatableBodyRequestWrapper}.
+ *
+ * <h3>Layout</h3>
+ * <ul>
+ *   <li>Classes are powers of two from {@value #MIN_CLASS_BYTES} bytes up to {@code request.body-pool.max-class-bytes};
+ *       {@link #acquire(int)} returns a buffer of the smallest class that fits (its length may exceed the request).</li>
+ *   <li>Requests above the largest class get an unpooled array that is simply dropped on {@link #release(byte[])}.</li>
+ *   <li>At most {@code request.body-pool.max-pooled-bytes} are retained across all classes; buffers released beyond
+ *       that cap are left to the GC, so idle memory stays bounded regardless of traffic peaks.</li>
+ * </ul>
+ *
+ * <p>Lock-free: each class is a {@link ConcurrentLinkedQueue}; the retained-bytes budget is an {@link AtomicLong}.
+ * Buffers are not zeroed on release; callers must only read the bytes they wrote.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+public class BodyBufferPool {
+
+    static final int MIN_CLASS_BYTES = 256;
+
+    private final ConcurrentLinkedQueue<byte[]>[] classes;
+    private final int maxClassBytes;
+    private final long maxPooledBytes;
+    private final AtomicLong pooledBytes = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    public BodyBufferPool(@Value("${request.body-pool.max-class-bytes:8192}") int maxClassBytes,
+                          @Value("${request.body-pool.max-pooled-bytes:1048576}") long maxPooledBytes) {
+        this.maxClassBytes = Math.max(MIN_CLASS_BYTES, Integer.highestOneBit(maxClassBytes));
+        this.maxPooledBytes = maxPooledBytes;
+        int count = classIndex(this.maxClassBytes) + 1;
+        this.classes = new ConcurrentLinkedQueue[count];
+        for (int i = 0; i < count; i++) {
+            classes[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Returns a buffer of at least {@code minBytes}.
+     *
+     * @param minBytes required capacity ({@code >= 0})
+     * @return pooled or freshly allocated buffer
+     */
+    public byte[] acquire(int minBytes) {
+        if (minBytes > maxClassBytes) {
+            return new byte[minBytes];
+        }
+        int index = classIndex(minBytes);
+        byte[] buffer = classes[index].poll();
+        if (buffer != null) {
+            pooledBytes.addAndGet(-buffer.length);
+            return buffer;
+        }
+        return new byte[MIN_CLASS_BYTES << index];
+    }
+
+    /**
+     * Returns a buffer to its class if it belongs to one and the retained-bytes cap allows it.
+     *
+     * @param buffer buffer obtained from {@link #acquire(int)}; may be {@code null}
+     */
+    public void release(byte[] buffer) {
+        if (buffer == null) return;
+        int length = buffer.length;
+        if (length < MIN_CLASS_BYTES || length > maxClassBytes || Integer.bitCount(length) != 1) return;
+
+        if (pooledBytes.addAndGet(length) > maxPooledBytes) {
+            pooledBytes.addAndGet(-length);
+            return;
+        }
+        classes[classIndex(length)].offer(buffer);
+    }
+
+    /**
+     * @return bytes currently retained by the pool
+     */
+    public long pooledBytes() {
+        return pooledBytes.get();
+    }
+
+    private static int classIndex(int bytes) {
+        if (bytes <= MIN_CLASS_BYTES) return 0;
+        return 32 - Integer.numberOfLeadingZeros(bytes - 1) - Integer.numberOfTrailingZeros(MIN_CLASS_BYTES);
+    }
+}
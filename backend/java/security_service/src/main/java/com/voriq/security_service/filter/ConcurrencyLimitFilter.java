@@ -0,0 +1,155 @@
+package com.voriq.security_service.filter;
+
+import com.voriq.security_service.exception_handler.exception.ServerOverloadedException;
+import com.voriq.security_service.rate_limit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+import static com.voriq.security_service.config.SecurityConfig.ISSUE_URL;
+import static com.voriq.security_service.config.SecurityConfig.REVOKE_URL;
+import static com.voriq.security_service.config.SecurityConfig.VALIDATE_URL;
+import static com.voriq.security_service.filter.TokenRateLimitFilter.normalizePath;
+
+/**
+ * Load-shedding filter that caps concurrent token requests with an {@link AdaptiveConcurrencyLimiter}.
+ *
+ * <p>When Postgres or Redis slow down, request latency grows and the limit backs off, so excess requests are
+ * answered immediately with HTTP 503 and {@code Retry-After} (via {@link ServerOverloadedException} and the
+ * configured {@link HandlerExceptionResolver}) instead of piling up on Tomcat threads.</p>
+ *
+ * <h3>Priorities</h3>
+ * <ul>
+ *   <li>{@code VALIDATE_URL} and {@code REVOKE_URL} may use the whole limit.</li>
+ *   <li>{@code ISSUE_URL} may use only {@code concurrency.issue-share} of it, so issuing is shed first and
+ *       validation keeps working under pressure.</li>
+ * </ul>
+ *
+ * <h3>Samples</h3>
+ * <p>Latency is measured around the rest of the chain. Responses with a 5xx status or an exception count as
+ * congestion, like responses slower than {@code concurrency.latency-threshold-ms}.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code concurrency.limit} — current limit.</li>
+ *   <li>{@code concurrency.in-flight} — requests holding a slot.</li>
+ *   <li>{@code concurrency.rejected} — shed requests, tagged by {@code endpoint}.</li>
+ * </ul>
+ *
+ * <p>Runs after {@link IpRateLimitFilter} and before {@link IssueRequestParsingFilter}; disabled with
+ * {@code concurrency.enabled=false}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    @Value("${concurrency.enabled:true}")
+    private boolean enabled;
+
+    @Value("${concurrency.initial-limit:100}")
+    private int initialLimit;
+
+    @Value("${concurrency.min-limit:10}")
+    private int minLimit;
+
+    @Value("${concurrency.max-limit:1000}")
+    private int maxLimit;
+
+    @Value("${concurrency.latency-threshold-ms:500}")
+    private long latencyThresholdMs;
+
+    @Value("${concurrency.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${concurrency.issue-share:0.8}")
+    private double issueShare;
+
+    @Value("${concurrency.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private Counter issueRejected;
+    private Counter validateRejected;
+    private Counter revokeRejected;
+
+    private final HandlerExceptionResolver exceptionResolver;
+    private final MeterRegistry meterRegistry;
+
+    public ConcurrencyLimitFilter(@Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                                  MeterRegistry meterRegistry) {
+        this.exceptionResolver = exceptionResolver;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Builds the limiter and its meters once the {@code concurrency.*} properties have been injected.
+     */
+    @Override
+    protected void initFilterBean() {
+        limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyThresholdMs, backoffRatio);
+
+        Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .description("Adaptive concurrency limit of the token endpoints")
+                .register(meterRegistry);
+        Gauge.builder("concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("Token requests currently holding a concurrency slot")
+                .register(meterRegistry);
+        issueRejected = rejectedCounter("issue");
+        validateRejected = rejectedCounter("validate");
+        revokeRejected = rejectedCounter("revoke");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) return true;
+        String path = normalizePath(request);
+        return !ISSUE_URL.equals(path) && !VALIDATE_URL.equals(path) && !REVOKE_URL.equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain)
+            throws ServletException, IOException {
+
+        String path = normalizePath(request);
+        boolean isIssue = ISSUE_URL.equals(path);
+
+        if (!limiter.tryAcquire(isIssue ? issueShare : 1.0)) {
+            (isIssue ? issueRejected : VALIDATE_URL.equals(path) ? validateRejected : revokeRejected).increment();
+            exceptionResolver.resolveException(request, response, null, new ServerOverloadedException(retryAfterSeconds));
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            limiter.release(System.nanoTime() - startedAt, failed);
+        }
+    }
+
+    private Counter rejectedCounter(String endpoint) {
+        return Counter.builder("concurrency.rejected")
+                .description("Token requests shed by the adaptive concurrency limit")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,113 @@
+package com.voriq.security_service.filter;
+
+import com.voriq.security_service.exception_handler.exception.RateLimitExceededException;
+import com.voriq.security_service.rate_limit.SlidingWindowSketch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.time.Clock;
+
+import static com.voriq.security_service.config.SecurityConfig.ISSUE_URL;
+import static com.voriq.security_service.config.SecurityConfig.REVOKE_URL;
+import static com.voriq.security_service.config.SecurityConfig.VALIDATE_URL;
+import static com.voriq.security_service.filter.TokenRateLimitFilter.normalizePath;
+
+/**
+ * First-stage, per-client-IP flood limiter for the token endpoints.
+ *
+ * <p>Counts requests per {@link HttpServletRequest#getRemoteAddr() remote address} in a
+ * {@link SlidingWindowSketch} and rejects a source that exceeds {@code rate.ip.limit} requests per
+ * {@code rate.ip.window-ms} with HTTP 429 (via {@link RateLimitExceededException} and the configured
+ * {@link HandlerExceptionResolver}). It runs before {@link IssueRequestParsingFilter} and
+ * {@link TokenRateLimitFilter}, so a flood is shed before any body is read or any token store is queried —
+ * including floods with random {@code userId}s or tokens that the per-user limiter cannot attribute.</p>
+ *
+ * <h3>Notes</h3>
+ * <ul>
+ *   <li>With {@code server.forward-headers-strategy: framework} the remote address is the client address taken
+ *       from {@code X-Forwarded-For}/{@code Forwarded} by Spring's {@code ForwardedHeaderFilter}.</li>
+ *   <li>Applies to {@code ISSUE_URL}, {@code VALIDATE_URL} and {@code REVOKE_URL}; one budget per IP is shared
+ *       by all three.</li>
+ *   <li>The sketch may over-count an IP that collides with a heavy hitter in every row; keep
+ *       {@code rate.ip.limit} well above legitimate per-IP traffic (e.g. NAT gateways).</li>
+ *   <li>Rejections are counted in {@code rate.limiter.ip.rejected}.</li>
+ *   <li>Off by default; enable with {@code rate.ip.enabled=true} only where {@code getRemoteAddr()} is the real
+ *       client. Behind a gateway or load balancer that does not forward the client address, every request shares
+ *       one budget and the whole service answers 429 at {@code rate.ip.limit} requests per window.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class IpRateLimitFilter extends OncePerRequestFilter {
+
+    @Value("${rate.ip.enabled:false}")
+    private boolean enabled;
+
+    @Value("${rate.ip.window-ms:1000}")
+    private long windowMs;
+
+    @Value("${rate.ip.limit:50}")
+    private int limit;
+
+    @Value("${rate.ip.sketch-width:8192}")
+    private int sketchWidth;
+
+    private SlidingWindowSketch sketch;
+
+    private final HandlerExceptionResolver exceptionResolver;
+    private final Counter rejected;
+
+    public IpRateLimitFilter(@Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                             MeterRegistry meterRegistry) {
+        this.exceptionResolver = exceptionResolver;
+        this.rejected = Counter.builder("rate.limiter.ip.rejected")
+                .description("Requests rejected by the per-IP flood limiter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds the sketch once the {@code rate.ip.*} properties have been injected.
+     */
+    @Override
+    protected void initFilterBean() {
+        sketch = new SlidingWindowSketch(Clock.systemUTC(), windowMs, limit, sketchWidth);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) return true;
+        String path = normalizePath(request);
+        return !ISSUE_URL.equals(path) && !VALIDATE_URL.equals(path) && !REVOKE_URL.equals(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain)
+            throws ServletException, IOException {
+
+        String ip = request.getRemoteAddr();
+        long retryMs = ip != null ? sketch.tryAcquire(ip) : 0L;
+        if (retryMs > 0) {
+            rejected.increment();
+            exceptionResolver.resolveException(request, response, null,
+                    new RateLimitExceededException((retryMs + 999) / 1000));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,137 @@
+package com.voriq.security_service.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.exception_handler.dto.ValidationError;
+import com.voriq.security_service.exception_handler.exception.PayloadTooLargeException;
+import com.voriq.security_service.exception_handler.exception.ValidationException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.voriq.security_service.utilitie.RequestBodyUtilities.extractUserId;
+
+/**
+ * Reads, deserializes and validates the body of {@code POST /v1/tokens/issue} in a single pass.
+ *
+ * <p>Failures are not thrown but returned inside {@link ParsedIssueRequest} and reported with the same
+ * exceptions Spring MVC would raise for {@code @Valid @RequestBody}, so error responses are unchanged:</p>
+ * <ul>
+ *   <li>non-JSON content type → {@link HttpMediaTypeNotSupportedException} (415),</li>
+ *   <li>missing or malformed body → {@link HttpMessageNotReadableException} (400),</li>
+ *   <li>constraint violations → {@link ValidationException} (400 with field errors).</li>
+ * </ul>
+ *
+ * <p>Uses the application {@link ObjectMapper} and {@link Validator} so the DTO is bound exactly as before.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+public class IssueRequestParser {
+
+    private static final String VALIDATION_MESSAGE = "The error of validation of the request";
+
+    /**
+     * Largest accepted issue body (bytes); larger payloads are answered with 413 without being buffered.
+     *
+     * <p>Loaded from property {@code request.max-body-bytes} (default {@code 4096}).</p>
+     */
+    @Value("${request.max-body-bytes:4096}")
+    private int maxBodyBytes;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final BodyBufferPool bodyBufferPool;
+
+    public IssueRequestParser(ObjectMapper objectMapper, Validator validator, BodyBufferPool bodyBufferPool) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.bodyBufferPool = bodyBufferPool;
+    }
+
+    /**
+     * Reads the request body into a pooled buffer, enforcing {@code request.max-body-bytes}.
+     * The caller must {@link RepeatableBodyRequestWrapper#release() release} the returned wrapper.
+     *
+     * @throws PayloadTooLargeException if the body exceeds the limit
+     */
+    public RepeatableBodyRequestWrapper readBody(HttpServletRequest request) throws IOException {
+        return RepeatableBodyRequestWrapper.read(request, maxBodyBytes, bodyBufferPool);
+    }
+
+    /**
+     * Parses and validates an already-read body.
+     *
+     * @param request request wrapper holding the body (content type, error context)
+     * @return parse outcome; never {@code null}
+     */
+    public ParsedIssueRequest parse(RepeatableBodyRequestWrapper request) {
+        byte[] body = request.getBodyBuffer();
+        int length = request.getBodyLength();
+
+        MediaType contentType = contentType(request);
+        if (contentType != null && !MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return new ParsedIssueRequest(null, extractUserId(body, 0, length),
+                    new HttpMediaTypeNotSupportedException(contentType, List.of(MediaType.APPLICATION_JSON)));
+        }
+        if (length == 0) {
+            return new ParsedIssueRequest(null, null,
+                    new HttpMessageNotReadableException("Required request body is missing", new ServletServerHttpRequest(request)));
+        }
+
+        TokenRequestDto dto;
+        try {
+            dto = objectMapper.readValue(body, 0, length, TokenRequestDto.class);
+        } catch (JsonProcessingException ex) {
+            return new ParsedIssueRequest(null, extractUserId(body, 0, length),
+                    new HttpMessageNotReadableException("JSON parse error: " + ex.getOriginalMessage(), ex,
+                            new ServletServerHttpRequest(request)));
+        } catch (IOException ex) {
+            return new ParsedIssueRequest(null, extractUserId(body, 0, length),
+                    new HttpMessageNotReadableException("I/O error while reading input message", ex,
+                            new ServletServerHttpRequest(request)));
+        }
+
+        if (dto == null) {
+            return new ParsedIssueRequest(null, null,
+                    new HttpMessageNotReadableException("Required request body is missing", new ServletServerHttpRequest(request)));
+        }
+        String userId = dto.getUserId() != null ? dto.getUserId().toString() : null;
+
+        Set<ConstraintViolation<TokenRequestDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            Set<ValidationError> errors = violations.stream()
+                    .map(v -> ValidationError.builder()
+                            .field(v.getPropertyPath().toString())
+                            .message(v.getMessage())
+                            .build())
+                    .collect(Collectors.toSet());
+            return new ParsedIssueRequest(null, userId, new ValidationException(VALIDATION_MESSAGE, errors));
+        }
+        return new ParsedIssueRequest(dto, userId, null);
+    }
+
+    private static MediaType contentType(HttpServletRequest request) {
+        String header = request.getContentType();
+        if (header == null || header.isBlank()) return null;
+        try {
+            return MediaType.parseMediaType(header);
+        } catch (InvalidMediaTypeException ex) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.voriq.security_service.filter;
+
+import com.voriq.security_service.exception_handler.exception.RestException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+import static com.voriq.security_service.config.SecurityConfig.ISSUE_URL;
+import static com.voriq.security_service.filter.TokenRateLimitFilter.normalizePath;
+
+/**
+ * Single parse stage for {@code POST ISSUE_URL}.
+ *
+ * <p>Reads the body once into a pooled buffer (bounded by {@code request.max-body-bytes}), deserializes and validates
+ * {@link com.voriq.security_service.domain.dto.TokenRequestDto} via {@link IssueRequestParser} and stores the
+ * {@link ParsedIssueRequest} under {@link #ATTR_ISSUE_REQUEST}. Downstream consumers reuse it instead of
+ * parsing again:</p>
+ * <ul>
+ *   <li>{@link TokenRateLimitFilter} keys the limit on {@link ParsedIssueRequest#userId()},</li>
+ *   <li>{@link com.voriq.security_service.config.annotation.issue_request.IssueRequestResolver} binds the DTO
+ *       (or raises the recorded error) for the controller,</li>
+ *   <li>{@link com.voriq.security_service.logging.GlobalLoggingAspect} logs the user id on errors.</li>
+ * </ul>
+ *
+ * <p>Parse and validation failures are deliberately not rejected here, so invalid requests still pass
+ * through rate limiting first. Only oversized bodies are answered immediately (413).</p>
+ *
+ * <p>The buffer is returned to the {@link BodyBufferPool} when the chain completes.
+ * Registered in the security chain right before {@link TokenRateLimitFilter}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class IssueRequestParsingFilter extends OncePerRequestFilter {
+
+    /**
+     * Request attribute holding the {@link ParsedIssueRequest} of the current issue request.
+     */
+    public static final String ATTR_ISSUE_REQUEST = "X_ISSUE_REQUEST";
+
+    private final IssueRequestParser parser;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public IssueRequestParsingFilter(IssueRequestParser parser,
+                                     @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+        this.parser = parser;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !(HttpMethod.POST.name().equalsIgnoreCase(request.getMethod()) && ISSUE_URL.equals(normalizePath(request)));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain)
+            throws ServletException, IOException {
+
+        RepeatableBodyRequestWrapper wrapped;
+        try {
+            wrapped = parser.readBody(request);
+        } catch (RestException ex) {
+            exceptionResolver.resolveException(request, response, null, ex);
+            return;
+        }
+
+        try {
+            wrapped.setAttribute(ATTR_ISSUE_REQUEST, parser.parse(wrapped));
+            chain.doFilter(wrapped, response);
+        } finally {
+            wrapped.release();
+        }
+    }
+}
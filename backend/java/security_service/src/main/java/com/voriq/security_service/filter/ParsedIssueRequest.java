@@ -0,0 +1,18 @@
+package com.voriq.security_service.filter;
+
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+
+/**
+ * Outcome of parsing the issue request body once in {@link IssueRequestParsingFilter}.
+ *
+ * <p>Exactly one of {@code dto} and {@code error} is set. {@code userId} is filled whenever it could be
+ * read from the body (also for invalid requests) so that rate limiting and logging can key on it.</p>
+ *
+ * @param dto    deserialized and validated request, or {@code null} if parsing/validation failed
+ * @param userId raw {@code userId} as sent by the client, or {@code null} if absent
+ * @param error  failure to report when the request is bound to the controller, or {@code null}
+ * @author RsLan
+ * @since 1.0.0
+ */
+public record ParsedIssueRequest(TokenRequestDto dto, String userId, Exception error) {
+}
@@ -0,0 +1,111 @@
+package com.voriq.security_service.filter;
+
+import com.voriq.security_service.exception_handler.exception.ServerOverloadedException;
+import com.voriq.security_service.rate_limit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import static com.voriq.security_service.config.SecurityConfig.ISSUE_URL;
+import static com.voriq.security_service.config.SecurityConfig.REVOKE_URL;
+import static com.voriq.security_service.config.SecurityConfig.VALIDATE_URL;
+
+/**
+ * Reactive counterpart of {@link ConcurrencyLimitFilter}: the same {@link AdaptiveConcurrencyLimiter}, the same
+ * {@code concurrency.*} settings, priorities and metrics.
+ *
+ * <p>The slot is held until the response completes (or the exchange is cancelled) rather than for the
+ * duration of a thread, which is what limits in-flight work on an event loop. A shed request is signalled as a
+ * {@link ServerOverloadedException} (HTTP 503 with {@code Retry-After}); an error signal or a 5xx status counts
+ * as congestion.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ReactiveConcurrencyLimitFilter implements WebFilter {
+
+    private final boolean enabled;
+    private final double issueShare;
+    private final long retryAfterSeconds;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Counter issueRejected;
+    private final Counter validateRejected;
+    private final Counter revokeRejected;
+
+    public ReactiveConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                          @Value("${concurrency.enabled:true}") boolean enabled,
+                                          @Value("${concurrency.initial-limit:100}") int initialLimit,
+                                          @Value("${concurrency.min-limit:10}") int minLimit,
+                                          @Value("${concurrency.max-limit:1000}") int maxLimit,
+                                          @Value("${concurrency.latency-threshold-ms:500}") long latencyThresholdMs,
+                                          @Value("${concurrency.backoff-ratio:0.9}") double backoffRatio,
+                                          @Value("${concurrency.issue-share:0.8}") double issueShare,
+                                          @Value("${concurrency.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.enabled = enabled;
+        this.issueShare = issueShare;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyThresholdMs, backoffRatio);
+
+        Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .description("Adaptive concurrency limit of the token endpoints")
+                .register(meterRegistry);
+        Gauge.builder("concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("Token requests currently holding a concurrency slot")
+                .register(meterRegistry);
+        this.issueRejected = rejectedCounter(meterRegistry, "issue");
+        this.validateRejected = rejectedCounter(meterRegistry, "validate");
+        this.revokeRejected = rejectedCounter(meterRegistry, "revoke");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!enabled || !isTokenPath(exchange)) {
+            return chain.filter(exchange);
+        }
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        boolean isIssue = ISSUE_URL.equals(path);
+
+        if (!limiter.tryAcquire(isIssue ? issueShare : 1.0)) {
+            (isIssue ? issueRejected : VALIDATE_URL.equals(path) ? validateRejected : revokeRejected).increment();
+            return Mono.error(new ServerOverloadedException(retryAfterSeconds));
+        }
+
+        long startedAt = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    boolean failed = signal != SignalType.ON_COMPLETE || (status != null && status.is5xxServerError());
+                    limiter.release(System.nanoTime() - startedAt, failed);
+                });
+    }
+
+    /**
+     * @return {@code true} for {@code ISSUE_URL}, {@code VALIDATE_URL} and {@code REVOKE_URL} below the
+     * {@code spring.webflux.base-path}
+     */
+    static boolean isTokenPath(ServerWebExchange exchange) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        return ISSUE_URL.equals(path) || VALIDATE_URL.equals(path) || REVOKE_URL.equals(path);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String endpoint) {
+        return Counter.builder("concurrency.rejected")
+                .description("Token requests shed by the adaptive concurrency limit")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+}
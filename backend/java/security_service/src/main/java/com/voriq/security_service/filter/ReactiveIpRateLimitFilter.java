@@ -0,0 +1,68 @@
+package com.voriq.security_service.filter;
+
+import com.voriq.security_service.exception_handler.exception.RateLimitExceededException;
+import com.voriq.security_service.rate_limit.SlidingWindowSketch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Clock;
+
+import static com.voriq.security_service.filter.ReactiveConcurrencyLimitFilter.isTokenPath;
+
+/**
+ * Reactive counterpart of {@link IpRateLimitFilter}: the same per-client-IP {@link SlidingWindowSketch}, the
+ * same {@code rate.ip.*} settings and the same {@code rate.limiter.ip.rejected} counter.
+ *
+ * <p>Runs first among the token {@code WebFilter}s; a rejection is signalled as a
+ * {@link RateLimitExceededException} and rendered as HTTP 429 by
+ * {@link com.voriq.security_service.exception_handler.ReactiveExceptionHandler}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReactiveIpRateLimitFilter implements WebFilter {
+
+    private final boolean enabled;
+    private final SlidingWindowSketch sketch;
+    private final Counter rejected;
+
+    public ReactiveIpRateLimitFilter(MeterRegistry meterRegistry,
+                                     @Value("${rate.ip.enabled:false}") boolean enabled,
+                                     @Value("${rate.ip.window-ms:1000}") long windowMs,
+                                     @Value("${rate.ip.limit:50}") int limit,
+                                     @Value("${rate.ip.sketch-width:8192}") int sketchWidth) {
+        this.enabled = enabled;
+        this.sketch = new SlidingWindowSketch(Clock.systemUTC(), windowMs, limit, sketchWidth);
+        this.rejected = Counter.builder("rate.limiter.ip.rejected")
+                .description("Requests rejected by the per-IP flood limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!enabled || !isTokenPath(exchange)) {
+            return chain.filter(exchange);
+        }
+        InetSocketAddress remote = exchange.getRequest().getRemoteAddress();
+        String ip = remote != null && remote.getAddress() != null ? remote.getAddress().getHostAddress() : null;
+        long retryMs = ip != null ? sketch.tryAcquire(ip) : 0L;
+        if (retryMs > 0) {
+            rejected.increment();
+            return Mono.error(new RateLimitExceededException((retryMs + 999) / 1000));
+        }
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,109 @@
+package com.voriq.security_service.filter;
+
+import com.voriq.security_service.exception_handler.exception.RateLimitExceededException;
+import com.voriq.security_service.rate_limit.RateLimitPolicy;
+import com.voriq.security_service.rate_limit.ReactiveRateLimiter;
+import com.voriq.security_service.service.TokenStoreStrategy.ReactiveRedisTokenStore;
+import com.voriq.security_service.service.TokenStoreStrategy.TokenStoreStrategy;
+import com.voriq.security_service.service.signed_token.SignedToken;
+import com.voriq.security_service.service.signed_token.SignedTokens;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static com.voriq.security_service.filter.TokenRateLimitFilter.ATTR_USER_ID;
+import static com.voriq.security_service.service.TokenStoreStrategy.DelegatingTokenStoreStrategy.DEFAULT_SET_VALUE;
+
+/**
+ * Per-user rate limits of the reactive token endpoints, the counterpart of {@link TokenRateLimitFilter}.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>Same policies ({@code rate.limit-ms.*}, {@code rate.burst.*}) and keys as the servlet filter, charged
+ *       through the {@link ReactiveRateLimiter}.</li>
+ *   <li>Called by the reactive controller rather than run as a {@code WebFilter}: the issue {@code userId} is only
+ *       known once the body has been decoded, and WebFlux decodes it in the handler.</li>
+ *   <li>Validate requests are charged to the token owner, resolved from a signed token or from Redis (with the
+ *       blocking token store as fallback); unknown tokens pass and fail validation.</li>
+ *   <li>The resolved user id is stored in the {@code X_USER_ID} exchange attribute for logging.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTokenRateLimit {
+
+    private final ReactiveRateLimiter rateLimiter;
+    private final ReactiveRedisTokenStore reactiveRedisTokenStore;
+    private final TokenStoreStrategy tokenStoreStrategy;
+    private final SignedTokens signedTokens;
+    private final RateLimitPolicy issuePolicy;
+    private final RateLimitPolicy validatePolicy;
+
+    public ReactiveTokenRateLimit(ReactiveRateLimiter rateLimiter,
+                                  ReactiveRedisTokenStore reactiveRedisTokenStore,
+                                  TokenStoreStrategy tokenStoreStrategy,
+                                  SignedTokens signedTokens,
+                                  @Value("${rate.limit-ms.issue}") long issueRequestLimitIntervalMs,
+                                  @Value("${rate.limit-ms.validate}") long validateRequestLimitIntervalMs,
+                                  @Value("${rate.burst.issue:1}") int issueBurst,
+                                  @Value("${rate.burst.validate:1}") int validateBurst) {
+        this.rateLimiter = rateLimiter;
+        this.reactiveRedisTokenStore = reactiveRedisTokenStore;
+        this.tokenStoreStrategy = tokenStoreStrategy;
+        this.signedTokens = signedTokens;
+        this.issuePolicy = new RateLimitPolicy(issueRequestLimitIntervalMs, issueBurst);
+        this.validatePolicy = new RateLimitPolicy(validateRequestLimitIntervalMs, validateBurst);
+    }
+
+    /**
+     * @throws RateLimitExceededException (signalled) if the user exceeded the issue limit
+     */
+    public Mono<Void> issue(String userId, ServerWebExchange exchange) {
+        if (userId == null || userId.isBlank()) return Mono.empty();
+        return acquire(userId, exchange, issuePolicy);
+    }
+
+    /**
+     * @throws RateLimitExceededException (signalled) if the token owner exceeded the validate limit
+     */
+    public Mono<Void> validate(String token, ServerWebExchange exchange) {
+        if (token == null || token.isBlank()) return Mono.empty();
+
+        SignedToken signed = signedTokens.accepts(token) ? signedTokens.decode(token) : null;
+        if (signed != null) {
+            return acquire(signed.userId().toString(), exchange, validatePolicy);
+        }
+        return rateLimiter.tryAcquireByToken(token, this::owner, validatePolicy)
+                .flatMap(acquisition -> {
+                    if (acquisition.userId() == null) return Mono.empty();
+                    exchange.getAttributes().put(ATTR_USER_ID, acquisition.userId());
+                    return reject(acquisition.retryAfterMs());
+                });
+    }
+
+    private Mono<Void> acquire(String userId, ServerWebExchange exchange, RateLimitPolicy policy) {
+        exchange.getAttributes().put(ATTR_USER_ID, userId);
+        return rateLimiter.tryAcquire(userId, policy).flatMap(ReactiveTokenRateLimit::reject);
+    }
+
+    private Mono<String> owner(String token) {
+        return reactiveRedisTokenStore.owner(token)
+                .onErrorResume(DataAccessException.class, ex -> Mono
+                        .fromCallable(() -> tokenStoreStrategy.getSetValueByKey(token))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .filter(owner -> !DEFAULT_SET_VALUE.equals(owner)));
+    }
+
+    private static Mono<Void> reject(long retryMs) {
+        return retryMs > 0
+                ? Mono.error(new RateLimitExceededException((retryMs + 999) / 1000))
+                : Mono.empty();
+    }
+}
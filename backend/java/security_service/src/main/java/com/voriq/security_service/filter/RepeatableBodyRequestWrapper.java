@@ -1,14 +1,20 @@
 package com.voriq.security_service.filter;
 
+import com.voriq.security_service.exception_handler.exception.PayloadTooLargeException;
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * HttpServletRequest wrapper that caches the request body so it can be read multiple times.
@@ -19,14 +25,17 @@ import java.nio.charset.StandardCharsets;
  *   <li>Aspects/handlers that must access the body after it has already been consumed.</li>
  * </ul>
  * <p>
- * The original input stream is read <em>once</em> by the creator of this wrapper and stored in-memory.
- * Subsequent calls to {@link #getInputStream()} or {@link #getReader()} return new readers over the cached bytes.
+ * The original input stream is read <em>once</em> (see {@link #read(HttpServletRequest, int, BodyBufferPool)}) and
+ * stored in a buffer that may come from a {@link BodyBufferPool}. Subsequent calls to {@link #getInputStream()}
+ * return lightweight streams over the cached bytes with bulk {@code read}, {@code readAllBytes} and
+ * {@code transferTo}; {@link #getReader()} and {@link #getCachedBody()} share one lazily decoded string.
  * </p>
  *
  * <h3>Notes</h3>
  * <ul>
  *   <li>Thread-safe for typical servlet usage (each request handled by a single thread).</li>
- *   <li>Large payloads are fully buffered in memory; consider limits if bodies can be big.</li>
+ *   <li>A pooled buffer must be handed back with {@link #release()} once the request is done;
+ *       afterwards the body is no longer readable (the decoded string stays available if it was built).</li>
  * </ul>
  *
  * @author RsLan
@@ -34,7 +43,12 @@ import java.nio.charset.StandardCharsets;
  */
 public class RepeatableBodyRequestWrapper extends HttpServletRequestWrapper {
 
-    private final byte[] body;
+    private static final int UNKNOWN_LENGTH_INITIAL_BYTES = 1024;
+
+    private byte[] body;
+    private final int length;
+    private final BodyBufferPool pool;
+    private String decoded;
 
     /**
      * Constructs a repeatable-body wrapper.
@@ -43,51 +57,231 @@ public class RepeatableBodyRequestWrapper extends HttpServletRequestWrapper {
      * @param body    the already-read body bytes (may be {@code null}, treated as empty)
      */
     public RepeatableBodyRequestWrapper(HttpServletRequest request, byte[] body) {
+        this(request, body != null ? body : new byte[0], body != null ? body.length : 0, null);
+    }
+
+    private RepeatableBodyRequestWrapper(HttpServletRequest request, byte[] body, int length, BodyBufferPool pool) {
         super(request);
-        this.body = body != null ? body : new byte[0];
+        this.body = body;
+        this.length = length;
+        this.pool = pool;
     }
 
     /**
-     * Returns a fresh {@link ServletInputStream} over the cached body.
+     * Reads the body of {@code request} into a pooled buffer and wraps the request.
+     *
+     * <p>A declared {@code Content-Length} above {@code maxBytes} is rejected before anything is read; bodies
+     * without a length are read until {@code maxBytes + 1} bytes and rejected if that byte exists.</p>
+     *
+     * @param request  request whose body has not been consumed yet
+     * @param maxBytes largest accepted body
+     * @param pool     buffer pool
+     * @return wrapper owning the buffer (call {@link #release()} when done)
+     * @throws PayloadTooLargeException if the body exceeds {@code maxBytes}
+     * @throws IOException              if reading the body fails
      */
-    @Override
-    public ServletInputStream getInputStream() {
-        ByteArrayInputStream bais = new ByteArrayInputStream(body);
-        return new ServletInputStream() {
-            @Override
-            public int read() {
-                return bais.read();
-            }
+    public static RepeatableBodyRequestWrapper read(HttpServletRequest request, int maxBytes, BodyBufferPool pool)
+            throws IOException {
+        long declared = request.getContentLengthLong();
+        if (declared > maxBytes) {
+            throw payloadTooLarge(maxBytes);
+        }
 
-            @Override
-            public boolean isFinished() {
-                return bais.available() == 0;
+        int limit = maxBytes + 1;
+        byte[] buffer = pool.acquire(declared >= 0 ? (int) declared + 1 : Math.min(UNKNOWN_LENGTH_INITIAL_BYTES, limit));
+        int total = 0;
+        try {
+            InputStream in = request.getInputStream();
+            while (true) {
+                if (total == buffer.length) {
+                    if (total >= limit) break;
+                    byte[] grown = pool.acquire(Math.min(total * 2, limit));
+                    System.arraycopy(buffer, 0, grown, 0, total);
+                    pool.release(buffer);
+                    buffer = grown;
+                }
+                int n = in.read(buffer, total, Math.min(buffer.length, limit) - total);
+                if (n < 0) break;
+                total += n;
+                if (total >= limit) break;
             }
+        } catch (IOException | RuntimeException ex) {
+            pool.release(buffer);
+            throw ex;
+        }
 
-            @Override
-            public boolean isReady() {
-                return true;
-            }
+        if (total > maxBytes) {
+            pool.release(buffer);
+            throw payloadTooLarge(maxBytes);
+        }
+        return new RepeatableBodyRequestWrapper(request, buffer, total, pool);
+    }
 
-            @Override
-            public void setReadListener(ReadListener readListener) { /* no-op */ }
-        };
+    /**
+     * Returns a fresh {@link ServletInputStream} over the cached body.
+     */
+    @Override
+    public ServletInputStream getInputStream() {
+        return new CachedBodyInputStream(requireBody(), length);
     }
 
     /**
-     * Returns a fresh {@link BufferedReader} over the cached body (UTF-8).
+     * Returns a fresh {@link BufferedReader} over the decoded body (see {@link #getCachedBody()}).
      */
     @Override
     public BufferedReader getReader() {
-        return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        return new BufferedReader(new StringReader(getCachedBody()));
     }
 
     /**
-     * Convenience accessor to get the cached body as a string (UTF-8).
+     * Convenience accessor to get the cached body as a string, decoded once with the request
+     * character encoding (UTF-8 if none) and memoized.
      *
      * @return cached body text (never {@code null})
      */
     public String getCachedBody() {
-        return new String(body, StandardCharsets.UTF_8);
+        String text = decoded;
+        if (text == null) {
+            text = new String(requireBody(), 0, length, charset());
+            decoded = text;
+        }
+        return text;
+    }
+
+    /**
+     * @return the backing array; only the first {@link #getBodyLength()} bytes are body content
+     */
+    public byte[] getBodyBuffer() {
+        return requireBody();
+    }
+
+    /**
+     * @return body length in bytes
+     */
+    public int getBodyLength() {
+        return length;
+    }
+
+    /**
+     * @return a copy of the body bytes
+     */
+    public byte[] getBodyBytes() {
+        return Arrays.copyOf(requireBody(), length);
+    }
+
+    /**
+     * Returns a pooled buffer to its {@link BodyBufferPool}. Idempotent; a no-op for non-pooled wrappers.
+     */
+    public void release() {
+        byte[] buffer = body;
+        body = null;
+        if (pool != null && buffer != null) {
+            pool.release(buffer);
+        }
+    }
+
+    @Override
+    public int getContentLength() {
+        return length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return length;
+    }
+
+    private byte[] requireBody() {
+        return Objects.requireNonNull(body, "Request body buffer has already been released");
+    }
+
+    private Charset charset() {
+        String encoding = getCharacterEncoding();
+        if (encoding == null) return StandardCharsets.UTF_8;
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalArgumentException ex) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private static PayloadTooLargeException payloadTooLarge(int maxBytes) {
+        return new PayloadTooLargeException("Request body exceeds " + maxBytes + " bytes.");
+    }
+
+    /**
+     * Non-synchronized stream over {@code buf[0, count)} with bulk operations.
+     */
+    private static final class CachedBodyInputStream extends ServletInputStream {
+
+        private final byte[] buf;
+        private final int count;
+        private int pos;
+
+        private CachedBodyInputStream(byte[] buf, int count) {
+            this.buf = buf;
+            this.count = count;
+        }
+
+        @Override
+        public int read() {
+            return pos < count ? buf[pos++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) return 0;
+            int n = Math.min(len, count - pos);
+            if (n <= 0) return -1;
+            System.arraycopy(buf, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+        @Override
+        public byte[] readAllBytes() {
+            byte[] out = Arrays.copyOfRange(buf, pos, count);
+            pos = count;
+            return out;
+        }
+
+        @Override
+        public int readNBytes(byte[] b, int off, int len) {
+            int n = read(b, off, len);
+            return Math.max(n, 0);
+        }
+
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            int n = count - pos;
+            out.write(buf, pos, n);
+            pos = count;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, count - pos));
+            pos += (int) skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return count - pos;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return pos >= count;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) { /* no-op */ }
     }
 }
@@ -1,54 +1,57 @@
 package com.voriq.security_service.filter;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.voriq.security_service.exception_handler.exception.RateLimitExceededException;
+import com.voriq.security_service.rate_limit.RateLimitPolicy;
+import com.voriq.security_service.rate_limit.RateLimiter;
+import com.voriq.security_service.rate_limit.TokenAcquisition;
 import com.voriq.security_service.service.TokenStoreStrategy.TokenStoreStrategy;
+import com.voriq.security_service.service.signed_token.SignedToken;
+import com.voriq.security_service.service.signed_token.SignedTokens;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiFunction;
 
 import static com.voriq.security_service.config.SecurityConfig.ISSUE_URL;
 import static com.voriq.security_service.config.SecurityConfig.VALIDATE_URL;
+import static com.voriq.security_service.filter.IssueRequestParsingFilter.ATTR_ISSUE_REQUEST;
 import static com.voriq.security_service.utilitie.TokenUtilities.extractTokenFromRequest;
-import static com.voriq.security_service.utilitie.TokenUtilities.isUuid;
 
 /**
  * Per-user rate limiting filter for the token issue endpoint.
  *
- * <p>Identifies a user by {@code userId} in the request body (JSON), attaches it as a request attribute
- * {@link #ATTR_USER_ID}, and enforces a minimal interval between consecutive requests from the same user.
- * If the interval has not elapsed, throws {@link RateLimitExceededException} that is handled by the
+ * <p>Identifies a user by {@code userId} in the request body (parsed once by {@link IssueRequestParsingFilter})
+ * or by the owner of the bearer token, attaches it as a request attribute
+ * {@link #ATTR_USER_ID}, and admits requests from the same user through the configured {@link RateLimiter}
+ * (GCRA: sustained rate {@code rate.limit-ms.*} with a burst of {@code rate.burst.*}).
+ * If the request is rejected, a {@link RateLimitExceededException} is handled by the
  * configured {@link HandlerExceptionResolver} and rendered as HTTP 429.</p>
  *
  * <h3>Scope</h3>
  * <ul>
  *   <li>Applies only to {@code POST} requests at {@code ISSUE_URL} (with or without a global {@code /api} prefix).</li>
- *   <li>Uses an atomic {@link ConcurrentHashMap#compute(Object, BiFunction)} to prevent races.</li>
- *   <li>Wraps the request with {@link RepeatableBodyRequestWrapper} so downstream can re-read the body.</li>
+ *   <li>The admission decision is a value returned by {@link RateLimiter#tryAcquire(String, RateLimitPolicy)};
+ *       the exception is created only after the limiter state has been updated.</li>
  * </ul>
  *
  * <h3>Retry-After</h3>
- * <p>When rate-limited, the exception includes the recommended retry delay (seconds),
- * computed from {@code rate.limit}.</p>
+ * <p>When rate-limited, the exception carries the recommended retry delay (seconds) computed by the
+ * limiter; it is rendered both in the message and as the {@code Retry-After} header.</p>
  *
  * @author RsLan
  * @since 1.0.0
  */
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TokenRateLimitFilter extends OncePerRequestFilter {
 
     /**
@@ -69,6 +72,22 @@ public class TokenRateLimitFilter extends OncePerRequestFilter {
     @Value("${rate.limit-ms.validate}")
     private long validateRequestLimitIntervalMs;
 
+    /**
+     * Number of back-to-back <b>issue</b> requests admitted before the sustained rate applies.
+     *
+     * <p>Loaded from property {@code rate.burst.issue} (default {@code 1}).</p>
+     */
+    @Value("${rate.burst.issue:1}")
+    private int issueBurst;
+
+    /**
+     * Number of back-to-back <b>validate</b> requests admitted before the sustained rate applies.
+     *
+     * <p>Loaded from property {@code rate.burst.validate} (default {@code 1}).</p>
+     */
+    @Value("${rate.burst.validate:1}")
+    private int validateBurst;
+
     /**
      * Request attribute name used to propagate the resolved {@code userId}
      * to downstream components (e.g., AOP logging).
@@ -78,20 +97,31 @@ public class TokenRateLimitFilter extends OncePerRequestFilter {
      */
     public static final String ATTR_USER_ID = "X_USER_ID";
 
-    /**
-     * Last-seen timestamps (epoch millis) for rate-limiting.
-     *
-     * <p>Thread-safe map used with {@link ConcurrentHashMap#compute(Object, BiFunction)}.</p>
-     */
-    private final Map<String, Long> requestTimestamps = new ConcurrentHashMap<>();
+    private RateLimitPolicy issuePolicy;
+    private RateLimitPolicy validatePolicy;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
     private final HandlerExceptionResolver exceptionResolver;
     private final TokenStoreStrategy tokenStoreStrategy;
+    private final RateLimiter rateLimiter;
+    private final SignedTokens signedTokens;
 
-    public TokenRateLimitFilter(@Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver, TokenStoreStrategy tokenStoreStrategy) {
+    public TokenRateLimitFilter(@Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                                TokenStoreStrategy tokenStoreStrategy,
+                                RateLimiter rateLimiter,
+                                SignedTokens signedTokens) {
         this.exceptionResolver = exceptionResolver;
         this.tokenStoreStrategy = tokenStoreStrategy;
+        this.rateLimiter = rateLimiter;
+        this.signedTokens = signedTokens;
+    }
+
+    /**
+     * Builds the per-endpoint policies once the {@code rate.*} properties have been injected.
+     */
+    @Override
+    protected void initFilterBean() {
+        issuePolicy = new RateLimitPolicy(issueRequestLimitIntervalMs, issueBurst);
+        validatePolicy = new RateLimitPolicy(validateRequestLimitIntervalMs, validateBurst);
     }
 
     /**
@@ -108,39 +138,40 @@ public class TokenRateLimitFilter extends OncePerRequestFilter {
      *   </li>
      *   <li>For <b>POST {ISSUE_URL}</b>:
      *     <ul>
-     *       <li>Reads the body once and wraps the request with
-     *           {@link com.voriq.security_service.filter.RepeatableBodyRequestWrapper} so downstream can read it again,</li>
-     *       <li>Extracts {@code userId} from the JSON body,</li>
+     *       <li>Takes {@code userId} from the {@link ParsedIssueRequest} stored by {@link IssueRequestParsingFilter}
+     *           (the body is not read again),</li>
      *       <li>Uses the configured interval {@code rate.limit-ms.issue} (milliseconds).</li>
      *     </ul>
      *   </li>
      *   <li>For <b>GET {VALIDATE_URL}</b>:
      *     <ul>
      *       <li>Extracts the Bearer token from the {@code Authorization} header (no body read),</li>
-     *       <li>Resolves {@code userId} via
-     *           {@link com.voriq.security_service.service.TokenStoreStrategy.TokenStoreStrategy#getSetValueByKey(String)},</li>
+     *       <li>Resolves {@code userId} and checks the limit via
+     *           {@link RateLimiter#tryAcquireByToken(String, java.util.function.UnaryOperator, RateLimitPolicy)}
+     *           (owner lookup through
+     *           {@link com.voriq.security_service.service.TokenStoreStrategy.TokenStoreStrategy#getSetValueByKey(String)});
+     *           the owner of a signed token
+     *           is read from the token itself once its signature is checked,</li>
      *       <li>Uses the configured interval {@code rate.limit-ms.validate} (milliseconds).</li>
      *     </ul>
      *   </li>
-     *   <li>If a {@code userId} is resolved, stores it under {@link #ATTR_USER_ID} and enforces a per-user
-     *       sliding window using an internal timestamp map with
-     *       {@link java.util.concurrent.ConcurrentHashMap#compute(Object, java.util.function.BiFunction)}.
-     *       On violation, throws {@code RateLimitExceededException}, which is caught and delegated to
+     *   <li>If a {@code userId} is resolved, stores it under {@link #ATTR_USER_ID} and asks the
+     *       {@link RateLimiter} to admit the request under the endpoint policy.
+     *       On rejection, delegates a {@code RateLimitExceededException} to
      *       {@link org.springframework.web.servlet.HandlerExceptionResolver}.</li>
      * </ul>
      *
      * <p><b>Notes:</b></p>
      * <ul>
      *   <li>If {@code userId} cannot be resolved, the request is not rate-limited.</li>
-     *   <li>The request body is consumed and re-exposed <i>only</i> for <b>POST {ISSUE_URL}</b>.</li>
-     *   <li>Intervals are read from configuration: {@code rate.limit-ms.issue} and {@code rate.limit-ms.validate}.</li>
+     *   <li>Policies are read from configuration: {@code rate.limit-ms.*} and {@code rate.burst.*}.</li>
      * </ul>
      *
-     * @param request  current HTTP request; for <b>POST {ISSUE_URL}</b> the body is consumed and re-wrapped
+     * @param request  current HTTP request
      * @param response current HTTP response
      * @param chain    next filter in the chain
      * @throws ServletException if thrown by the downstream filter chain
-     * @throws IOException      if reading the request body fails (for POST)
+     * @throws IOException      if thrown by the downstream filter chain
      */
 
     @Override
@@ -149,8 +180,6 @@ public class TokenRateLimitFilter extends OncePerRequestFilter {
                                     FilterChain chain)
             throws ServletException, IOException {
 
-        HttpServletRequest toNext = request;
-
         try {
             final String method = request.getMethod();
             final String path = normalizePath(request);
@@ -163,43 +192,45 @@ public class TokenRateLimitFilter extends OncePerRequestFilter {
                 return;
             }
 
-            final long limitIntervalMs = isValidate ? validateRequestLimitIntervalMs : issueRequestLimitIntervalMs;
+            final RateLimitPolicy policy = isValidate ? validatePolicy : issuePolicy;
 
             String userId = null;
+            long retryMs = 0L;
 
             if (isIssue) {
-                byte[] bodyBytes = request.getInputStream().readAllBytes();
-                toNext = new RepeatableBodyRequestWrapper(request, bodyBytes);
-                String body = new String(bodyBytes, StandardCharsets.UTF_8);
-                userId = extractUserIdFromJson(body);
+                if (request.getAttribute(ATTR_ISSUE_REQUEST) instanceof ParsedIssueRequest parsed) {
+                    userId = parsed.userId();
+                }
+                if (userId != null && !userId.isBlank()) {
+                    retryMs = rateLimiter.tryAcquire(userId, policy);
+                }
             } else {
                 String token = extractTokenFromRequest(request);
-                if (token != null && !token.isBlank()) {
-                    String mapped = tokenStoreStrategy.getSetValueByKey(token);
-                    if (isUuid(mapped)) {
-                        userId = mapped;
-                    }
+                SignedToken signed = signedTokens.accepts(token) ? signedTokens.decode(token) : null;
+                if (signed != null) {
+                    userId = signed.userId().toString();
+                    retryMs = rateLimiter.tryAcquire(userId, policy);
+                } else if (token != null && !token.isBlank()) {
+                    TokenAcquisition acquisition =
+                            rateLimiter.tryAcquireByToken(token, tokenStoreStrategy::getSetValueByKey, policy);
+                    userId = acquisition.userId();
+                    retryMs = acquisition.retryAfterMs();
                 }
             }
 
             if (userId != null && !userId.isBlank()) {
-                toNext.setAttribute(ATTR_USER_ID, userId);
-
-                requestTimestamps.compute(userId, (k, last) -> {
-                    long now = System.currentTimeMillis();
-                    if (last != null && now - last < limitIntervalMs) {
-                        long retryMs = limitIntervalMs - (now - last);
-                        long retrySec = (retryMs + 999) / 1000;
-                        throw new RateLimitExceededException(retrySec);
-                    }
-                    return now;
-                });
+                request.setAttribute(ATTR_USER_ID, userId);
+
+                if (retryMs > 0) {
+                    long retrySec = (retryMs + 999) / 1000;
+                    throw new RateLimitExceededException(retrySec);
+                }
             }
 
-            chain.doFilter(toNext, response);
+            chain.doFilter(request, response);
 
         } catch (RateLimitExceededException ex) {
-            exceptionResolver.resolveException(toNext, response, null, ex);
+            exceptionResolver.resolveException(request, response, null, ex);
         }
     }
 
@@ -212,7 +243,7 @@ public class TokenRateLimitFilter extends OncePerRequestFilter {
      * @param req current request
      * @return URI relative to {@code contextPath}, starting with {@code /}
      */
-    private static String normalizePath(HttpServletRequest req) {
+    static String normalizePath(HttpServletRequest req) {
         String uri = req.getRequestURI();
         String ctx = req.getContextPath();
         return (ctx != null && !ctx.isEmpty() && uri.startsWith(ctx))
@@ -220,20 +251,4 @@ public class TokenRateLimitFilter extends OncePerRequestFilter {
                 : uri;
     }
 
-    /**
-     * Extracts {@code userId} from a JSON request body.
-     *
-     * @param json raw request body
-     * @return userId string or {@code null} if absent/invalid
-     */
-    private String extractUserIdFromJson(String json) {
-        try {
-            if (json == null || json.isBlank()) return null;
-            JsonNode node = objectMapper.readTree(json);
-            JsonNode userIdNode = node.get("userId");
-            return (userIdNode != null) ? userIdNode.asText() : null;
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
\ No newline at end of file
@@ -1,9 +1,8 @@
 package com.voriq.security_service.logging;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.voriq.security_service.domain.dto.TokenRequestDto;
-import com.voriq.security_service.filter.RepeatableBodyRequestWrapper;
+import com.voriq.security_service.filter.IssueRequestParsingFilter;
+import com.voriq.security_service.filter.ParsedIssueRequest;
 import com.voriq.security_service.filter.TokenRateLimitFilter;
 import com.voriq.security_service.service.TokenStoreStrategy.TokenStoreStrategy;
 import com.voriq.security_service.utilitie.TokenUtilities;
@@ -50,7 +49,7 @@ import static com.voriq.security_service.utilitie.TokenUtilities.getMaskedUuid;
  *   <li>Request attribute {@link TokenRateLimitFilter#ATTR_USER_ID} (set by rate-limit filter).</li>
  *   <li>Request parameter {@code userId}.</li>
  *   <li>Header {@code X-User-Id}.</li>
- *   <li>Cached body via {@link RepeatableBodyRequestWrapper} → JSON field {@code userId}.</li>
+ *   <li>Parsed issue body ({@link ParsedIssueRequest} from {@link IssueRequestParsingFilter}) → {@code userId}.</li>
  *   <li>Falls back to {@code DEFAULT_SET_VALUE} if nothing is available.</li>
  * </ol>
  *
@@ -69,7 +68,6 @@ import static com.voriq.security_service.utilitie.TokenUtilities.getMaskedUuid;
 @RequiredArgsConstructor
 public class GlobalLoggingAspect {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
     private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
     private static final Logger STORE_LOG = LoggerFactory.getLogger("com.voriq.redis.health");
 
@@ -258,9 +256,9 @@ public class GlobalLoggingAspect {
     }
 
     /**
-     * Resolves {@code userId} from multiple request locations (attribute, param, header, cached body).
+     * Resolves {@code userId} from multiple request locations (attribute, param, header, parsed issue body).
      *
-     * @param request current request (may be a {@link RepeatableBodyRequestWrapper})
+     * @param request current request
      * @return a non-empty string user id if found; otherwise {@code DEFAULT_SET_VALUE}
      */
     private String resolveUserId(HttpServletRequest request) {
@@ -274,18 +272,9 @@ public class GlobalLoggingAspect {
         userId = request.getHeader("X-User-Id");
         if (userId != null && !userId.isBlank()) return userId;
 
-        if (request instanceof RepeatableBodyRequestWrapper r) {
-            String body = r.getCachedBody();
-            if (body != null && !body.isBlank()) {
-                try {
-                    JsonNode node = objectMapper.readTree(body);
-                    JsonNode userIdNode = node.get("userId");
-                    if (userIdNode != null && !userIdNode.asText().isBlank()) {
-                        return userIdNode.asText();
-                    }
-                } catch (Exception ignored) {
-                }
-            }
+        if (request.getAttribute(IssueRequestParsingFilter.ATTR_ISSUE_REQUEST) instanceof ParsedIssueRequest parsed) {
+            String parsedUserId = parsed.userId();
+            if (parsedUserId != null && !parsedUserId.isBlank()) return parsedUserId;
         }
         return DEFAULT_SET_VALUE;
     }
@@ -0,0 +1,104 @@
+package com.voriq.security_service.logging;
+
+import com.voriq.security_service.filter.TokenRateLimitFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static com.voriq.security_service.service.TokenStoreStrategy.DelegatingTokenStoreStrategy.DEFAULT_SET_VALUE;
+import static com.voriq.security_service.utilitie.TokenUtilities.extractTokenFromRequest;
+import static com.voriq.security_service.utilitie.TokenUtilities.getMaskedUuid;
+
+/**
+ * Request logging of the reactive token endpoints, in the format of {@link GlobalLoggingAspect}.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>Successful issue/validate/revoke calls of {@code ReactiveTokenController} are logged at INFO when their
+ *       {@code Mono} completes, not when the handler method returns.</li>
+ *   <li>Errors are logged once per request at ERROR around
+ *       {@link com.voriq.security_service.exception_handler.ReactiveExceptionHandler}, with the rendered status.</li>
+ *   <li>The user id is read from the exchange attribute {@link TokenRateLimitFilter#ATTR_USER_ID} (set by
+ *       {@link com.voriq.security_service.filter.ReactiveTokenRateLimit}), then the {@code userId} query parameter
+ *       and the {@code X-User-Id} header; no token store lookup is made for logging.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Slf4j(topic = "com.voriq.security_service.aop")
+@Aspect
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveLoggingAspect {
+
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+
+    @Around("execution(* com.voriq.security_service.controller.ReactiveTokenController.issue(..)) && args(*, exchange)")
+    public Object aroundIssue(ProceedingJoinPoint pjp, ServerWebExchange exchange) throws Throwable {
+        return ((Mono<?>) pjp.proceed()).doOnSuccess(result -> log.info(
+                "[INFO] {} - User with ID {} requested token. Code= 200. Result: Success.",
+                LocalDateTime.now().format(FMT), resolveUserId(exchange)));
+    }
+
+    @Around("execution(* com.voriq.security_service.controller.ReactiveTokenController.validate(..)) && args(exchange)")
+    public Object aroundValidate(ProceedingJoinPoint pjp, ServerWebExchange exchange) throws Throwable {
+        return ((Mono<?>) pjp.proceed()).doOnSuccess(result -> log.info(
+                "[INFO] {} - User with ID {} validated token {} succeeded. Code= {}",
+                LocalDateTime.now().format(FMT), resolveUserId(exchange), maskedToken(exchange), code(result)));
+    }
+
+    @Around("execution(* com.voriq.security_service.controller.ReactiveTokenController.revoke(..)) && args(exchange)")
+    public Object aroundRevoke(ProceedingJoinPoint pjp, ServerWebExchange exchange) throws Throwable {
+        return ((Mono<?>) pjp.proceed()).doOnSuccess(result -> log.info(
+                "[INFO] {} - Token {} revoked succeeded. Code= {}",
+                LocalDateTime.now().format(FMT), maskedToken(exchange), code(result)));
+    }
+
+    @Around("execution(* com.voriq.security_service.exception_handler.ReactiveExceptionHandler.handle(..)) "
+            + "&& args(exchange, ex)")
+    public Object aroundExceptionHandler(ProceedingJoinPoint pjp, ServerWebExchange exchange, Throwable ex)
+            throws Throwable {
+        return ((Mono<?>) pjp.proceed()).doOnSuccess(result -> {
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            log.error("[ERROR] {} - User with ID {}. Code= {} : {}",
+                    LocalDateTime.now().format(FMT),
+                    resolveUserId(exchange),
+                    status != null ? status.value() : 500,
+                    ex != null ? ex.getMessage() : "Unknown error");
+        });
+    }
+
+    private static String resolveUserId(ServerWebExchange exchange) {
+        if (exchange.getAttribute(TokenRateLimitFilter.ATTR_USER_ID) instanceof String s && !s.isBlank()) return s;
+
+        ServerHttpRequest request = exchange.getRequest();
+        String userId = request.getQueryParams().getFirst("userId");
+        if (userId != null && !userId.isBlank()) return userId;
+
+        userId = request.getHeaders().getFirst("X-User-Id");
+        if (userId != null && !userId.isBlank()) return userId;
+
+        return DEFAULT_SET_VALUE;
+    }
+
+    private static String maskedToken(ServerWebExchange exchange) {
+        String token = extractTokenFromRequest(exchange.getRequest());
+        return token != null ? getMaskedUuid(token) : "<absent>";
+    }
+
+    private static int code(Object result) {
+        return result instanceof ResponseEntity<?> entity ? entity.getStatusCode().value() : 204;
+    }
+}
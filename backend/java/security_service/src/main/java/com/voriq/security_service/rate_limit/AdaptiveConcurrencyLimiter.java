@@ -0,0 +1,111 @@
+package com.voriq.security_service.rate_limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit that adapts to measured latency with AIMD (additive increase, multiplicative decrease).
+ *
+ * <h3>Algorithm</h3>
+ * <ul>
+ *   <li>A request is admitted only while fewer than {@code limit * share} requests are in flight; callers pass a
+ *       smaller share for low-priority work, so it is shed first while high-priority work keeps the full limit.</li>
+ *   <li>Every completed request is a sample. A sample slower than {@code latencyThresholdMs}, or a failed one,
+ *       multiplies the limit by {@code backoffRatio}. A fast sample taken while at least half of the limit was in
+ *       use adds one; an under-used limit is not grown.</li>
+ *   <li>The limit stays within {@code [minLimit, maxLimit]}.</li>
+ * </ul>
+ *
+ * <p>Lock-free: the in-flight count is an {@link AtomicInteger} and the limit a {@code double} stored in an
+ * {@link AtomicLong}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+
+    private final double minLimit;
+    private final double maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    /**
+     * @param initialLimit       starting limit
+     * @param minLimit           lower bound of the limit
+     * @param maxLimit           upper bound of the limit
+     * @param latencyThresholdMs latency above which a sample counts as congestion
+     * @param backoffRatio       multiplier applied on congestion, in {@code (0, 1)}
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long latencyThresholdMs, double backoffRatio) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyThresholdNanos = latencyThresholdMs * 1_000_000L;
+        this.backoffRatio = backoffRatio;
+        double initial = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(initial));
+    }
+
+    /**
+     * Tries to take a slot.
+     *
+     * @param share fraction of the limit available to the caller, in {@code (0, 1]}
+     * @return {@code true} if admitted; the caller must then call {@link #release(long, boolean)} exactly once
+     */
+    public boolean tryAcquire(double share) {
+        int cap = Math.max(1, (int) (limit() * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= cap) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees a slot and feeds the sample into the limit.
+     *
+     * @param latencyNanos time the request held its slot
+     * @param failed       whether the request failed because of the backend (e.g. a 5xx response)
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        boolean congested = failed || latencyNanos > latencyThresholdNanos;
+
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double next;
+            if (congested) {
+                next = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlightBefore * 2 >= limit) {
+                next = Math.min(maxLimit, limit + 1);
+            } else {
+                return;
+            }
+            if (next == limit || limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return current concurrency limit
+     */
+    public double limit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    /**
+     * @return requests currently holding a slot
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
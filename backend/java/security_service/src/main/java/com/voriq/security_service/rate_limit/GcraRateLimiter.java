@@ -0,0 +1,193 @@
+package com.voriq.security_service.rate_limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process {@link RateLimiter} implementing the Generic Cell Rate Algorithm (GCRA).
+ *
+ * <h3>State</h3>
+ * <p>Each key owns a single {@code long}: its <em>theoretical arrival time</em> (TAT, epoch millis).
+ * A request arriving at {@code now} is admitted iff {@code max(TAT, now) - now <= tau}; on admission the
+ * TAT advances by the emission interval via compare-and-set. Rejections leave the state untouched.</p>
+ *
+ * <h3>Bounded memory</h3>
+ * <ul>
+ *   <li>States live in two generations ({@code current}, {@code previous}). Every
+ *       {@code rate.state.generation-ms} the previous generation is dropped wholesale and the current one
+ *       becomes previous; a key found in the previous generation is promoted on access.</li>
+ *   <li>A key therefore disappears after one to two idle generations. The effective generation length is
+ *       never shorter than the longest {@code interval * burst} seen, so a dropped state is always one that
+ *       a fresh state would replace without changing any decision.</li>
+ *   <li>At most {@code rate.state.max-keys} keys are tracked. A new key that would exceed it rotates the
+ *       generations early: the previous generation, i.e. the keys not used since the last rotation, is
+ *       dropped, an approximate least-recently-used eviction. Every key stays rate limited; under a flood of
+ *       made-up user ids a real user's state may be dropped before its horizon, which at worst grants it one
+ *       fresh burst.</li>
+ * </ul>
+ *
+ * <h3>Properties</h3>
+ * <ul>
+ *   <li>Allocation-free on the hot path once a key is known (one {@link AtomicLong} per key).</li>
+ *   <li>Lock-free; never throws inside map operations.</li>
+ *   <li>Engine for {@code rate.engine=gcra} (default); with {@code rate.engine=redis} it is the local
+ *       fallback of {@link RedisGcraRateLimiter}.</li>
+ * </ul>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code rate.limiter.keys} — live keys in both generations.</li>
+ *   <li>{@code rate.limiter.evictions} — keys dropped with an expired or early-rotated generation.</li>
+ *   <li>{@code rate.limiter.overflow} — early rotations because {@code max-keys} was reached.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+public class GcraRateLimiter implements RateLimiter {
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private volatile ConcurrentHashMap<String, AtomicLong> current = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<String, AtomicLong> previous = new ConcurrentHashMap<>();
+
+    private final AtomicLong generationStartedAt;
+    private final AtomicLong longestHorizonMs = new AtomicLong();
+
+    private final Clock clock;
+    private final long generationMs;
+    private final long maxKeys;
+
+    private final Counter evictions;
+    private final Counter overflows;
+
+    @Autowired
+    public GcraRateLimiter(@Value("${rate.state.generation-ms:60000}") long generationMs,
+                           @Value("${rate.state.max-keys:100000}") long maxKeys,
+                           MeterRegistry meterRegistry) {
+        this(Clock.systemUTC(), generationMs, maxKeys, meterRegistry);
+    }
+
+    GcraRateLimiter(Clock clock,
+                    long generationMs,
+                    long maxKeys,
+                    MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.generationMs = generationMs;
+        this.maxKeys = maxKeys;
+        this.generationStartedAt = new AtomicLong(clock.millis());
+
+        Gauge.builder("rate.limiter.keys", this, GcraRateLimiter::size)
+                .description("Rate-limiter keys tracked in both generations")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("rate.limiter.evictions")
+                .description("Rate-limiter keys dropped with an expired or early-rotated generation")
+                .register(meterRegistry);
+        this.overflows = Counter.builder("rate.limiter.overflow")
+                .description("Early generation rotations because rate.state.max-keys was reached")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        final long interval = policy.emissionIntervalMs();
+        final long tolerance = policy.toleranceMs();
+
+        long now = clock.millis();
+        rotateIfDue(now, interval + tolerance);
+
+        AtomicLong state = current.get(key);
+        if (state == null) {
+            state = promoteOrCreate(key, now);
+        }
+
+        while (true) {
+            long tat = state.get();
+            long base = Math.max(tat, now);
+
+            if (base - now > tolerance) {
+                return base - tolerance - now;
+            }
+            if (state.compareAndSet(tat, base + interval)) {
+                return 0L;
+            }
+            now = clock.millis();
+        }
+    }
+
+    /**
+     * @return number of keys currently tracked (both generations)
+     */
+    public int size() {
+        return current.size() + previous.size();
+    }
+
+    /**
+     * Looks the key up in the previous generation and moves it into the current one, or creates a fresh
+     * state, first rotating the generations early if {@code max-keys} has been reached.
+     *
+     * @return the state of the key
+     */
+    private AtomicLong promoteOrCreate(String key, long now) {
+        ConcurrentHashMap<String, AtomicLong> prev = previous;
+        AtomicLong promoted = prev.remove(key);
+        if (promoted != null) {
+            AtomicLong raced = current.putIfAbsent(key, promoted);
+            return raced != null ? raced : promoted;
+        }
+
+        if (current.mappingCount() + prev.mappingCount() >= maxKeys
+                && prev == previous && rotate(generationStartedAt.get(), now)) {
+            overflows.increment();
+        }
+
+        AtomicLong fresh = new AtomicLong(UNSET);
+        AtomicLong raced = current.putIfAbsent(key, fresh);
+        return raced != null ? raced : fresh;
+    }
+
+    /**
+     * Drops the previous generation when the current one is older than the effective generation length.
+     * Only one thread wins the rotation; others keep using whichever tables they read.
+     *
+     * @param now        current time (epoch millis)
+     * @param horizonMs  {@code interval + tau} of the calling policy, i.e. how far ahead a TAT may be
+     */
+    private void rotateIfDue(long now, long horizonMs) {
+        long longest = longestHorizonMs.get();
+        if (horizonMs > longest) {
+            longestHorizonMs.compareAndSet(longest, horizonMs);
+            longest = Math.max(longest, horizonMs);
+        }
+
+        long startedAt = generationStartedAt.get();
+        long effectiveMs = Math.max(generationMs, longest);
+        if (now - startedAt < effectiveMs) return;
+        rotate(startedAt, now);
+    }
+
+    /**
+     * Drops the previous generation and starts a new current one, unless another thread rotated since
+     * {@code startedAt} was read.
+     *
+     * @return {@code true} if this call rotated
+     */
+    private boolean rotate(long startedAt, long now) {
+        if (!generationStartedAt.compareAndSet(startedAt, now)) return false;
+
+        ConcurrentHashMap<String, AtomicLong> dropped = previous;
+        previous = current;
+        current = new ConcurrentHashMap<>();
+        evictions.increment(dropped.size());
+        return true;
+    }
+}
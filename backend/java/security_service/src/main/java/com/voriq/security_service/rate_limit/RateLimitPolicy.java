@@ -0,0 +1,34 @@
+package com.voriq.security_service.rate_limit;
+
+/**
+ * Immutable GCRA (token-bucket equivalent) policy for a single endpoint.
+ *
+ * <p>The sustained rate is one request per {@code emissionIntervalMs}; up to {@code burst} requests
+ * may be accepted back-to-back before the sustained rate applies. With {@code burst = 1} the policy is
+ * identical to the historical "one request per interval" rule.</p>
+ *
+ * @param emissionIntervalMs sustained interval between requests, in milliseconds ({@code > 0})
+ * @param burst              maximum number of requests accepted at once ({@code >= 1})
+ * @author RsLan
+ * @since 1.0.0
+ */
+public record RateLimitPolicy(long emissionIntervalMs, int burst) {
+
+    public RateLimitPolicy {
+        if (emissionIntervalMs <= 0) {
+            throw new IllegalArgumentException("emissionIntervalMs must be positive: " + emissionIntervalMs);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be >= 1: " + burst);
+        }
+    }
+
+    /**
+     * Delay variation tolerance (GCRA {@code tau}): how far the theoretical arrival time may run ahead of now.
+     *
+     * @return {@code emissionIntervalMs * (burst - 1)}
+     */
+    public long toleranceMs() {
+        return emissionIntervalMs * (burst - 1);
+    }
+}
@@ -0,0 +1,44 @@
+package com.voriq.security_service.rate_limit;
+
+import java.util.function.UnaryOperator;
+
+import static com.voriq.security_service.utilitie.TokenUtilities.isUuid;
+
+/**
+ * Rate-limiting engine used by the request filters.
+ *
+ * <p>Implementations must be thread-safe and must not throw for a rejected request: the decision is
+ * returned as a value so that callers can build the error response outside of any shared-state update.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+public interface RateLimiter {
+
+    /**
+     * Tries to admit one request for {@code key} under the given policy.
+     *
+     * @param key    logical client key (e.g. {@code userId}); must not be {@code null}
+     * @param policy endpoint policy
+     * @return {@code 0} if the request is admitted; otherwise the number of milliseconds to wait before retrying
+     */
+    long tryAcquire(String key, RateLimitPolicy policy);
+
+    /**
+     * Resolves the owner of {@code token} and admits one request for that owner.
+     *
+     * <p>Calls {@code ownerResolver} and then {@link #tryAcquire(String, RateLimitPolicy)}, so engines only touch
+     * the state of the resolved owner.</p>
+     *
+     * @param token         bearer token (non-blank); non-UUID tokens are unresolved without calling the resolver
+     * @param ownerResolver maps a token to its owner id; non-UUID results mean "no owner"
+     * @param policy        endpoint policy
+     * @return resolved owner (or {@code null}) and the admission decision
+     */
+    default TokenAcquisition tryAcquireByToken(String token, UnaryOperator<String> ownerResolver, RateLimitPolicy policy) {
+        if (!isUuid(token)) return TokenAcquisition.UNRESOLVED;
+        String owner = ownerResolver.apply(token);
+        if (!isUuid(owner)) return TokenAcquisition.UNRESOLVED;
+        return new TokenAcquisition(owner, tryAcquire(owner, policy));
+    }
+}
@@ -0,0 +1,106 @@
+package com.voriq.security_service.rate_limit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.voriq.security_service.utilitie.TokenUtilities.isUuid;
+
+/**
+ * Non-blocking counterpart of {@link RateLimiter} for the reactive stack.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>{@code rate.engine=gcra} (default): answers synchronously from the local {@link GcraRateLimiter}, which
+ *       never blocks.</li>
+ *   <li>{@code rate.engine=redis}: runs the same {@code gcra.lua} script as {@link RedisGcraRateLimiter} through
+ *       {@link ReactiveStringRedisTemplate}, so limits are shared with servlet replicas. On a Redis error it falls
+ *       back to the local limiter for {@code rate.redis.retry-interval-ms}.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveRateLimiter {
+
+    private static final RedisScript<Long> GCRA =
+            RedisScript.of(new ClassPathResource("scripts/gcra.lua"), Long.class);
+
+    private final ReactiveStringRedisTemplate redis;
+    private final GcraRateLimiter local;
+    private final boolean shared;
+    private final String keyPrefix;
+    private final long retryIntervalMs;
+
+    private volatile long redisRetryAt;
+
+    public ReactiveRateLimiter(ReactiveStringRedisTemplate redis,
+                               GcraRateLimiter local,
+                               @Value("${rate.engine:gcra}") String engine,
+                               @Value("${rate.redis.key-prefix:rl:}") String keyPrefix,
+                               @Value("${rate.redis.retry-interval-ms:5000}") long retryIntervalMs) {
+        this.redis = redis;
+        this.local = local;
+        this.shared = "redis".equals(engine);
+        this.keyPrefix = keyPrefix;
+        this.retryIntervalMs = retryIntervalMs;
+    }
+
+    /**
+     * @return {@code 0} if allowed, otherwise milliseconds until the next request is allowed
+     * @see RateLimiter#tryAcquire(String, RateLimitPolicy)
+     */
+    public Mono<Long> tryAcquire(String key, RateLimitPolicy policy) {
+        if (!shared || !isRedisAvailable()) {
+            return Mono.fromSupplier(() -> local.tryAcquire(key, policy));
+        }
+        return redis.execute(GCRA, List.of(keyPrefix + key),
+                        List.of(Long.toString(policy.emissionIntervalMs()), Long.toString(policy.toleranceMs())))
+                .next()
+                .defaultIfEmpty(0L)
+                .onErrorResume(RuntimeException.class, ex -> {
+                    markRedisUnavailable(ex);
+                    return Mono.fromSupplier(() -> local.tryAcquire(key, policy));
+                });
+    }
+
+    /**
+     * Resolves the owner of {@code token} and charges the request to them.
+     *
+     * @param ownerResolver owner lookup; completes empty for an unknown token
+     * @see RateLimiter#tryAcquireByToken(String, java.util.function.UnaryOperator, RateLimitPolicy)
+     */
+    public Mono<TokenAcquisition> tryAcquireByToken(String token,
+                                                    Function<String, Mono<String>> ownerResolver,
+                                                    RateLimitPolicy policy) {
+        if (!isUuid(token)) {
+            return Mono.just(TokenAcquisition.UNRESOLVED);
+        }
+        return ownerResolver.apply(token)
+                .filter(owner -> isUuid(owner))
+                .flatMap(owner -> tryAcquire(owner, policy).map(retryMs -> new TokenAcquisition(owner, retryMs)))
+                .defaultIfEmpty(TokenAcquisition.UNRESOLVED);
+    }
+
+    private boolean isRedisAvailable() {
+        return System.currentTimeMillis() >= redisRetryAt;
+    }
+
+    private void markRedisUnavailable(RuntimeException ex) {
+        if (isRedisAvailable()) {
+            log.warn("Redis rate limiter unavailable, using local limits for {} ms: {}", retryIntervalMs, ex.getMessage());
+        }
+        redisRetryAt = System.currentTimeMillis() + retryIntervalMs;
+    }
+}
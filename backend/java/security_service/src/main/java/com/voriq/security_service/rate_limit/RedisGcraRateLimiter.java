@@ -0,0 +1,86 @@
+package com.voriq.security_service.rate_limit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Cluster-wide {@link RateLimiter}: GCRA state is kept in Redis so that all replicas share one limit.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>Each check is a single atomic Lua script ({@code scripts/gcra.lua}); the TAT is stored under
+ *       {@code rate.redis.key-prefix + key} with a TTL equal to its distance from now, and time is taken
+ *       from the Redis server so replica clock skew does not matter.</li>
+ *   <li>The owner of a token is resolved by the caller before the check, so the script only touches the key it
+ *       declares; it runs unchanged on Redis Cluster and under key-pattern ACLs.</li>
+ *   <li>On any Redis failure the check is answered by the local {@link GcraRateLimiter} and Redis is not
+ *       retried for {@code rate.redis.retry-interval-ms}; limits are then per replica until Redis recovers.</li>
+ *   <li>Selected by {@code rate.engine=redis}.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "rate.engine", havingValue = "redis")
+@Slf4j
+public class RedisGcraRateLimiter implements RateLimiter {
+
+    private static final RedisScript<Long> GCRA =
+            RedisScript.of(new ClassPathResource("scripts/gcra.lua"), Long.class);
+
+    private final StringRedisTemplate redis;
+    private final GcraRateLimiter local;
+    private final String keyPrefix;
+    private final long retryIntervalMs;
+
+    /**
+     * Epoch millis before which Redis is not consulted after a failure.
+     */
+    private volatile long redisRetryAt;
+
+    public RedisGcraRateLimiter(StringRedisTemplate redis,
+                                GcraRateLimiter local,
+                                @Value("${rate.redis.key-prefix:rl:}") String keyPrefix,
+                                @Value("${rate.redis.retry-interval-ms:5000}") long retryIntervalMs) {
+        this.redis = redis;
+        this.local = local;
+        this.keyPrefix = keyPrefix;
+        this.retryIntervalMs = retryIntervalMs;
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        if (!isRedisAvailable()) {
+            return local.tryAcquire(key, policy);
+        }
+        try {
+            Long retryMs = redis.execute(GCRA, List.of(keyPrefix + key),
+                    Long.toString(policy.emissionIntervalMs()), Long.toString(policy.toleranceMs()));
+            return retryMs != null ? retryMs : 0L;
+        } catch (RuntimeException ex) {
+            markRedisUnavailable(ex);
+            return local.tryAcquire(key, policy);
+        }
+    }
+
+    private boolean isRedisAvailable() {
+        return System.currentTimeMillis() >= redisRetryAt;
+    }
+
+    private void markRedisUnavailable(RuntimeException ex) {
+        if (isRedisAvailable()) {
+            log.warn("Redis rate limiter unavailable, using local limits for {} ms: {}", retryIntervalMs, ex.getMessage());
+        }
+        redisRetryAt = System.currentTimeMillis() + retryIntervalMs;
+    }
+}
@@ -0,0 +1,142 @@
+package com.voriq.security_service.rate_limit;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Approximate per-key request counter over a sliding window, backed by count-min sketches.
+ *
+ * <h3>Structure</h3>
+ * <ul>
+ *   <li>Each window ({@code windowMs}, aligned to the epoch) owns a {@value #DEPTH} x {@code width} table of
+ *       {@link AtomicIntegerArray} counters. A key increments one counter per row, chosen by a row-seeded hash;
+ *       its count is the minimum over the rows, so it can only be over-estimated (by colliding keys), never
+ *       under-estimated.</li>
+ *   <li>Only the current and the previous window are kept. The sliding count is
+ *       {@code current + previous * (remaining share of the current window)}.</li>
+ *   <li>Memory is fixed ({@code 2 * DEPTH * width} ints) regardless of how many distinct keys are seen, so random
+ *       or spoofed keys cannot grow it.</li>
+ * </ul>
+ *
+ * <h3>Properties</h3>
+ * <ul>
+ *   <li>Lock-free; no allocation per call except one table per window.</li>
+ *   <li>Hash seeds are random per instance, so colliding keys cannot be precomputed.</li>
+ *   <li>Every call is counted, including rejected ones: a source that keeps flooding stays over the limit.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+public class SlidingWindowSketch {
+
+    static final int DEPTH = 4;
+
+    private final Clock clock;
+    private final long windowMs;
+    private final int limit;
+    private final int width;
+    private final int mask;
+    private final int[] seeds = new int[DEPTH];
+
+    private final AtomicReference<Windows> windows;
+
+    /**
+     * @param clock    time source
+     * @param windowMs window length (milliseconds)
+     * @param limit    requests admitted per key per window
+     * @param width    counters per row; rounded up to a power of two
+     */
+    public SlidingWindowSketch(Clock clock, long windowMs, int limit, int width) {
+        this.clock = clock;
+        this.windowMs = windowMs;
+        this.limit = limit;
+        this.width = Math.max(16, Integer.highestOneBit(Math.max(1, width - 1)) << 1);
+        this.mask = this.width - 1;
+
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < DEPTH; i++) {
+            seeds[i] = random.nextInt() | 1;
+        }
+
+        long start = windowStart(clock.millis());
+        this.windows = new AtomicReference<>(new Windows(newWindow(start), newWindow(start - windowMs)));
+    }
+
+    /**
+     * Counts one request for {@code key} and checks it against the limit.
+     *
+     * @param key caller identity (e.g. client IP)
+     * @return {@code 0} if admitted, otherwise milliseconds until the current window ends
+     */
+    public long tryAcquire(String key) {
+        long now = clock.millis();
+        Windows w = rotateIfDue(now);
+
+        int current = Integer.MAX_VALUE;
+        int previous = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = row * width + (hash(key, seeds[row]) & mask);
+            current = Math.min(current, w.current.counters.incrementAndGet(index));
+            previous = Math.min(previous, w.previous.counters.get(index));
+        }
+
+        long elapsed = now - w.current.startedAt;
+        double previousWeight = elapsed >= windowMs ? 0.0 : (double) (windowMs - elapsed) / windowMs;
+        double estimate = current + previous * previousWeight;
+        if (estimate <= limit) {
+            return 0L;
+        }
+        return Math.max(1L, w.current.startedAt + windowMs - now);
+    }
+
+    /**
+     * @return the configured per-window limit
+     */
+    public int limit() {
+        return limit;
+    }
+
+    private Windows rotateIfDue(long now) {
+        while (true) {
+            Windows w = windows.get();
+            long start = windowStart(now);
+            if (start <= w.current.startedAt) {
+                return w;
+            }
+            Window previous = w.current.startedAt == start - windowMs ? w.current : newWindow(start - windowMs);
+            Windows next = new Windows(newWindow(start), previous);
+            if (windows.compareAndSet(w, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long windowStart(long now) {
+        return now - Math.floorMod(now, windowMs);
+    }
+
+    private Window newWindow(long startedAt) {
+        return new Window(startedAt, new AtomicIntegerArray(DEPTH * width));
+    }
+
+    private static int hash(String key, int seed) {
+        int h = seed;
+        for (int i = 0, n = key.length(); i < n; i++) {
+            h = (h ^ key.charAt(i)) * 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+
+    private record Window(long startedAt, AtomicIntegerArray counters) {
+    }
+
+    private record Windows(Window current, Window previous) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.voriq.security_service.rate_limit;
+
+/**
+ * Result of {@link RateLimiter#tryAcquireByToken(String, java.util.function.UnaryOperator, RateLimitPolicy)}.
+ *
+ * @param userId        resolved token owner, or {@code null} if the token has no owner (request not limited)
+ * @param retryAfterMs  {@code 0} if admitted; otherwise milliseconds to wait before retrying
+ * @author RsLan
+ * @since 1.0.0
+ */
+public record TokenAcquisition(String userId, long retryAfterMs) {
+
+    static final TokenAcquisition UNRESOLVED = new TokenAcquisition(null, 0L);
+}
@@ -0,0 +1,67 @@
+package com.voriq.security_service.repository;
+
+import com.voriq.security_service.config.datasource.ReadReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Lean {@link UserKeyLookup} with plain JDBC.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>One parameterized statement, {@value #SQL}, bound with {@code setObject(UUID)} so PostgreSQL compares
+ *       native {@code uuid} values (no text casts) and can use the unique index on {@code user_id}.</li>
+ *   <li>Runs on its own {@link JdbcTemplate} outside any JPA transaction or persistence context: no entity
+ *       manager, no flush, no dirty checking; the connection stays in auto-commit for a single read.</li>
+ *   <li>{@code max-rows = 1} and {@code user-key.jdbc.query-timeout-seconds} bound the statement.</li>
+ *   <li>Server-side preparation is driver-controlled; with PgJDBC set
+ *       {@code spring.datasource.hikari.data-source-properties.prepareThreshold=1} so the statement is prepared
+ *       on the server from its first execution on each pooled connection.</li>
+ *   <li>With {@code datasource.routing.enabled=true} the statement is served by a read replica (see
+ *       {@link ReadReplicaRoutingDataSource#readOnlyView()}).</li>
+ *   <li>Selected by {@code user-key.lookup=jdbc}.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "user-key.lookup", havingValue = "jdbc")
+public class JdbcUserKeyLookup implements UserKeyLookup {
+
+    static final String SQL = "SELECT \"key\" FROM users WHERE user_id = ?";
+
+    private static final ResultSetExtractor<UUID> FIRST_KEY =
+            rs -> rs.next() ? rs.getObject(1, UUID.class) : null;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcUserKeyLookup(DataSource dataSource,
+                             @Value("${user-key.jdbc.query-timeout-seconds:2}") int queryTimeoutSeconds) {
+        this.jdbcTemplate = new JdbcTemplate(readOnly(dataSource));
+        this.jdbcTemplate.setMaxRows(1);
+        this.jdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+    }
+
+    @Override
+    public UUID findKeyByUserId(UUID userId) {
+        return jdbcTemplate.query(SQL, ps -> ps.setObject(1, userId), FIRST_KEY);
+    }
+
+    private static DataSource readOnly(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ReadReplicaRoutingDataSource.class)
+                    ? dataSource.unwrap(ReadReplicaRoutingDataSource.class).readOnlyView()
+                    : dataSource;
+        } catch (SQLException ex) {
+            return dataSource;
+        }
+    }
+}
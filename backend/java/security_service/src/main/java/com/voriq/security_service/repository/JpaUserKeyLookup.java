@@ -0,0 +1,29 @@
+package com.voriq.security_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * {@link UserKeyLookup} through the Spring Data {@link UserRepository} (JPQL over the Hibernate session).
+ *
+ * <p>Default; selected by {@code user-key.lookup=jpa}. The query runs in a read-only transaction, so with
+ * {@code datasource.routing.enabled=true} it is served by a read replica.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user-key.lookup", havingValue = "jpa", matchIfMissing = true)
+public class JpaUserKeyLookup implements UserKeyLookup {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public UUID findKeyByUserId(UUID userId) {
+        return userRepository.findKeyOnlyByUserId(userId);
+    }
+}
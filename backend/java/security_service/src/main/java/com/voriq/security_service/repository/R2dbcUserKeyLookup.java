@@ -0,0 +1,81 @@
+package com.voriq.security_service.repository;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * {@link ReactiveUserKeyLookup} on R2DBC.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>The same single-row statement as {@link JdbcUserKeyLookup}, {@value #SQL}, bound as a native {@code uuid}.</li>
+ *   <li>Runs on a pooled connection of its own {@code user-key.r2dbc.*} pool, outside any transaction; the
+ *       connection goes back to the pool when the statement completes, fails or is cancelled.</li>
+ *   <li>User and password are taken from {@code user-key.r2dbc.url} when present, otherwise from
+ *       {@code spring.datasource}.</li>
+ *   <li>The pool is not exposed as a {@code ConnectionFactory} bean, which would switch off the JDBC
+ *       {@code DataSource} auto-configuration that JPA and Flyway still need.</li>
+ *   <li>Only active in the reactive stack.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class R2dbcUserKeyLookup implements ReactiveUserKeyLookup, DisposableBean {
+
+    static final String SQL = "SELECT \"key\" FROM users WHERE user_id = $1";
+
+    private final ConnectionPool connectionPool;
+
+    public R2dbcUserKeyLookup(@Value("${user-key.r2dbc.url}") String url,
+                              @Value("${spring.datasource.username:}") String username,
+                              @Value("${spring.datasource.password:}") String password,
+                              @Value("${user-key.r2dbc.pool.initial-size:10}") int initialSize,
+                              @Value("${user-key.r2dbc.pool.max-size:20}") int maxSize) {
+        ConnectionFactoryOptions parsed = ConnectionFactoryOptions.parse(url);
+        ConnectionFactoryOptions.Builder options = parsed.mutate();
+        if (!parsed.hasOption(ConnectionFactoryOptions.USER) && StringUtils.hasText(username)) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!parsed.hasOption(ConnectionFactoryOptions.PASSWORD) && StringUtils.hasText(password)) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.connectionPool = new ConnectionPool(
+                ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                        .initialSize(initialSize)
+                        .maxSize(maxSize)
+                        .build());
+    }
+
+    @Override
+    public Mono<UUID> findKeyByUserId(UUID userId) {
+        return Mono.usingWhen(connectionPool.create(),
+                connection -> query(connection, userId),
+                Connection::close);
+    }
+
+    private static Mono<UUID> query(Connection connection, UUID userId) {
+        return Flux.from(connection.createStatement(SQL).bind("$1", userId).fetchSize(1).execute())
+                .flatMap(result -> result.map((row, metadata) -> row.get(0, UUID.class)))
+                .next();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,22 @@
+package com.voriq.security_service.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link UserKeyLookup} for the reactive stack
+ * ({@code spring.main.web-application-type=reactive}); implemented by {@link R2dbcUserKeyLookup}.
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+public interface ReactiveUserKeyLookup {
+
+    /**
+     * @param userId user id
+     * @return stored key; completes empty if the user does not exist and with an error if the database cannot be
+     * queried
+     */
+    Mono<UUID> findKeyByUserId(UUID userId);
+}
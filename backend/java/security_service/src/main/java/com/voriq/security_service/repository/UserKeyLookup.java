@@ -0,0 +1,22 @@
+package com.voriq.security_service.repository;
+
+import java.util.UUID;
+
+/**
+ * Hot-path lookup of the stored key of a user, used for token issuance.
+ *
+ * <p>Implementations are selected by {@code user-key.lookup}: {@code jpa} (default, {@link JpaUserKeyLookup})
+ * or {@code jdbc} ({@link JdbcUserKeyLookup}).</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+public interface UserKeyLookup {
+
+    /**
+     * @param userId user id
+     * @return stored key, or {@code null} if the user does not exist
+     * @throws RuntimeException if the database cannot be queried
+     */
+    UUID findKeyByUserId(UUID userId);
+}
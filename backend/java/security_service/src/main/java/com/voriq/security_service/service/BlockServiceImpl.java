@@ -1,31 +1,73 @@
 package com.voriq.security_service.service;
 
 import com.voriq.security_service.service.interfaces.BlockService;
+import com.voriq.security_service.service.revocation_feed.RevocationFeed;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.voriq.security_service.utilitie.UuidUtilities.parseOrNull;
 
 /**
- * Redis-backed implementation of {@link BlockService}.
+ * Two-tier implementation of {@link BlockService}: a local in-memory tier in front of Redis.
  *
- * <p>Uses a dedicated Redis key to mark a user as temporarily blocked.
- * The key is created with a TTL equal to the access token lifetime.</p>
+ * <p>Redis stays the shared source of truth between replicas; every replica keeps a local
+ * {@link ConcurrentHashMap} of {@code userId -> blockedUntil} (epoch millis) that answers the hot path.</p>
  *
  * <h3>Key format</h3>
  * <ul>
  *   <li><code>{prefix.blocked}{userId}</code>, e.g. <code>blocked:1111-...</code></li>
  *   <li>Value is a simple marker string (e.g., <code>"blocked"</code>)</li>
  *   <li>TTL = <code>token.access-token-expiration-ms</code></li>
+ *   <li>Unblock tombstone: <code>unblocked:{prefix.blocked}{userId}</code> holding the removal time (epoch millis),
+ *       same TTL</li>
+ * </ul>
+ *
+ * <h3>Synchronization</h3>
+ * <ul>
+ *   <li><b>Bulk load</b>: on {@link ApplicationReadyEvent} all {@code prefix.blocked*} keys are scanned and
+ *       their remaining TTLs ({@code PTTL}, pipelined) are copied into the local tier.</li>
+ *   <li><b>Pub/sub</b>: every block/unblock is published to {@code block.channel}; all replicas
+ *       (including the publisher) apply the event to their local tier via {@link #onMessage(Message, byte[])}.
+ *       The subscription is (re)established on startup and on every reconciliation run.</li>
+ *   <li><b>Reconciliation</b>: every {@code block.sync-interval-ms} blocks found in Redis are copied into the
+ *       local tier (covers missed block events). Local blocks that Redis does not hold, whether written
+ *       while Redis was down or lost in a failover, are written back to Redis unless an unblock tombstone
+ *       newer than the block exists; such blocks are dropped locally instead (covers missed unblock events).</li>
  * </ul>
  *
  * <h3>Concurrency & semantics</h3>
  * <ul>
+ *   <li>Writes go to both tiers; the local write always succeeds, the Redis write is best-effort.</li>
  *   <li>Blocking is idempotent: repeated calls reset/extend the TTL.</li>
- *   <li>{@link #isBlocked(UUID)} checks key existence; unblocking happens automatically via TTL expiry.</li>
+ *   <li>{@link #isBlocked(UUID)} never touches Redis; expired local entries are purged lazily.</li>
+ *   <li>Blocks survive a Redis failover because the local tier keeps them until they expire.</li>
  * </ul>
  *
  * @author RsLan
@@ -33,7 +75,8 @@ import java.util.UUID;
  */
 @Service
 @RequiredArgsConstructor
-public class BlockServiceImpl implements BlockService {
+@Slf4j
+public class BlockServiceImpl implements BlockService, MessageListener {
 
     @Value("${token.access-token-expiration-ms}")
     private long accessExpirationMs;
@@ -41,78 +84,314 @@ public class BlockServiceImpl implements BlockService {
     @Value("${prefix.blocked}")
     private String blockedPrefix;
 
+    /**
+     * Pub/sub channel used to propagate block/unblock events between replicas.
+     */
+    @Value("${block.channel:voriq:block-events}")
+    private String blockChannel;
+
     private final StringRedisTemplate redis;
+    private final RevocationFeed revocationFeed;
+
+    /**
+     * Local tier: {@code userId -> blockedUntil} (epoch millis).
+     */
+    private final ConcurrentHashMap<UUID, Long> blockedUntil = new ConcurrentHashMap<>();
 
     /**
-     * Blocks the given user by writing a marker key to Redis with a TTL equal to the access-token expiration.
+     * Blocks that could not be written to Redis yet; replayed by {@link #reconcile()}.
+     */
+    private final Set<UUID> pendingRedisWrites = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Pub/sub subscription; (re)created by {@link #ensureSubscribed()} so an unavailable Redis
+     * never prevents application startup.
+     */
+    private volatile RedisMessageListenerContainer subscription;
+
+    /**
+     * Guards {@link #ensureSubscribed()}; not {@code synchronized}, which would pin a virtual thread while the
+     * container connects.
+     */
+    private final ReentrantLock subscribeLock = new ReentrantLock();
+
+    private static final String EVENT_BLOCK = "B";
+    private static final String EVENT_UNBLOCK = "U";
+    private static final String EVENT_SEPARATOR = "|";
+    private static final String TOMBSTONE_PREFIX = "unblocked:";
+
+    /**
+     * Blocks the given user in both tiers for {@code accessExpirationMs} milliseconds.
      *
      * <p>Semantics:</p>
      * <ul>
-     *   <li>Key: {@code getKey(userId)}; Value: {@code "blocked"}.</li>
-     *   <li>TTL: {@code accessExpirationMs} milliseconds.</li>
-     *   <li>Returns {@code true} if the Redis write succeeds; {@code false} if any Redis error occurs.</li>
+     *   <li>The local tier is updated first and unconditionally.</li>
+     *   <li>Key {@code getKey(userId)} with value {@code "blocked"} and TTL {@code accessExpirationMs} is then
+     *       written to Redis and a block event is published to {@code block.channel}.</li>
+     *   <li>If Redis is unavailable, the user is remembered in {@code pendingRedisWrites} and replayed later.</li>
+     *   <li>The block is published to the {@link RevocationFeed}.</li>
      *   <li>Idempotent with respect to value; repeated calls refresh (reset) the TTL.</li>
      * </ul>
      *
-     * <p>Notes:</p>
-     * <ul>
-     *   <li>Exceptions from the Redis client are caught and not propagated.</li>
-     *   <li>Callers may apply a fallback (e.g., in-memory block) when {@code false} is returned.</li>
-     * </ul>
-     *
      * @param userId identifier of the user to block (must not be {@code null})
-     * @return {@code true} on successful write; {@code false} on failure
+     * @return {@code true} once the block is stored in at least the local tier
      */
-
     @Override
     public boolean block(UUID userId) {
+        long until = System.currentTimeMillis() + accessExpirationMs;
+        blockedUntil.merge(userId, until, Math::max);
+
         try {
             redis.opsForValue().set(getKey(userId), "blocked", Duration.ofMillis(accessExpirationMs));
-            return true;
+            redis.convertAndSend(blockChannel, EVENT_BLOCK + EVENT_SEPARATOR + userId + EVENT_SEPARATOR + until);
+            pendingRedisWrites.remove(userId);
         } catch (Exception ex) {
-            return false;
+            pendingRedisWrites.add(userId);
         }
+        revocationFeed.userBlocked(userId);
+        return true;
     }
 
     /**
-     * Checks whether a block entry exists for the given user.
+     * Checks whether the given user is currently blocked, answering from the local tier only.
      *
-     * <p><strong>Semantics:</strong></p>
-     * <ul>
-     *   <li>Read-only existence check in Redis (equivalent to {@code EXISTS key}).</li>
-     *   <li>Non-destructive: does not create/modify the key or its TTL.</li>
-     *   <li>Null-safe: uses {@code Boolean.TRUE.equals(...)} to guard against {@code null} responses.</li>
-     * </ul>
+     * <p>Expired entries are removed on read.</p>
      *
      * @param userId user to check (must not be {@code null})
-     * @return {@code true} if the block key exists; {@code false} otherwise
-     * @throws org.springframework.dao.DataAccessException if Redis access fails
+     * @return {@code true} if a non-expired block exists; {@code false} otherwise
      */
     @Override
     public boolean isBlocked(UUID userId) {
-        return Boolean.TRUE.equals(redis.hasKey(getKey(userId)));
+        Long until = blockedUntil.get(userId);
+        if (until == null) return false;
+        if (until <= System.currentTimeMillis()) {
+            blockedUntil.remove(userId, until);
+            return false;
+        }
+        return true;
     }
 
     /**
-     * Removes (unblocks) the block entry for the given user.
+     * Removes (unblocks) the block entry for the given user in both tiers.
      *
      * <p><strong>Semantics:</strong></p>
      * <ul>
-     *   <li>Deletes the user's block key in Redis (equivalent to {@code DEL key}).</li>
-     *   <li>Idempotent: returns {@code false} if the key was already absent; {@code true} iff a key was deleted.</li>
-     *   <li>Null-safe: wraps the Redis boolean result with {@code Boolean.TRUE.equals(...)}.</li>
+     *   <li>Removes the local entry and any pending Redis replay for the user.</li>
+     *   <li>Deletes the user's block key in Redis (equivalent to {@code DEL key}), leaves an unblock tombstone so
+     *       replicas that miss the event do not write the block back, and publishes an unblock event.</li>
+     *   <li>Idempotent: returns {@code false} if neither tier held a block; {@code true} otherwise.</li>
      * </ul>
      *
      * @param userid user to unblock (must not be {@code null})
-     * @return {@code true} if the key existed and was removed; {@code false} otherwise
-     * @throws org.springframework.dao.DataAccessException if Redis access fails
+     * @return {@code true} if a block existed in any tier and was removed; {@code false} otherwise
+     * @throws org.springframework.dao.DataAccessException if Redis access fails and no local block existed
      */
     @Override
     public boolean removeBlock(UUID userid) {
-        return Boolean.TRUE.equals(redis.delete(getKey(userid)));
+        boolean local = blockedUntil.remove(userid) != null;
+        pendingRedisWrites.remove(userid);
+        try {
+            boolean remote = Boolean.TRUE.equals(redis.delete(getKey(userid)));
+            redis.opsForValue().set(getTombstoneKey(userid), String.valueOf(System.currentTimeMillis()),
+                    Duration.ofMillis(accessExpirationMs));
+            redis.convertAndSend(blockChannel, EVENT_UNBLOCK + EVENT_SEPARATOR + userid);
+            return local || remote;
+        } catch (RuntimeException ex) {
+            if (local) return true;
+            throw ex;
+        }
+    }
+
+    /**
+     * Applies a block/unblock event received from {@code block.channel} to the local tier.
+     *
+     * <p>Message format: {@code B|<userId>|<blockedUntilMillis>} or {@code U|<userId>}. Malformed messages
+     * are ignored.</p>
+     *
+     * @param message raw pub/sub message
+     * @param pattern subscription pattern (unused)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + EVENT_SEPARATOR);
+        UUID userId = parts.length < 2 ? null : parseOrNull(parts[1]);
+        if (userId == null) return;
+
+        if (EVENT_BLOCK.equals(parts[0]) && parts.length == 3) {
+            try {
+                blockedUntil.merge(userId, Long.parseLong(parts[2]), Math::max);
+            } catch (NumberFormatException ignored) {
+            }
+        } else if (EVENT_UNBLOCK.equals(parts[0])) {
+            blockedUntil.remove(userId);
+        }
+    }
+
+    /**
+     * Bulk-loads all active blocks from Redis once the application is ready.
+     * Failures are logged and retried by the periodic {@link #reconcile()}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromRedis() {
+        ensureSubscribed();
+        try {
+            Map<UUID, Long> remote = readRemoteBlocks();
+            remote.forEach((userId, until) -> blockedUntil.merge(userId, until, Math::max));
+            log.info("Loaded {} active user blocks from Redis.", remote.size());
+        } catch (Exception ex) {
+            log.warn("Could not load user blocks from Redis: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Periodically reconciles the local tier with Redis.
+     *
+     * <ol>
+     *   <li>Copies all blocks present in Redis into the local tier.</li>
+     *   <li>Drops local entries that expired.</li>
+     *   <li>Unexpired local entries missing in Redis (written while Redis was unavailable or lost in a failover)
+     *       are written back, unless an unblock tombstone at least as new as the block exists: the block was
+     *       removed on another replica and this one missed the unblock event, so it is dropped locally.</li>
+     * </ol>
+     * Any Redis failure aborts the run; the remaining entries are retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${block.sync-interval-ms:30000}",
+            initialDelayString = "${block.sync-interval-ms:30000}")
+    public void reconcile() {
+        ensureSubscribed();
+        try {
+            long now = System.currentTimeMillis();
+            Map<UUID, Long> before = new HashMap<>(blockedUntil);
+            Map<UUID, Long> remote = readRemoteBlocks();
+            remote.forEach((userId, until) -> blockedUntil.merge(userId, until, Math::max));
+
+            // only entries observed before the scan are looked at; blocks added meanwhile are kept
+            Set<UUID> missing = new HashSet<>(pendingRedisWrites);
+            before.forEach((userId, until) -> {
+                if (until <= now) {
+                    blockedUntil.remove(userId, until);
+                } else if (!remote.containsKey(userId)) {
+                    missing.add(userId);
+                }
+            });
+            if (missing.isEmpty()) return;
+
+            Map<UUID, Long> removedAt = readTombstones(missing);
+            for (UUID userId : missing) {
+                Long until = blockedUntil.get(userId);
+                pendingRedisWrites.remove(userId);
+                if (until == null || until <= now) continue;
+
+                Long removed = removedAt.get(userId);
+                if (removed != null && removed >= until - accessExpirationMs) {
+                    blockedUntil.remove(userId, until);
+                } else {
+                    redis.opsForValue().set(getKey(userId), "blocked", Duration.ofMillis(until - now));
+                }
+            }
+        } catch (Exception ex) {
+            log.warn("User block reconciliation with Redis skipped: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Reads the unblock tombstones of the given users with a single {@code MGET}.
+     *
+     * @return map of users with a tombstone to their removal time (epoch millis)
+     */
+    private Map<UUID, Long> readTombstones(Set<UUID> userIds) {
+        List<UUID> ids = new ArrayList<>(userIds);
+        List<String> values = redis.opsForValue().multiGet(ids.stream().map(this::getTombstoneKey).toList());
+        Map<UUID, Long> result = new HashMap<>();
+        for (int i = 0; values != null && i < ids.size(); i++) {
+            String value = values.get(i);
+            if (value == null) continue;
+            try {
+                result.put(ids.get(i), Long.parseLong(value));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Scans Redis for block keys and resolves their remaining TTLs with a single pipelined round trip.
+     *
+     * @return map of blocked users to their absolute unblock time (epoch millis)
+     */
+    private Map<UUID, Long> readRemoteBlocks() {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(blockedPrefix + "*").count(500).build();
+        try (Cursor<String> cursor = redis.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (keys.isEmpty()) return Map.of();
+
+        List<Object> ttls = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String key : keys) {
+                conn.pTtl(key);
+            }
+            return null;
+        });
+
+        long now = System.currentTimeMillis();
+        Map<UUID, Long> result = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String id = keys.get(i).substring(blockedPrefix.length());
+            Object ttl = ttls.get(i);
+            UUID userId = parseOrNull(id);
+            if (userId != null && ttl instanceof Long ms && ms > 0) {
+                result.put(userId, now + ms);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Subscribes {@code this} to {@code block.channel} unless a running subscription already exists.
+     * A failed attempt is discarded and retried on the next {@link #reconcile()}.
+     */
+    private void ensureSubscribed() {
+        subscribeLock.lock();
+        try {
+            RedisMessageListenerContainer current = subscription;
+            if (current != null && current.isRunning()) return;
+
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            try {
+                container.setConnectionFactory(redis.getRequiredConnectionFactory());
+                container.addMessageListener(this, new ChannelTopic(blockChannel));
+                container.afterPropertiesSet();
+                container.start();
+                subscription = container;
+            } catch (Exception ex) {
+                destroyQuietly(container);
+                log.warn("Subscription to block events channel '{}' failed: {}", blockChannel, ex.getMessage());
+            }
+        } finally {
+            subscribeLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        destroyQuietly(subscription);
+    }
+
+    private static void destroyQuietly(RedisMessageListenerContainer container) {
+        if (container == null) return;
+        try {
+            container.destroy();
+        } catch (Exception ignored) {
+        }
     }
 
     private String getKey(UUID userId) {
         return blockedPrefix + userId;
     }
+
+    private String getTombstoneKey(UUID userId) {
+        return TOMBSTONE_PREFIX + getKey(userId);
+    }
 }
@@ -0,0 +1,96 @@
+package com.voriq.security_service.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dedicated pool on which the issue flow runs token store prechecks while the caller looks up the user key.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>Enabled with {@code token.issue.async.enabled=true}; otherwise {@link #submit(Callable)} always returns
+ *       {@code null} and issuance stays sequential.</li>
+ *   <li>{@code token.issue.async.threads} threads with a queue of {@code token.issue.async.queue-capacity} tasks.
+ *       When the queue is full the task is not run here and the caller does the work itself, so a saturated pool
+ *       never fails or delays an issue request more than the sequential path would.</li>
+ * </ul>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code token.issue.precheck} — prechecks tagged {@code path=async|rejected}.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+public class IssuePrecheckExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Counter async;
+    private final Counter rejected;
+
+    public IssuePrecheckExecutor(MeterRegistry meterRegistry,
+                                 @Value("${token.issue.async.enabled:false}") boolean enabled,
+                                 @Value("${token.issue.async.threads:16}") int threads,
+                                 @Value("${token.issue.async.queue-capacity:256}") int queueCapacity) {
+        if (enabled) {
+            AtomicInteger count = new AtomicInteger();
+            int size = Math.max(1, threads);
+            this.executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                Thread thread = new Thread(r, "issue-precheck-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+        this.async = precheckCounter(meterRegistry, "async");
+        this.rejected = precheckCounter(meterRegistry, "rejected");
+    }
+
+    public boolean isEnabled() {
+        return executor != null;
+    }
+
+    /**
+     * @return the running task, or {@code null} if the pool is disabled or full and the caller has to run it
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        if (executor == null) return null;
+        try {
+            Future<T> future = executor.submit(task);
+            async.increment();
+            return future;
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Counter precheckCounter(MeterRegistry meterRegistry, String path) {
+        return Counter.builder("token.issue.precheck")
+                .description("Token store prechecks run next to the user key lookup")
+                .tag("path", path)
+                .register(meterRegistry);
+    }
+}
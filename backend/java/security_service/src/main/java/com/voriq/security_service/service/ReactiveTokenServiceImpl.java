@@ -0,0 +1,150 @@
+package com.voriq.security_service.service;
+
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.domain.dto.TokensDto;
+import com.voriq.security_service.exception_handler.exception.*;
+import com.voriq.security_service.repository.ReactiveUserKeyLookup;
+import com.voriq.security_service.service.TokenStoreStrategy.ReactiveRedisTokenStore;
+import com.voriq.security_service.service.TokenStoreStrategy.TokenStoreStrategy;
+import com.voriq.security_service.service.interfaces.ReactiveTokenService;
+import com.voriq.security_service.service.revocation_feed.RevocationFeed;
+import com.voriq.security_service.service.signed_token.SignedToken;
+import com.voriq.security_service.service.signed_token.SignedTokens;
+import com.voriq.security_service.service.token_generator.TokenGenerator;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * Reactive counterpart of {@link TokenServiceImpl}, used by the WebFlux stack
+ * ({@code spring.main.web-application-type=reactive}).
+ *
+ * <p>Same flows, errors and token formats as {@link TokenServiceImpl}; the hot path never blocks an event-loop
+ * thread:</p>
+ * <ul>
+ *   <li>User keys come from the {@link UserKeyCache}, with misses loaded over R2DBC
+ *       ({@link ReactiveUserKeyLookup}).</li>
+ *   <li>Opaque tokens are stored, checked and revoked through {@link ReactiveRedisTokenStore}.</li>
+ *   <li>Signed tokens are checked locally by {@link SignedTokens}, as in the servlet stack.</li>
+ *   <li>The checks and their errors are the {@link TokenRules} shared with {@link TokenServiceImpl}.</li>
+ * </ul>
+ *
+ * <p>When Redis fails, the call is retried on the blocking {@link TokenStoreStrategy} (and so its in-memory
+ * fallback) on {@link Schedulers#boundedElastic()}. Revocation side effects that only exist as blocking calls
+ * (the {@link RevocationFeed}, the signed-token revocation list) run there too.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReactiveTokenServiceImpl implements ReactiveTokenService {
+
+    UserKeyCache userKeyCache;
+    ReactiveUserKeyLookup reactiveUserKeyLookup;
+    ReactiveRedisTokenStore reactiveRedisTokenStore;
+    TokenStoreStrategy tokenStoreStrategy;
+    TokenGenerator tokenGenerator;
+    RevocationFeed revocationFeed;
+    TokenRules tokenRules;
+    StartupTimeTracker startupTimeTracker;
+
+    /**
+     * @throws UserNotFoundException       (signalled) if user does not exist or key mismatch
+     * @throws ServiceUnavailableException (signalled) if the user key cannot be loaded
+     * @see TokenServiceImpl#createTokens(TokenRequestDto)
+     */
+    @Override
+    public Mono<TokensDto> createTokens(TokenRequestDto dto) {
+        UUID id = dto.getUserId();
+        return userKeyCache.findKey(id, reactiveUserKeyLookup)
+                .onErrorMap(tokenRules::keyLookupFailed)
+                .switchIfEmpty(Mono.fromRunnable(() -> tokenRules.checkKey(dto, null)))
+                .flatMap(key -> {
+                    tokenRules.checkKey(dto, key);
+                    UUID tokenId = tokenGenerator.nextToken();
+                    return saveToken(tokenId.toString(), id).thenReturn(tokenId);
+                })
+                .map(tokenId -> TokensDto.builder()
+                        .accessToken(tokenRules.accessToken(tokenId, id))
+                        .build());
+    }
+
+    /**
+     * @throws BadRequestException   (signalled) if the token has an invalid format
+     * @throws UnauthorizedException (signalled) if the token is invalid, expired, or revoked
+     * @see TokenServiceImpl#validateToken(String)
+     */
+    @Override
+    public Mono<Void> validateToken(String token) {
+        return Mono.defer(() -> {
+            if (tokenRules.isSigned(token)) {
+                tokenRules.verifySigned(token);
+                startupTimeTracker.validateSucceeded();
+                return Mono.empty();
+            }
+            tokenRules.checkFormat(token);
+            return reactiveRedisTokenStore.isValid(token)
+                    .onErrorResume(DataAccessException.class, ex -> blocking(() -> tokenStoreStrategy.isValid(token)))
+                    .doOnNext(valid -> {
+                        tokenRules.checkValid(valid);
+                        startupTimeTracker.validateSucceeded();
+                    })
+                    .then();
+        });
+    }
+
+    /**
+     * @throws UnauthorizedException (signalled) if the token is invalid, expired, or already revoked
+     * @throws ServerException       (signalled) if a valid token could not be revoked
+     * @see TokenServiceImpl#revokeToken(String)
+     */
+    @Override
+    public Mono<Void> revokeToken(String token) {
+        if (tokenRules.isSigned(token)) {
+            return Mono.defer(() -> revokeSignedToken(tokenRules.verifySigned(token)));
+        }
+        return validateToken(token)
+                .then(Mono.defer(() -> revokeInStore(token)))
+                .doOnNext(tokenRules::checkRevoked)
+                .then(Mono.defer(() -> blocking(() -> revocationFeed.tokenRevoked(token))));
+    }
+
+    private Mono<Void> revokeSignedToken(SignedToken signed) {
+        String tokenId = signed.tokenId().toString();
+        return revokeInStore(tokenId)
+                .then(blocking(() -> {
+                    tokenRules.revokeSigned(signed);
+                    revocationFeed.tokenRevoked(tokenId);
+                }));
+    }
+
+    private Mono<Void> saveToken(String token, UUID userId) {
+        return reactiveRedisTokenStore.saveToken(token, userId)
+                .onErrorResume(DataAccessException.class,
+                        ex -> blocking(() -> tokenStoreStrategy.saveToken(token, userId)));
+    }
+
+    private Mono<Boolean> revokeInStore(String token) {
+        return reactiveRedisTokenStore.revokeToken(token)
+                .onErrorResume(DataAccessException.class, ex -> blocking(() -> tokenStoreStrategy.revokeToken(token)));
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static Mono<Void> blocking(Runnable call) {
+        return Mono.<Void>fromRunnable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,62 @@
+package com.voriq.security_service.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tracks time-to-first-successful-validate: the time from JVM start to the first token validation that
+ * succeeded, which is when a fresh replica is actually useful to the services calling it.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>{@link #validateSucceeded()} is called by the token services after every successful validation; only
+ *       the first call records anything, every later one costs a single volatile read.</li>
+ *   <li>The time is measured from the JVM start time reported by the {@code RuntimeMXBean}, so class loading
+ *       and context refresh are included. It is logged once at INFO.</li>
+ * </ul>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code startup.first-validate} — time gauge; {@code NaN} until the first validation succeeded.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class StartupTimeTracker {
+
+    private final long jvmStartMs = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    private volatile double firstValidateMs = Double.NaN;
+
+    public StartupTimeTracker(MeterRegistry meterRegistry) {
+        TimeGauge.builder("startup.first-validate", this, TimeUnit.MILLISECONDS, StartupTimeTracker::firstValidateMs)
+                .description("Time from JVM start to the first successful token validation")
+                .register(meterRegistry);
+    }
+
+    public void validateSucceeded() {
+        if (recorded.get() || !recorded.compareAndSet(false, true)) {
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - jvmStartMs;
+        firstValidateMs = elapsed;
+        log.info("First successful token validation {} ms after JVM start", elapsed);
+    }
+
+    /**
+     * @return milliseconds from JVM start to the first successful validation, or {@code NaN} if none yet
+     */
+    public double firstValidateMs() {
+        return firstValidateMs;
+    }
+}
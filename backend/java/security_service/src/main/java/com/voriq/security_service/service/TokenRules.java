@@ -0,0 +1,120 @@
+package com.voriq.security_service.service;
+
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.exception_handler.exception.*;
+import com.voriq.security_service.service.signed_token.SignedToken;
+import com.voriq.security_service.service.signed_token.SignedTokens;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+import static com.voriq.security_service.utilitie.TokenUtilities.isUuid;
+
+/**
+ * Issue, validate and revoke rules shared by {@link TokenServiceImpl} and {@link ReactiveTokenServiceImpl}.
+ *
+ * <p>The services only differ in how they reach the stores (blocking or reactive); which token is accepted, how
+ * it is handed out and which error answers a failed check is decided here, so both stacks respond alike.</p>
+ *
+ * <p>The checks throw; reactive callers run them inside {@code Mono.defer} or an operator so the exception is
+ * signalled.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TokenRules {
+
+    SignedTokens signedTokens;
+
+    /**
+     * @param dto       issue request
+     * @param storedKey key stored for {@code dto.userId}, or {@code null} if the user does not exist
+     * @throws UserNotFoundException if the user does not exist or the key does not match
+     */
+    public void checkKey(TokenRequestDto dto, UUID storedKey) {
+        if (storedKey == null || !storedKey.equals(dto.getKey())) {
+            throw new UserNotFoundException(dto.getUserId(), dto.getKey());
+        }
+    }
+
+    /**
+     * @return the error reported when the user key cannot be loaded
+     */
+    public ServiceUnavailableException keyLookupFailed(Throwable cause) {
+        return new ServiceUnavailableException(
+                "The server is currently overloaded or under maintenance. Please try again later.", cause);
+    }
+
+    /**
+     * @return the token handed to the client for a stored token id: the id itself, or in signed mode a signed token
+     * carrying it
+     */
+    public String accessToken(UUID tokenId, UUID userId) {
+        return signedTokens.isEnabled() ? signedTokens.issue(tokenId, userId) : tokenId.toString();
+    }
+
+    /**
+     * @return {@code true} if the token is a signed one and is checked by {@link #verifySigned(String)} instead of
+     * the store
+     */
+    public boolean isSigned(String token) {
+        return signedTokens.accepts(token);
+    }
+
+    /**
+     * @throws UnauthorizedException if the signature, lifetime or revocation list rejects the token
+     */
+    public SignedToken verifySigned(String token) {
+        SignedToken signed = signedTokens.verify(token);
+        if (signed == null) {
+            throw invalidToken();
+        }
+        return signed;
+    }
+
+    /**
+     * @throws BadRequestException if an opaque token is not a UUID
+     */
+    public void checkFormat(String token) {
+        if (!isUuid(token)) {
+            throw new BadRequestException("Token format is wrong.");
+        }
+    }
+
+    /**
+     * @param valid result of the store lookup
+     * @throws UnauthorizedException if the store does not know the token
+     */
+    public void checkValid(boolean valid) {
+        if (!valid) {
+            throw invalidToken();
+        }
+    }
+
+    /**
+     * @param revoked result of the store revocation of a token that was just validated
+     * @throws ServerException if the store did not revoke it
+     */
+    public void checkRevoked(boolean revoked) {
+        if (!revoked) {
+            throw new ServerException("The token could not be revoked. Try again later.");
+        }
+    }
+
+    /**
+     * Adds a verified signed token to the signed-token revocation list, which alone decides its validity.
+     */
+    public void revokeSigned(SignedToken signed) {
+        signedTokens.revoke(signed);
+    }
+
+    private static UnauthorizedException invalidToken() {
+        return new UnauthorizedException("Token is invalid.");
+    }
+}
@@ -3,15 +3,21 @@ package com.voriq.security_service.service;
 import com.voriq.security_service.domain.dto.TokenRequestDto;
 import com.voriq.security_service.domain.dto.TokensDto;
 import com.voriq.security_service.exception_handler.exception.*;
-import com.voriq.security_service.repository.UserRepository;
+import com.voriq.security_service.service.TokenStoreStrategy.SavePrecheck;
 import com.voriq.security_service.service.TokenStoreStrategy.TokenStoreStrategy;
 import com.voriq.security_service.service.interfaces.TokenService;
+import com.voriq.security_service.service.revocation_feed.RevocationFeed;
+import com.voriq.security_service.service.signed_token.SignedToken;
+import com.voriq.security_service.service.signed_token.SignedTokens;
+import com.voriq.security_service.service.token_generator.TokenGenerator;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Token issuing service implementation.
@@ -21,6 +27,8 @@ import java.util.UUID;
  *   <li>Validate that the requesting user exists and the provided key matches the stored one.</li>
  *   <li>Generate a new access token and persist it using the configured {@link TokenStoreStrategy}
  *       (Redis as primary, in-memory as fallback via delegator).</li>
+ *   <li>With {@code token.format=signed}, hand out {@link SignedTokens signed tokens} instead of the raw id and
+ *       validate them without a store lookup.</li>
  * </ul>
  *
  * <h3>Error handling</h3>
@@ -29,6 +37,8 @@ import java.util.UUID;
  *   <li>{@link ServiceUnavailableException} — wraps infrastructure/database failures while resolving the user.</li>
  * </ul>
  *
+ * <p>The checks and their errors are the {@link TokenRules} shared with {@link ReactiveTokenServiceImpl}.</p>
+ *
  * <p>Thread-safety: the service is stateless; underlying store/repository components must be thread-safe.</p>
  *
  * @author RsLan
@@ -39,8 +49,13 @@ import java.util.UUID;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class TokenServiceImpl implements TokenService {
 
-    UserRepository repository;
+    UserKeyCache userKeyCache;
     TokenStoreStrategy tokenStoreStrategy;
+    TokenGenerator tokenGenerator;
+    RevocationFeed revocationFeed;
+    TokenRules tokenRules;
+    IssuePrecheckExecutor issuePrecheckExecutor;
+    StartupTimeTracker startupTimeTracker;
 
     /**
      * Creates and persists a new access token for the given request.
@@ -49,9 +64,16 @@ public class TokenServiceImpl implements TokenService {
      * <ol>
      *   <li>Resolve the stored key for the {@code userId} (may throw {@link ServiceUnavailableException}).</li>
      *   <li>Compare with the provided {@code key}; if mismatch or absent — throw {@link UserNotFoundException}.</li>
-     *   <li>Generate a random access token and save it via {@link TokenStoreStrategy}.</li>
+     *   <li>Generate a random access token with the configured {@link TokenGenerator} and save it via
+     *       {@link TokenStoreStrategy}.</li>
+     *   <li>In signed mode, return a signed token carrying that id instead of the id itself.</li>
      * </ol>
      *
+     * <p>With {@code token.issue.async.enabled=true} and a user key that is not cached, the read-only
+     * {@link TokenStoreStrategy#precheckSave(UUID)} runs on the {@link IssuePrecheckExecutor} while the key is
+     * loaded, and the save reuses it. Nothing is written before the key matched; a failed or rejected precheck
+     * is simply taken again by the save.</p>
+     *
      * @param dto request containing {@code userId} and {@code key}
      * @return DTO with the newly generated access token
      * @throws UserNotFoundException       if user does not exist or key mismatch
@@ -63,17 +85,29 @@ public class TokenServiceImpl implements TokenService {
 
         UUID id = dto.getUserId();
 
-        UUID requestedKey = getKeyByUserIdOrFail(id);
-        if (requestedKey == null || !requestedKey.equals(dto.getKey())) {
-            throw new UserNotFoundException(id, dto.getKey());
-        }
-        TokensDto tokensDto = TokensDto.builder()
-                .accessToken(UUID.randomUUID().toString())
-                .build();
+        Future<SavePrecheck> precheck = issuePrecheckExecutor.isEnabled() && !userKeyCache.isCached(id)
+                ? issuePrecheckExecutor.submit(() -> tokenStoreStrategy.precheckSave(id))
+                : null;
 
-        tokenStoreStrategy.saveToken(tokensDto.getAccessToken(), id);
+        UUID requestedKey;
+        try {
+            requestedKey = getKeyByUserIdOrFail(id);
+        } catch (RuntimeException ex) {
+            cancel(precheck);
+            throw ex;
+        }
+        try {
+            tokenRules.checkKey(dto, requestedKey);
+        } catch (UserNotFoundException ex) {
+            cancel(precheck);
+            throw ex;
+        }
+        UUID tokenId = tokenGenerator.nextToken();
+        tokenStoreStrategy.saveToken(tokenId.toString(), id, await(precheck));
 
-        return tokensDto;
+        return TokensDto.builder()
+                .accessToken(tokenRules.accessToken(tokenId, id))
+                .build();
     }
 
     /**
@@ -81,9 +115,11 @@ public class TokenServiceImpl implements TokenService {
      *
      * <p>Flow:</p>
      * <ol>
+     *   <li>A signed token (signed mode only) is checked locally by {@link TokenRules#verifySigned(String)}.</li>
      *   <li>Verify that {@code token} is a valid UUID string; if not, throw {@link BadRequestException}.</li>
      *   <li>Delegate validation to {@link TokenStoreStrategy#isValid(String)}.</li>
      *   <li>If the token is not valid, throw {@link UnauthorizedException}.</li>
+     *   <li>Report the success to the {@link StartupTimeTracker}.</li>
      * </ol>
      *
      * <p>Notes:</p>
@@ -101,13 +137,14 @@ public class TokenServiceImpl implements TokenService {
 
     @Override
     public void validateToken(String token) {
-        try {
-            UUID.fromString(token);
-        } catch (Exception e) {
-            throw new BadRequestException("Token format is wrong.");
+        if (tokenRules.isSigned(token)) {
+            tokenRules.verifySigned(token);
+            startupTimeTracker.validateSucceeded();
+            return;
         }
-        if (!tokenStoreStrategy.isValid(token))
-            throw new UnauthorizedException("Token is invalid.");
+        tokenRules.checkFormat(token);
+        tokenRules.checkValid(tokenStoreStrategy.isValid(token));
+        startupTimeTracker.validateSucceeded();
     }
 
     /**
@@ -119,6 +156,9 @@ public class TokenServiceImpl implements TokenService {
      *   <li>Call {@link #validateToken(String)} to ensure the token currently exists and is valid.</li>
      *   <li>Delegate revocation to {@link TokenStoreStrategy#revokeToken(String)}.</li>
      *   <li>If the strategy reports failure (e.g., token absent/already revoked), throw {@link ServerException}.</li>
+     *   <li>Publish the revoked token to the {@link RevocationFeed}.</li>
+     *   <li>A signed token is revoked in the store by its id and added to the signed-token revocation list;
+     *       the list alone decides, so a store that already lost the session does not fail the call.</li>
      * </ol>
      *
      * <p>Notes:</p>
@@ -139,15 +179,46 @@ public class TokenServiceImpl implements TokenService {
 
     @Override
     public void revokeToken(String token) {
+        if (tokenRules.isSigned(token)) {
+            revokeSignedToken(token);
+            return;
+        }
         validateToken(token);
-        boolean isRevoked = tokenStoreStrategy.revokeToken(token);
-        if (!isRevoked) {
-            throw new ServerException("The token could not be revoked. Try again later.");
+        tokenRules.checkRevoked(tokenStoreStrategy.revokeToken(token));
+        revocationFeed.tokenRevoked(token);
+    }
+
+    /**
+     * @return the precheck result, or {@code null} (the save then takes it itself) if there is none or it failed
+     */
+    private static SavePrecheck await(Future<SavePrecheck> precheck) {
+        if (precheck == null) return null;
+        try {
+            return precheck.get();
+        } catch (ExecutionException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            precheck.cancel(true);
+            return null;
         }
     }
 
+    private static void cancel(Future<SavePrecheck> precheck) {
+        if (precheck != null) {
+            precheck.cancel(false);
+        }
+    }
+
+    private void revokeSignedToken(String token) {
+        SignedToken signed = tokenRules.verifySigned(token);
+        tokenStoreStrategy.revokeToken(signed.tokenId().toString());
+        tokenRules.revokeSigned(signed);
+        revocationFeed.tokenRevoked(signed.tokenId().toString());
+    }
+
     /**
-     * Fetches the stored key for the given user id.
+     * Fetches the stored key for the given user id through the {@link UserKeyCache}.
      *
      * <p>Returns {@code null} if the user is not found. Any infrastructure/DB error is wrapped into
      * {@link ServiceUnavailableException} for consistent HTTP 503 mapping by the global handler.</p>
@@ -158,10 +229,9 @@ public class TokenServiceImpl implements TokenService {
      */
     public UUID getKeyByUserIdOrFail(UUID id) {
         try {
-            return repository.findKeyOnlyByUserId(id);
+            return userKeyCache.findKey(id);
         } catch (Exception ex) {
-            throw new ServiceUnavailableException(
-                    "The server is currently overloaded or under maintenance. Please try again later.", ex);
+            throw tokenRules.keyLookupFailed(ex);
         }
     }
 }
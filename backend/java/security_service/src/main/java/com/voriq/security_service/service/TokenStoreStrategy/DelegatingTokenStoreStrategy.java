@@ -2,7 +2,10 @@ package com.voriq.security_service.service.TokenStoreStrategy;
 
 import com.voriq.security_service.exception_handler.exception.RestException;
 import com.voriq.security_service.exception_handler.exception.StrategyNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -22,10 +25,14 @@ import java.util.UUID;
  *       triggers a one-time migration from in-memory to Redis via {@link TokenMigrationService}.</li>
  *   <li>Propagates business errors as {@link RestException} and treats other {@link RuntimeException}s
  *       as infrastructure failures with fallback to the next applicable strategy.</li>
+ *   <li>Coalesces concurrent {@link #isValid(String)} and {@link #getSetValueByKey(String)} calls for the same
+ *       token into one backend call ({@link SingleFlight}, at most {@code token.coalescing.max-in-flight} tokens,
+ *       {@code 0} disables it). {@link #revokeToken(String)} cancels the shared results for its token. Joined
+ *       callers are counted in {@code token.store.coalesced}.</li>
  * </ul>
  *
- * <p><b>Thread-safety:</b> The class is stateless except for {@code lastActiveClass}, used only to
- * detect transitions between active strategies. Migration is invoked best-effort and should be
+ * <p><b>Thread-safety:</b> Apart from the in-flight lookups of the coalescing tables, the only state is
+ * {@code lastActiveClass}, used to detect transitions between active strategies. Migration is invoked best-effort and should be
  * idempotent on the service side.</p>
  *
  * <p><b>Proxies:</b> Class comparisons are made against target classes via {@link AopUtils#getTargetClass(Object)}
@@ -41,6 +48,8 @@ public class DelegatingTokenStoreStrategy implements TokenStoreStrategy {
 
     private final List<TokenStoreStrategy> strategies;
     private final TokenMigrationService migrationService;
+    private final SingleFlight<Boolean> validFlights;
+    private final SingleFlight<String> ownerFlights;
 
     public static final String DEFAULT_SET_VALUE = "unknown";
 
@@ -55,13 +64,19 @@ public class DelegatingTokenStoreStrategy implements TokenStoreStrategy {
      *
      * @param strategies       all {@link TokenStoreStrategy} beans from the Spring context (may include this delegator)
      * @param migrationService service used to migrate accumulated in-memory data back to Redis
+     * @param meterRegistry    registry for the coalescing counters
+     * @param maxInFlight      max tokens with a coalesced lookup in flight ({@code token.coalescing.max-in-flight})
      */
     public DelegatingTokenStoreStrategy(List<TokenStoreStrategy> strategies,
-                                        TokenMigrationService migrationService) {
+                                        TokenMigrationService migrationService,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${token.coalescing.max-in-flight:10000}") int maxInFlight) {
         this.migrationService = migrationService;
         this.strategies = strategies.stream()
                 .filter(s -> !DelegatingTokenStoreStrategy.class.isAssignableFrom(AopUtils.getTargetClass(s)))
                 .toList();
+        this.validFlights = new SingleFlight<>(maxInFlight, coalescedCounter(meterRegistry, "isValid"));
+        this.ownerFlights = new SingleFlight<>(maxInFlight, coalescedCounter(meterRegistry, "getSetValueByKey"));
     }
 
     /**
@@ -91,8 +106,41 @@ public class DelegatingTokenStoreStrategy implements TokenStoreStrategy {
         });
     }
 
+    /**
+     * Takes the save precheck with the first applicable strategy. Falls back on infrastructure failure.
+     *
+     * @param userId the owner's UUID
+     * @return precheck of the chosen strategy, or {@code null}
+     * @throws StrategyNotFoundException if no applicable strategy is available
+     * @throws RuntimeException          if all applicable strategies fail with infrastructure errors
+     */
+    @Override
+    public SavePrecheck precheckSave(UUID userId) {
+        return executeWithFallback(s -> s.precheckSave(userId));
+    }
+
+    /**
+     * Saves a token using the first applicable strategy, which reuses {@code precheck} if it took it.
+     * Falls back on infrastructure failure.
+     *
+     * @param token    a non-null token string
+     * @param userId   the owner's UUID
+     * @param precheck result of {@link #precheckSave(UUID)}, or {@code null}
+     * @throws RestException             if business rules are violated by the chosen strategy
+     * @throws StrategyNotFoundException if no applicable strategy is available
+     * @throws RuntimeException          if all applicable strategies fail with infrastructure errors
+     */
+    @Override
+    public void saveToken(String token, UUID userId, SavePrecheck precheck) {
+        executeWithFallback(s -> {
+            s.saveToken(token, userId, precheck);
+            return null;
+        });
+    }
+
     /**
      * Checks token validity using the first applicable strategy. Falls back on infrastructure failure.
+     * Concurrent checks of the same token share one backend call.
      *
      * @param token token to check
      * @return {@code true} if the token is known and valid; {@code false} otherwise
@@ -102,7 +150,7 @@ public class DelegatingTokenStoreStrategy implements TokenStoreStrategy {
      */
     @Override
     public boolean isValid(String token) {
-        return executeWithFallback(s -> s.isValid(token));
+        return validFlights.execute(token, () -> executeWithFallback(s -> s.isValid(token)));
     }
 
     /**
@@ -110,7 +158,7 @@ public class DelegatingTokenStoreStrategy implements TokenStoreStrategy {
      * (e.g., a Redis Set) using the first applicable strategy.
      *
      * <p>Non-destructive: the returned value is not removed from the set. If the key does not exist
-     * or the set is empty, returns {@code null}.</p>
+     * or the set is empty, returns {@code null}. Concurrent lookups of the same key share one backend call.</p>
      *
      * @param key non-null logical key identifying the set/collection
      * @return a set member if present; {@code null} if absent or empty
@@ -119,7 +167,7 @@ public class DelegatingTokenStoreStrategy implements TokenStoreStrategy {
      */
     @Override
     public String getSetValueByKey(String key) {
-        return executeWithFallback(s -> s.getSetValueByKey(key));
+        return ownerFlights.execute(key, () -> executeWithFallback(s -> s.getSetValueByKey(key)));
     }
 
     /**
@@ -131,6 +179,9 @@ public class DelegatingTokenStoreStrategy implements TokenStoreStrategy {
      * applicable strategy is attempted. Functional "not found" semantics are left to
      * the strategy implementation but the operation should be idempotent.</p>
      *
+     * <p>Once the backend call returns, coalesced {@code isValid}/{@code getSetValueByKey} calls in flight for the
+     * token are cancelled, so callers waiting on them re-check instead of receiving a pre-revocation result.</p>
+     *
      * @param token non-null token identifier to revoke/blacklist
      * @return {@code true} if the chosen strategy reports the token was revoked/blacklisted;
      * {@code false} if nothing changed (e.g., token already absent or unknown)
@@ -139,7 +190,19 @@ public class DelegatingTokenStoreStrategy implements TokenStoreStrategy {
      */
     @Override
     public boolean revokeToken(String token) {
-        return executeWithFallback(s -> s.revokeToken(token));
+        try {
+            return executeWithFallback(s -> s.revokeToken(token));
+        } finally {
+            validFlights.cancel(token);
+            ownerFlights.cancel(token);
+        }
+    }
+
+    private static Counter coalescedCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("token.store.coalesced")
+                .description("Token store lookups served by a concurrent in-flight call for the same token")
+                .tag("operation", operation)
+                .register(meterRegistry);
     }
 
     /**
@@ -1,8 +1,11 @@
 package com.voriq.security_service.service.TokenStoreStrategy;
 
 import com.voriq.security_service.exception_handler.exception.AccessDeniedException;
+import com.voriq.security_service.service.interfaces.BlockService;
+import com.voriq.security_service.service.revocation_feed.RevocationFeed;
+import com.voriq.security_service.service.signed_token.SignedTokenRevocationList;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -34,6 +37,8 @@ import static com.voriq.security_service.utilitie.TokenUtilities.isUuid;
  *       for the same duration as the access token TTL.</li>
  *   <li>{@link #isValid(String)} returns {@code false} for unknown/expired tokens,
  *       and lazily purges expired entries.</li>
+ *   <li>Blocks are also read from and written to the shared {@link BlockService}, so a block set while
+ *       Redis was the active store is still enforced after failing over to this strategy.</li>
  * </ul>
  *
  * <h3>Thread-safety</h3>
@@ -57,7 +62,7 @@ import static com.voriq.security_service.utilitie.TokenUtilities.isUuid;
  * @since 1.0.0
  */
 @Component
-@NoArgsConstructor
+@RequiredArgsConstructor
 @Getter
 @Order(2)
 public class InMemoryTokenStoreStrategy implements TokenStoreStrategy {
@@ -75,6 +80,10 @@ public class InMemoryTokenStoreStrategy implements TokenStoreStrategy {
     @Value("${token.max-tokens}")
     private int maxTokens;
 
+    private final BlockService blockService;
+    private final RevocationFeed revocationFeed;
+    private final SignedTokenRevocationList signedTokenRevocationList;
+
     /**
      * This fallback is always deemed applicable.
      *
@@ -234,7 +243,9 @@ public class InMemoryTokenStoreStrategy implements TokenStoreStrategy {
         for (String t : tokens) {
             tokenExpiry.remove(t);
             tokenToUser.remove(t);
+            revocationFeed.tokenRevoked(t);
         }
+        signedTokenRevocationList.revokeSessions(userId);
     }
 
     private void checkBlockedUser(UUID userId, long now) {
@@ -242,6 +253,9 @@ public class InMemoryTokenStoreStrategy implements TokenStoreStrategy {
             long secs = getRemainingBlockSeconds(userId, now);
             throw new AccessDeniedException("User is temporarily blocked. Try again in " + secs + "s");
         }
+        if (blockService.isBlocked(userId)) {
+            throw new AccessDeniedException("The active session limit has been exceeded. New sessions are temporarily unavailable.");
+        }
     }
 
     private void cleanupExpiredForUser(UUID userId, long now) {
@@ -269,6 +283,7 @@ public class InMemoryTokenStoreStrategy implements TokenStoreStrategy {
         if (active >= maxTokens) {
             revokeAll(userId);
             blacklistUntil.put(userId, now + accessExpirationMs);
+            blockService.block(userId);
         }
     }
 
@@ -0,0 +1,143 @@
+package com.voriq.security_service.service.TokenStoreStrategy;
+
+import com.voriq.security_service.exception_handler.exception.AccessDeniedException;
+import com.voriq.security_service.service.interfaces.BlockService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static com.voriq.security_service.utilitie.TokenUtilities.isUuid;
+import static com.voriq.security_service.utilitie.UuidUtilities.parseOrNull;
+
+/**
+ * Non-blocking access to the Redis token model of {@link RedisTokenStoreStrategy} for the reactive stack.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>Same keys as {@link RedisTokenStoreStrategy} (token key = Set with the owner, user index = Set of tokens),
+ *       so servlet and reactive replicas share tokens.</li>
+ *   <li>Only the hot commands run on {@link ReactiveStringRedisTemplate}. The rare side effects that go through
+ *       blocking components (revoke-all and block on a session limit breach, unblock on revoke) run on
+ *       {@link Schedulers#boundedElastic()}.</li>
+ *   <li>No fallback: Redis errors are signalled as {@link org.springframework.dao.DataAccessException} and the
+ *       caller decides where to go next.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRedisTokenStore {
+
+    private final ReactiveStringRedisTemplate redis;
+    private final RedisTokenStoreStrategy redisTokenStoreStrategy;
+    private final BlockService blockService;
+    private final Duration accessExpiration;
+    private final int maxTokens;
+
+    public ReactiveRedisTokenStore(ReactiveStringRedisTemplate redis,
+                                   RedisTokenStoreStrategy redisTokenStoreStrategy,
+                                   BlockService blockService,
+                                   @Value("${token.access-token-expiration-ms}") long accessExpirationMs,
+                                   @Value("${token.max-tokens}") int maxTokens) {
+        this.redis = redis;
+        this.redisTokenStoreStrategy = redisTokenStoreStrategy;
+        this.blockService = blockService;
+        this.accessExpiration = Duration.ofMillis(accessExpirationMs);
+        this.maxTokens = maxTokens;
+    }
+
+    /**
+     * Stores a token for the user: drops expired tokens from the user index, enforces the session limit and
+     * links the new token, like {@link RedisTokenStoreStrategy#saveToken(String, UUID)}.
+     *
+     * @throws AccessDeniedException (signalled) if the user is blocked
+     */
+    public Mono<Void> saveToken(String token, UUID userId) {
+        String idxKey = userId.toString();
+        return activeTokens(idxKey)
+                .flatMap(active -> enforceSessionLimit(userId, active))
+                .then(redis.opsForSet().add(token, idxKey))
+                .then(redis.expire(token, accessExpiration))
+                .then(redis.opsForSet().add(idxKey, token))
+                .then(redis.expire(idxKey, accessExpiration))
+                .then();
+    }
+
+    /**
+     * @return {@code true} iff the token key exists
+     */
+    public Mono<Boolean> isValid(String token) {
+        return redis.hasKey(token);
+    }
+
+    /**
+     * @return owner of the token; completes empty if the token is unknown or not a UUID
+     */
+    public Mono<String> owner(String token) {
+        if (!isUuid(token)) return Mono.empty();
+        return redis.opsForSet().randomMember(token).filter(owner -> isUuid(owner));
+    }
+
+    /**
+     * Unlinks the token from its user index (lifting the user's block, as {@link RedisTokenStoreStrategy#revokeToken(String)}
+     * does) and deletes the token key.
+     *
+     * @return {@code true} if the token key existed and was removed
+     */
+    public Mono<Boolean> revokeToken(String token) {
+        return redis.opsForSet().members(token)
+                .concatMap(idxKey -> redis.opsForSet().remove(idxKey, token).then(removeBlock(idxKey)))
+                .then(redis.delete(token))
+                .map(deleted -> deleted > 0);
+    }
+
+    /**
+     * Removes tokens whose key expired from the user index and counts the remaining ones; the existence checks
+     * are pipelined on the shared connection.
+     */
+    private Mono<Long> activeTokens(String idxKey) {
+        return redis.opsForSet().members(idxKey)
+                .flatMap(token -> redis.hasKey(token)
+                        .filter(exists -> !exists)
+                        .map(exists -> token))
+                .collectList()
+                .flatMap(expired -> expired.isEmpty()
+                        ? Mono.just(0L)
+                        : redis.opsForSet().remove(idxKey, expired.toArray()))
+                .then(redis.opsForSet().size(idxKey))
+                .defaultIfEmpty(0L);
+    }
+
+    private Mono<Void> enforceSessionLimit(UUID userId, long active) {
+        if (blockService.isBlocked(userId)) {
+            return redis.delete(userId.toString())
+                    .then(Mono.error(() -> new AccessDeniedException(
+                            "The active session limit has been exceeded. New sessions are temporarily unavailable.")));
+        }
+        if (active >= maxTokens) {
+            return Mono.fromRunnable(() -> {
+                        redisTokenStoreStrategy.revokeAll(userId);
+                        blockService.block(userId);
+                    })
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then();
+        }
+        return Mono.empty();
+    }
+
+    private Mono<Void> removeBlock(String idxKey) {
+        UUID userId = parseOrNull(idxKey);
+        if (userId == null) return Mono.empty();
+        return Mono.fromRunnable(() -> blockService.removeBlock(userId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+}
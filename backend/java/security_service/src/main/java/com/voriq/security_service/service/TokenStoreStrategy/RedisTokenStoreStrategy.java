@@ -2,6 +2,8 @@ package com.voriq.security_service.service.TokenStoreStrategy;
 
 import com.voriq.security_service.exception_handler.exception.AccessDeniedException;
 import com.voriq.security_service.service.interfaces.BlockService;
+import com.voriq.security_service.service.revocation_feed.RevocationFeed;
+import com.voriq.security_service.service.signed_token.SignedTokenRevocationList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
@@ -15,6 +17,7 @@ import java.util.UUID;
 
 import static com.voriq.security_service.service.TokenStoreStrategy.DelegatingTokenStoreStrategy.DEFAULT_SET_VALUE;
 import static com.voriq.security_service.utilitie.TokenUtilities.isUuid;
+import static com.voriq.security_service.utilitie.UuidUtilities.parseOrNull;
 
 /**
  * Primary {@link TokenStoreStrategy} backed by Redis.
@@ -33,7 +36,8 @@ import static com.voriq.security_service.utilitie.TokenUtilities.isUuid;
  *   <li>{@link #isApplicable()} pings Redis (returns {@code true} if reachable).</li>
  *   <li>{@link #saveToken(String, UUID)}:
  *     <ol>
- *       <li>removes expired tokens from the user's index (by checking token-key existence),</li>
+ *       <li>removes expired tokens from the user's index (by checking token-key existence) and counts the rest —
+ *           the read-only {@link #precheckSave(UUID)}, which may also run ahead of the save,</li>
  *       <li>enforces the per-user session limit (see {@code token.max-tokens}); if exceeded, all sessions are revoked
  *           and the user is temporarily blocked via {@link BlockService},</li>
  *       <li>creates/updates the token key with TTL and adds it to the user's index set.</li>
@@ -71,6 +75,8 @@ public class RedisTokenStoreStrategy implements TokenStoreStrategy {
 
     private final BlockService blockService;
     private final StringRedisTemplate redisTemplate;
+    private final RevocationFeed revocationFeed;
+    private final SignedTokenRevocationList signedTokenRevocationList;
 
     /**
      * Checks if Redis is reachable by issuing a {@code PING}.
@@ -90,7 +96,7 @@ public class RedisTokenStoreStrategy implements TokenStoreStrategy {
     /**
      * Stores a token for the user, enforcing session limits and cleanup.
      *
-     * <p>Flow: cleanup expired tokens from the user index → enforce limit (may revoke & block) → create
+     * <p>Flow: {@link #precheckSave(UUID)} → enforce limit (may revoke & block) → create
      * token key with TTL and link it from the user index.</p>
      *
      * @param token  token value
@@ -99,8 +105,38 @@ public class RedisTokenStoreStrategy implements TokenStoreStrategy {
      */
     @Override
     public void saveToken(String token, UUID userId) {
+        saveToken(token, userId, precheckSave(userId));
+    }
+
+    /**
+     * Drops expired tokens from the user index and counts the remaining ones. Blocks, revocations and the new
+     * token are left to {@link #saveToken(String, UUID, SavePrecheck)}.
+     *
+     * @param userId owner id
+     * @return active tokens of the user
+     */
+    @Override
+    public SavePrecheck precheckSave(UUID userId) {
         cleanupExpiredTokens(userId);
-        enforceSessionLimit(userId);
+        Long active = redisTemplate.opsForSet().size(userId.toString());
+        return new SavePrecheck(this, active != null ? active : 0L);
+    }
+
+    /**
+     * Stores a token for the user using the active token count of {@code precheck}; takes a fresh precheck if
+     * it is {@code null} or was not taken by this strategy.
+     *
+     * @param token    token value
+     * @param userId   owner id
+     * @param precheck result of {@link #precheckSave(UUID)}
+     * @throws AccessDeniedException if the user is blocked or new sessions are temporarily disallowed
+     */
+    @Override
+    public void saveToken(String token, UUID userId, SavePrecheck precheck) {
+        if (precheck == null || precheck.strategy() != this) {
+            precheck = precheckSave(userId);
+        }
+        enforceSessionLimit(userId, precheck.activeTokens());
 
         String idxKey = userId.toString();
 
@@ -197,8 +233,9 @@ public class RedisTokenStoreStrategy implements TokenStoreStrategy {
         if (idx != null && !idx.isEmpty()) {
             for (String i : idx) {
                 redisTemplate.opsForSet().remove(i, token);
-                if (isUuid(i)) {
-                    blockService.removeBlock(UUID.fromString(i));
+                UUID userId = parseOrNull(i);
+                if (userId != null) {
+                    blockService.removeBlock(userId);
                 }
             }
         }
@@ -207,7 +244,10 @@ public class RedisTokenStoreStrategy implements TokenStoreStrategy {
     }
 
     /**
-     * Deletes all token keys referenced by the user's index and removes the index itself.
+     * Deletes all token keys referenced by the user's index and removes the index itself, publishing each
+     * token to the {@link RevocationFeed}. The index holds opaque tokens and the ids of signed tokens, which is
+     * what the feed publishes for either format. Signed tokens of the user are revoked through a new session
+     * generation.
      *
      * @param userId user whose tokens to revoke
      */
@@ -217,6 +257,8 @@ public class RedisTokenStoreStrategy implements TokenStoreStrategy {
         if (tokens == null || tokens.isEmpty()) return;
         redisTemplate.delete(tokens);
         redisTemplate.delete(idxKey);
+        tokens.forEach(revocationFeed::tokenRevoked);
+        signedTokenRevocationList.revokeSessions(userId);
     }
 
     /**
@@ -245,17 +287,15 @@ public class RedisTokenStoreStrategy implements TokenStoreStrategy {
      * </ul>
      *
      * @param userId user to check
+     * @param active active tokens of the user, from {@link #precheckSave(UUID)}
      * @throws AccessDeniedException if the user is blocked
      */
-    private void enforceSessionLimit(UUID userId) {
+    private void enforceSessionLimit(UUID userId, long active) {
         if (blockService.isBlocked(userId)) {
             redisTemplate.delete(userId.toString());
             throw new AccessDeniedException("The active session limit has been exceeded. New sessions are temporarily unavailable.");
         }
-        String idxKey = userId.toString();
-
-        Long active = redisTemplate.opsForSet().size(idxKey);
-        if (active != null && active >= maxTokens) {
+        if (active >= maxTokens) {
             revokeAll(userId);
             blockService.block(userId);
         }
@@ -0,0 +1,13 @@
+package com.voriq.security_service.service.TokenStoreStrategy;
+
+/**
+ * Result of {@link TokenStoreStrategy#precheckSave(java.util.UUID)}: the reads that {@code saveToken} needs
+ * before it writes, taken ahead of time.
+ *
+ * @param strategy     strategy that took the reads; any other strategy ignores the precheck
+ * @param activeTokens live tokens of the user at the time of the precheck
+ * @author RsLan
+ * @since 1.0.0
+ */
+public record SavePrecheck(TokenStoreStrategy strategy, long activeTokens) {
+}
@@ -0,0 +1,107 @@
+package com.voriq.security_service.service.TokenStoreStrategy;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one in-flight call whose result is shared.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>The first caller for a key (the leader) runs the call; callers arriving while it runs wait for and
+ *       receive the same result or exception. The entry is removed as soon as the call completes, so results
+ *       are never cached beyond the call itself.</li>
+ *   <li>At most {@code maxInFlight} keys are tracked; beyond that, calls run uncoalesced. {@code 0} disables
+ *       coalescing.</li>
+ *   <li>{@link #cancel(String)} detaches the in-flight call of a key: later callers start a new call, and waiters
+ *       already joined re-run the call themselves instead of using the shared result.</li>
+ * </ul>
+ *
+ * @param <T> result type
+ * @author RsLan
+ * @since 1.0.0
+ */
+final class SingleFlight<T> {
+
+    private final ConcurrentHashMap<String, Flight<T>> flights = new ConcurrentHashMap<>();
+    private final int maxInFlight;
+    private final Counter coalesced;
+
+    SingleFlight(int maxInFlight, Counter coalesced) {
+        this.maxInFlight = maxInFlight;
+        this.coalesced = coalesced;
+    }
+
+    /**
+     * Runs {@code call} for {@code key}, or joins the call already in flight for it.
+     *
+     * @param key  coalescing key; {@code null} runs the call directly
+     * @param call backend call
+     * @return the call result
+     */
+    T execute(String key, Supplier<T> call) {
+        if (key == null || flights.mappingCount() >= maxInFlight) {
+            return call.get();
+        }
+
+        Flight<T> mine = new Flight<>();
+        Flight<T> leader = flights.putIfAbsent(key, mine);
+        if (leader == null) {
+            try {
+                T result = call.get();
+                mine.complete(result);
+                return result;
+            } catch (Throwable ex) {
+                // any throwable, so waiters never block on a flight that will not complete
+                mine.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                flights.remove(key, mine);
+            }
+        }
+
+        coalesced.increment();
+        return await(leader, call);
+    }
+
+    /**
+     * Detaches the in-flight call for {@code key}, if any (see class notes).
+     */
+    void cancel(String key) {
+        if (key == null) return;
+        Flight<T> flight = flights.remove(key);
+        if (flight != null) {
+            flight.cancelled = true;
+        }
+    }
+
+    /**
+     * Waits for the leader's outcome; a cancelled flight is re-run by the waiter whether it succeeded or failed.
+     */
+    private static <T> T await(Flight<T> flight, Supplier<T> call) {
+        T result;
+        try {
+            result = flight.join();
+        } catch (CompletionException ex) {
+            if (flight.cancelled) {
+                return call.get();
+            }
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        return flight.cancelled ? call.get() : result;
+    }
+
+    private static final class Flight<T> extends CompletableFuture<T> {
+        private volatile boolean cancelled;
+    }
+}
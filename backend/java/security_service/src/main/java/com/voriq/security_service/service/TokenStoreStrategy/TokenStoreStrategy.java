@@ -42,6 +42,35 @@ public interface TokenStoreStrategy {
      */
     void saveToken(String token, UUID userId);
 
+    /**
+     * Takes the reads {@link #saveToken(String, UUID)} needs (e.g. the user's active sessions) without changing
+     * anything visible to clients, so they can overlap with other work before the caller is authenticated.
+     *
+     * <p>The result is only valid for {@link #saveToken(String, UUID, SavePrecheck)} of the same strategy.
+     * Strategies whose reads are cheap return {@code null}.</p>
+     *
+     * @param userId the owner's UUID
+     * @return precheck to pass to {@link #saveToken(String, UUID, SavePrecheck)}, or {@code null}
+     * @throws RuntimeException if an infrastructure error occurs
+     */
+    default SavePrecheck precheckSave(UUID userId) {
+        return null;
+    }
+
+    /**
+     * Same as {@link #saveToken(String, UUID)}, reusing the reads of an earlier {@link #precheckSave(UUID)}.
+     * A {@code null} precheck, or one taken by another strategy, is ignored.
+     *
+     * @param token    a non-null token string
+     * @param userId   the owner's UUID
+     * @param precheck result of {@link #precheckSave(UUID)} for {@code userId}, or {@code null}
+     * @throws com.voriq.security_service.exception_handler.exception.RestException if business rules are violated
+     * @throws RuntimeException                                                     if an infrastructure error occurs
+     */
+    default void saveToken(String token, UUID userId, SavePrecheck precheck) {
+        saveToken(token, userId);
+    }
+
     /**
      * Checks whether the provided token is currently valid/active.
      *
@@ -0,0 +1,286 @@
+package com.voriq.security_service.service;
+
+import com.voriq.security_service.repository.ReactiveUserKeyLookup;
+import com.voriq.security_service.repository.UserKeyLookup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, TTL-based cache of {@code userId -> key} in front of the configured {@link UserKeyLookup}.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>Known users are cached for {@code user-key.cache.ttl-ms}; unknown users are cached as <em>negative</em>
+ *       entries for {@code user-key.cache.negative-ttl-ms}, so floods of random {@code userId}s do not reach the
+ *       database.</li>
+ *   <li>Positive and negative entries are kept in separate tables, each bounded by its own
+ *       {@code max-entries}; a negative flood can never evict known users.</li>
+ *   <li>Each table has two generations. When the current one holds half of the bound, the previous one is
+ *       dropped and the current one becomes previous; an entry found in the previous generation is promoted,
+ *       so frequently used users survive eviction.</li>
+ *   <li>{@link #invalidate(UUID)} is called by {@link UserKeyCacheInvalidator} whenever a {@code User} row is
+ *       inserted, updated or deleted through JPA. A lookup that raced with an invalidation is not cached.
+ *       Changes made outside this replica (or by bulk queries) become visible after the TTL.</li>
+ *   <li>Repository errors are not cached and propagate to the caller.</li>
+ *   <li>Disabled with {@code user-key.cache.enabled=false}: every call goes to the repository.</li>
+ *   <li>{@link #findKey(UUID, ReactiveUserKeyLookup)} shares the same tables for the reactive stack.</li>
+ * </ul>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code user.key.cache.requests} — lookups tagged {@code result=hit|negative_hit|miss}
+ *       (hit ratio = hits / all).</li>
+ *   <li>{@code user.key.cache.size} — entries in both tables.</li>
+ *   <li>{@code user.key.lookup} — timer of repository queries (query rate and latency, with p50/p99).</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+public class UserKeyCache {
+
+    private final UserKeyLookup lookup;
+    private final boolean enabled;
+    private final long ttlMs;
+    private final long negativeTtlMs;
+
+    private final Table positive;
+    private final Table negative;
+
+    /**
+     * Bumped on every invalidation; a lookup caches its result only if no invalidation happened meanwhile.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter negativeHits;
+    private final Counter misses;
+    private final Timer lookups;
+
+    public UserKeyCache(UserKeyLookup lookup,
+                        MeterRegistry meterRegistry,
+                        @Value("${user-key.cache.enabled:true}") boolean enabled,
+                        @Value("${user-key.cache.ttl-ms:60000}") long ttlMs,
+                        @Value("${user-key.cache.max-entries:10000}") int maxEntries,
+                        @Value("${user-key.cache.negative-ttl-ms:10000}") long negativeTtlMs,
+                        @Value("${user-key.cache.negative-max-entries:10000}") int negativeMaxEntries) {
+        this.lookup = lookup;
+        this.enabled = enabled;
+        this.ttlMs = ttlMs;
+        this.negativeTtlMs = negativeTtlMs;
+        this.positive = new Table(maxEntries);
+        this.negative = new Table(negativeMaxEntries);
+
+        this.hits = requests(meterRegistry, "hit");
+        this.negativeHits = requests(meterRegistry, "negative_hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.lookups = Timer.builder("user.key.lookup")
+                .description("User key queries sent to the database")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("user.key.cache.size", this, c -> c.positive.size() + c.negative.size())
+                .description("Cached user keys, positive and negative")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the stored key of a user.
+     *
+     * @param userId user id
+     * @return stored key, or {@code null} if the user does not exist
+     * @throws RuntimeException if the repository fails (nothing is cached in that case)
+     */
+    public UUID findKey(UUID userId) {
+        if (!enabled || userId == null) {
+            return load(userId);
+        }
+
+        long now = System.currentTimeMillis();
+        Entry entry = cached(userId, now);
+        if (entry != null) {
+            return entry.key;
+        }
+
+        long version = invalidations.get();
+        UUID key = load(userId);
+        store(userId, key, now, version);
+        return key;
+    }
+
+    /**
+     * Returns the stored key of a user, loading a miss through the non-blocking {@code reactiveLookup}.
+     *
+     * @param userId         user id
+     * @param reactiveLookup lookup used on a miss
+     * @return stored key; completes empty if the user does not exist
+     */
+    public Mono<UUID> findKey(UUID userId, ReactiveUserKeyLookup reactiveLookup) {
+        if (!enabled || userId == null) {
+            return load(userId, reactiveLookup);
+        }
+
+        long now = System.currentTimeMillis();
+        Entry entry = cached(userId, now);
+        if (entry != null) {
+            return Mono.justOrEmpty(entry.key);
+        }
+
+        long version = invalidations.get();
+        return load(userId, reactiveLookup)
+                .doOnNext(key -> store(userId, key, now, version))
+                .switchIfEmpty(Mono.fromRunnable(() -> store(userId, null, now, version)));
+    }
+
+    /**
+     * Tells whether {@link #findKey(UUID)} would answer from memory, without counting a lookup.
+     *
+     * @param userId user id
+     * @return {@code true} if a live positive or negative entry exists
+     */
+    public boolean isCached(UUID userId) {
+        if (!enabled || userId == null) return false;
+        long now = System.currentTimeMillis();
+        return positive.get(userId, now) != null || negative.get(userId, now) != null;
+    }
+
+    /**
+     * Drops any cached entry of the user.
+     *
+     * @param userId user id; {@code null} clears the whole cache
+     */
+    public void invalidate(UUID userId) {
+        invalidations.incrementAndGet();
+        if (userId == null) {
+            positive.clear();
+            negative.clear();
+            return;
+        }
+        positive.remove(userId);
+        negative.remove(userId);
+    }
+
+    /**
+     * Answers from the tables and counts the request.
+     *
+     * @return the live entry (with a {@code null} key for a negative one), or {@code null} on a miss
+     */
+    private Entry cached(UUID userId, long now) {
+        Entry entry = positive.get(userId, now);
+        if (entry != null) {
+            hits.increment();
+            return entry;
+        }
+        entry = negative.get(userId, now);
+        if (entry != null) {
+            negativeHits.increment();
+            return entry;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches a loaded key unless an invalidation happened since {@code version} was read.
+     */
+    private void store(UUID userId, UUID key, long now, long version) {
+        if (invalidations.get() != version) return;
+        if (key != null) {
+            positive.put(userId, new Entry(key, now + ttlMs));
+        } else {
+            negative.put(userId, new Entry(null, now + negativeTtlMs));
+        }
+    }
+
+    private UUID load(UUID userId) {
+        long startedAt = System.nanoTime();
+        try {
+            return lookup.findKeyByUserId(userId);
+        } finally {
+            lookups.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Mono<UUID> load(UUID userId, ReactiveUserKeyLookup reactiveLookup) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return reactiveLookup.findKeyByUserId(userId)
+                    .doFinally(signal -> lookups.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user.key.cache.requests")
+                .description("User key lookups by cache result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry(UUID key, long expiresAt) {
+    }
+
+    /**
+     * Two-generation map bounded to {@code maxEntries}.
+     */
+    private static final class Table {
+
+        private final int generationEntries;
+        private volatile ConcurrentHashMap<UUID, Entry> current = new ConcurrentHashMap<>();
+        private volatile ConcurrentHashMap<UUID, Entry> previous = new ConcurrentHashMap<>();
+
+        private Table(int maxEntries) {
+            this.generationEntries = Math.max(1, maxEntries / 2);
+        }
+
+        private Entry get(UUID userId, long now) {
+            Entry entry = current.get(userId);
+            if (entry == null) {
+                entry = previous.remove(userId);
+                if (entry == null) return null;
+                current.putIfAbsent(userId, entry);
+            }
+            if (entry.expiresAt <= now) {
+                current.remove(userId, entry);
+                return null;
+            }
+            return entry;
+        }
+
+        private void put(UUID userId, Entry entry) {
+            if (current.size() >= generationEntries) {
+                rotate();
+            }
+            current.put(userId, entry);
+        }
+
+        private synchronized void rotate() {
+            if (current.size() < generationEntries) return;
+            previous = current;
+            current = new ConcurrentHashMap<>();
+        }
+
+        private void remove(UUID userId) {
+            current.remove(userId);
+            previous.remove(userId);
+        }
+
+        private void clear() {
+            current.clear();
+            previous.clear();
+        }
+
+        private int size() {
+            return current.size() + previous.size();
+        }
+    }
+}
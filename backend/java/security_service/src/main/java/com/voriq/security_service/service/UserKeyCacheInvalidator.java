@@ -0,0 +1,51 @@
+package com.voriq.security_service.service;
+
+import com.voriq.security_service.domain.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that evicts a {@link User} from the {@link UserKeyCache} when its row changes.
+ *
+ * <p>The entry is dropped as soon as the change is flushed and, inside a transaction, once more after commit,
+ * so a lookup that ran between flush and commit cannot leave the old key cached.</p>
+ *
+ * <p>Registered on {@link User} via {@code @EntityListeners}; Hibernate obtains it from the Spring context.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+public class UserKeyCacheInvalidator {
+
+    private final UserKeyCache userKeyCache;
+
+    /**
+     * @param userKeyCache injected lazily: Hibernate creates this listener while the entity manager factory,
+     *                     which the cache depends on through {@code UserRepository}, is still being built
+     */
+    public UserKeyCacheInvalidator(@Lazy UserKeyCache userKeyCache) {
+        this.userKeyCache = userKeyCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        userKeyCache.invalidate(user.getUserId());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userKeyCache.invalidate(user.getUserId());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.voriq.security_service.service.interfaces;
+
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.domain.dto.TokensDto;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTokenService {
+
+    Mono<TokensDto> createTokens(TokenRequestDto dto);
+
+    Mono<Void> validateToken(String token);
+
+    Mono<Void> revokeToken(String token);
+}
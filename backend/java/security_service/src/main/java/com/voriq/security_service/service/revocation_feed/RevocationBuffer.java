@@ -0,0 +1,94 @@
+package com.voriq.security_service.service.revocation_feed;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded replay buffer of the most recent revocation events from one source.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>Keeps the last {@code capacity} events; older ones are dropped.</li>
+ *   <li>An event from another source (Redis &harr; local fallback) clears the buffer: sequences of different
+ *       sources are unrelated, so nothing before the switch can be replayed.</li>
+ *   <li>{@link #since(String)} answers what a subscriber resuming after {@code lastEventId} missed, or
+ *       {@code null} when that cannot be told (other source, gap, unknown or future id) and the subscriber has to
+ *       reset its state.</li>
+ * </ul>
+ *
+ * <p>Not thread-safe; {@link RevocationFeed} serializes access.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+final class RevocationBuffer {
+
+    private final int capacity;
+    private final ArrayDeque<RevocationEvent> events = new ArrayDeque<>();
+    private String source;
+    private long lastSequence;
+
+    RevocationBuffer(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * @return {@code true} if the event starts a new source and the buffer was cleared
+     */
+    boolean append(RevocationEvent event) {
+        String eventSource = event.source();
+        boolean switched = !eventSource.equals(source);
+        if (switched) {
+            events.clear();
+            source = eventSource;
+        }
+        events.addLast(event);
+        lastSequence = event.sequence();
+        if (events.size() > capacity) {
+            events.removeFirst();
+        }
+        return switched;
+    }
+
+    /**
+     * Drops all events and the source; the next {@link #append(RevocationEvent)} starts a new source.
+     */
+    void clear() {
+        events.clear();
+        source = null;
+        lastSequence = 0;
+    }
+
+    /**
+     * @param lastEventId id of the last event the subscriber saw; {@code null} for a fresh subscriber
+     * @return events after {@code lastEventId} (empty for a fresh subscriber), or {@code null} if the subscriber
+     * must reset
+     */
+    List<RevocationEvent> since(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return List.of();
+        if (source == null) return null;
+
+        long sequence = RevocationEvent.sequenceOf(lastEventId);
+        if (sequence < 0 || sequence > lastSequence || !lastEventId.equals(RevocationEvent.id(source, sequence))) {
+            return null;
+        }
+        if (sequence == lastSequence) return List.of();
+
+        RevocationEvent oldest = events.peekFirst();
+        if (oldest == null || sequence < oldest.sequence() - 1) return null;
+
+        List<RevocationEvent> missed = new ArrayList<>();
+        for (RevocationEvent event : events) {
+            if (event.sequence() > sequence) missed.add(event);
+        }
+        return missed;
+    }
+
+    /**
+     * @return id of the newest event, or {@code null} if nothing was appended yet
+     */
+    String lastId() {
+        return source == null ? null : RevocationEvent.id(source, lastSequence);
+    }
+}
@@ -0,0 +1,47 @@
+package com.voriq.security_service.service.revocation_feed;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One entry of the revocation feed.
+ *
+ * @param id        {@code <source>-<sequence>}: {@code r-<n>} for events shared through Redis, {@code l<instance>-<n>}
+ *                  for events kept locally while Redis was unavailable; sequences are contiguous within a source
+ * @param type      {@link RevocationFeed#TOKEN_REVOKED}, {@link RevocationFeed#USER_BLOCKED} or
+ *                  {@link RevocationFeed#RESET}
+ * @param subject   revoked token or blocked user id; absent for {@code reset}
+ * @param timestamp epoch millis of the revocation
+ * @author RsLan
+ * @since 1.0.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RevocationEvent(String id, String type, String subject, long timestamp) {
+
+    static String id(String source, long sequence) {
+        return source + "-" + sequence;
+    }
+
+    String source() {
+        int dash = id.lastIndexOf('-');
+        return dash > 0 ? id.substring(0, dash) : null;
+    }
+
+    long sequence() {
+        return sequenceOf(id);
+    }
+
+    /**
+     * @return sequence part of an event id, or {@code -1} if the id is malformed
+     */
+    static long sequenceOf(String id) {
+        int dash = id.lastIndexOf('-');
+        if (dash <= 0 || dash == id.length() - 1) return -1;
+        long sequence = 0;
+        for (int i = dash + 1; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9' || sequence > Long.MAX_VALUE / 10 - 1) return -1;
+            sequence = sequence * 10 + (c - '0');
+        }
+        return sequence;
+    }
+}
@@ -0,0 +1,460 @@
+package com.voriq.security_service.service.revocation_feed;
+
+import com.voriq.security_service.exception_handler.exception.NotFoundException;
+import com.voriq.security_service.exception_handler.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Feed of revoked tokens and blocked users for downstream caches, streamed as Server-Sent Events.
+ *
+ * <h3>Publishing</h3>
+ * <ul>
+ *   <li>{@link #tokenRevoked(String)} and {@link #userBlocked(UUID)} append to the Redis stream
+ *       {@code revocation.feed.stream-key} through {@code scripts/revocation_append.lua}, which numbers the events
+ *       {@code 1, 2, 3, ...} atomically across replicas. The stream is trimmed to about
+ *       {@code revocation.feed.stream-max-length} entries.</li>
+ *   <li>Every replica reads new stream entries every {@code revocation.feed.poll-interval-ms} and pushes them to
+ *       its subscribers, so a subscriber sees the events of all replicas.</li>
+ *   <li>The numbering is derived from the stream itself, so it restarts at {@code 1} when the stream is lost (e.g.
+ *       a Redis failover without persistence). A poll that finds nothing new checks for that; the replicas then
+ *       reload the stream tail and their subscribers receive a reset.</li>
+ *   <li>While Redis is unavailable, events are numbered and delivered locally (this replica only) and appended to
+ *       the stream once Redis is back.</li>
+ * </ul>
+ *
+ * <h3>Subscribing</h3>
+ * <ul>
+ *   <li>Events are sent with {@code id: <source>-<sequence>} and {@code event: token_revoked|user_blocked}; the
+ *       JSON data is a {@link RevocationEvent}.</li>
+ *   <li>A subscriber that reconnects with {@code Last-Event-ID} first receives the events it missed, from the last
+ *       {@code revocation.feed.buffer-size} events kept in memory.</li>
+ *   <li>When missed events cannot be replayed (too old, the feed switched between Redis and the local
+ *       fallback, or the stream restarted) the subscriber receives {@code event: reset} and must drop everything
+ *       it cached.</li>
+ *   <li>Idle connections get a comment every {@code revocation.feed.heartbeat-ms}; at most
+ *       {@code revocation.feed.max-subscribers} are kept per replica.</li>
+ * </ul>
+ *
+ * <p>Disabled with {@code revocation.feed.enabled=false}: nothing is published and subscriptions are refused.</p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code revocation.feed.events} — events published, tagged {@code store=redis|local}.</li>
+ *   <li>{@code revocation.feed.subscribers} — open subscriptions.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Service
+@Slf4j
+public class RevocationFeed {
+
+    public static final String TOKEN_REVOKED = "token_revoked";
+    public static final String USER_BLOCKED = "user_blocked";
+    public static final String RESET = "reset";
+
+    static final String REDIS_SOURCE = "r";
+
+    private static final RedisScript<Long> APPEND =
+            RedisScript.of(new ClassPathResource("scripts/revocation_append.lua"), Long.class);
+
+    /**
+     * Stream entries read per poll.
+     */
+    private static final int READ_BATCH = 500;
+
+    private final StringRedisTemplate redis;
+    private final boolean enabled;
+    private final String streamKey;
+    private final long streamMaxLength;
+    private final int bufferSize;
+    private final long emitterTimeoutMs;
+    private final int maxSubscribers;
+
+    private final RevocationBuffer buffer;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Serializes buffer access, subscriber registration and delivery. A lock rather than {@code synchronized}:
+     * sends block on the subscriber sockets, which would pin the carrier of a virtual thread.
+     */
+    private final ReentrantLock deliveryLock = new ReentrantLock();
+
+    /**
+     * Source of events numbered by this replica while Redis is unavailable; unique per process.
+     */
+    private final String localSource = "l" + UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong localSequence = new AtomicLong();
+
+    /**
+     * Local events not yet appended to the Redis stream; replayed by {@link #poll()}.
+     */
+    private final Queue<RevocationEvent> pendingRedisWrites = new ConcurrentLinkedQueue<>();
+
+    private final Counter redisEvents;
+    private final Counter localEvents;
+
+    private volatile boolean redisAvailable = true;
+
+    /**
+     * Id of the last stream entry read; {@code null} until the stream tail was loaded.
+     */
+    private volatile String lastStreamId;
+
+    public RevocationFeed(StringRedisTemplate redis,
+                          MeterRegistry meterRegistry,
+                          @Value("${revocation.feed.enabled:false}") boolean enabled,
+                          @Value("${revocation.feed.stream-key:voriq:revocations}") String streamKey,
+                          @Value("${revocation.feed.stream-max-length:100000}") long streamMaxLength,
+                          @Value("${revocation.feed.buffer-size:10000}") int bufferSize,
+                          @Value("${revocation.feed.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                          @Value("${revocation.feed.max-subscribers:100}") int maxSubscribers) {
+        this.redis = redis;
+        this.enabled = enabled;
+        this.streamKey = streamKey;
+        this.streamMaxLength = streamMaxLength;
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.buffer = new RevocationBuffer(bufferSize);
+
+        this.redisEvents = events(meterRegistry, "redis");
+        this.localEvents = events(meterRegistry, "local");
+        Gauge.builder("revocation.feed.subscribers", subscribers, List::size)
+                .description("Open revocation feed subscriptions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes a revoked token.
+     *
+     * @param token the opaque token, or for a signed token the token id it carries ({@link
+     *              com.voriq.security_service.service.signed_token.SignedToken#tokenId()}), which is also what the
+     *              token store keeps, so a single revocation and a revoke-all publish the same subject
+     */
+    public void tokenRevoked(String token) {
+        publish(TOKEN_REVOKED, token);
+    }
+
+    /**
+     * Publishes a blocked user; its tokens are published separately as they are revoked.
+     */
+    public void userBlocked(UUID userId) {
+        publish(USER_BLOCKED, userId.toString());
+    }
+
+    /**
+     * Opens a subscription.
+     *
+     * @param lastEventId {@code Last-Event-ID} of a reconnecting subscriber, or {@code null}
+     * @return emitter that receives the missed events (or a reset) followed by new ones
+     * @throws NotFoundException           if the feed is disabled
+     * @throws ServiceUnavailableException if {@code revocation.feed.max-subscribers} is reached
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter(emitterTimeoutMs));
+    }
+
+    /**
+     * The missed events are taken from the buffer and the subscriber is registered under {@link #deliveryLock},
+     * then replayed without holding it: events delivered meanwhile are queued on the subscriber and sent after the
+     * replay, so a slow subscriber does not hold up the others and still receives every event in order.
+     */
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        if (!enabled) {
+            throw new NotFoundException("The revocation feed is disabled.");
+        }
+
+        Subscriber subscriber = new Subscriber(emitter);
+        List<RevocationEvent> missed;
+        deliveryLock.lock();
+        try {
+            if (subscribers.size() >= maxSubscribers) {
+                throw new ServiceUnavailableException("Too many revocation feed subscribers. Try again later.");
+            }
+            missed = buffer.since(lastEventId);
+            if (missed == null) {
+                missed = List.of(reset());
+            }
+            subscribers.add(subscriber);
+        } finally {
+            deliveryLock.unlock();
+        }
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        try {
+            for (List<RevocationEvent> events = missed; events != null; events = subscriber.goLiveOrTakeQueued()) {
+                for (RevocationEvent event : events) {
+                    send(emitter, event);
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            drop(subscriber, ex);
+        }
+        return emitter;
+    }
+
+    /**
+     * Replays local events to Redis and delivers stream entries appended since the last poll.
+     * The first successful poll after an outage switches the feed back to Redis.
+     */
+    @Scheduled(fixedDelayString = "${revocation.feed.poll-interval-ms:200}")
+    public void poll() {
+        if (!enabled) return;
+        try {
+            if (lastStreamId == null) {
+                loadTail();
+            }
+            for (RevocationEvent event; (event = pendingRedisWrites.peek()) != null; ) {
+                append(event.type(), event.subject(), event.timestamp());
+                pendingRedisWrites.poll();
+            }
+
+            List<MapRecord<String, Object, Object>> records = redis.opsForStream().range(streamKey,
+                    Range.rightUnbounded(Range.Bound.exclusive(lastStreamId)), Limit.limit().count(READ_BATCH));
+            if (!redisAvailable) {
+                log.info("Revocation feed is shared through Redis again.");
+                redisAvailable = true;
+            }
+            if (records != null && !records.isEmpty()) {
+                deliver(toEvents(records));
+                lastStreamId = records.get(records.size() - 1).getId().getValue();
+            } else if (streamRestarted()) {
+                log.warn("Revocation stream '{}' restarted below entry {}; reloading it.", streamKey, lastStreamId);
+                clearBuffer();
+                loadTail();
+            }
+        } catch (RuntimeException ex) {
+            markRedisUnavailable(ex);
+        }
+    }
+
+    /**
+     * Keeps idle subscriptions open through proxies and drops the ones whose client went away.
+     */
+    @Scheduled(fixedDelayString = "${revocation.feed.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+            } catch (IOException | IllegalStateException ex) {
+                drop(subscriber, ex);
+            }
+        }
+    }
+
+    private void publish(String type, String subject) {
+        if (!enabled) return;
+        long now = System.currentTimeMillis();
+        if (redisAvailable) {
+            try {
+                append(type, subject, now);
+                redisEvents.increment();
+                return;
+            } catch (RuntimeException ex) {
+                markRedisUnavailable(ex);
+            }
+        }
+
+        RevocationEvent event = new RevocationEvent(
+                RevocationEvent.id(localSource, localSequence.incrementAndGet()), type, subject, now);
+        pendingRedisWrites.add(event);
+        while (pendingRedisWrites.size() > bufferSize) {
+            pendingRedisWrites.poll();
+        }
+        localEvents.increment();
+        deliver(List.of(event));
+    }
+
+    private void append(String type, String subject, long timestamp) {
+        redis.execute(APPEND, List.of(streamKey),
+                String.valueOf(streamMaxLength), type, subject, String.valueOf(timestamp));
+    }
+
+    /**
+     * Seeds the replay buffer with the newest stream entries and starts reading after them.
+     */
+    private void loadTail() {
+        List<MapRecord<String, Object, Object>> tail = redis.opsForStream()
+                .reverseRange(streamKey, Range.unbounded(), Limit.limit().count(bufferSize));
+        if (tail == null || tail.isEmpty()) {
+            lastStreamId = "0-0";
+            return;
+        }
+        List<MapRecord<String, Object, Object>> records = new ArrayList<>(tail);
+        Collections.reverse(records);
+        deliver(toEvents(records));
+        lastStreamId = records.get(records.size() - 1).getId().getValue();
+    }
+
+    /**
+     * @return {@code true} if the newest stream entry is older than the last one read, or the stream is gone
+     */
+    private boolean streamRestarted() {
+        if ("0-0".equals(lastStreamId)) return false;
+        List<MapRecord<String, Object, Object>> newest = redis.opsForStream()
+                .reverseRange(streamKey, Range.unbounded(), Limit.limit().count(1));
+        return newest == null || newest.isEmpty()
+                || newest.get(0).getId().getTimestamp() < RecordId.of(lastStreamId).getTimestamp();
+    }
+
+    /**
+     * Forgets the buffered events, whose ids a restarted stream reuses; the next delivered event starts a new
+     * source and is preceded by a reset, and resuming subscribers are reset until then.
+     */
+    private void clearBuffer() {
+        deliveryLock.lock();
+        try {
+            buffer.clear();
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    private void markRedisUnavailable(RuntimeException ex) {
+        if (redisAvailable) {
+            log.warn("Revocation feed falls back to local events, Redis is unavailable: {}", ex.getMessage());
+        }
+        redisAvailable = false;
+    }
+
+    /**
+     * Appends events to the replay buffer and sends them to every subscriber, preceded by a reset when the
+     * events come from another source than the buffered ones.
+     */
+    private void deliver(List<RevocationEvent> events) {
+        deliveryLock.lock();
+        try {
+            for (RevocationEvent event : events) {
+                if (buffer.append(event)) {
+                    broadcast(reset());
+                }
+                broadcast(event);
+            }
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    private void broadcast(RevocationEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queueWhileReplaying(event)) {
+                continue;
+            }
+            try {
+                send(subscriber.emitter, event);
+            } catch (IOException | IllegalStateException ex) {
+                drop(subscriber, ex);
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        subscribers.remove(subscriber);
+        try {
+            subscriber.emitter.completeWithError(cause);
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    private RevocationEvent reset() {
+        return new RevocationEvent(buffer.lastId(), RESET, null, System.currentTimeMillis());
+    }
+
+    private static void send(SseEmitter emitter, RevocationEvent event) throws IOException {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.type());
+        if (event.id() != null) {
+            builder.id(event.id());
+        }
+        emitter.send(builder.data(event, MediaType.APPLICATION_JSON));
+    }
+
+    private static List<RevocationEvent> toEvents(List<MapRecord<String, Object, Object>> records) {
+        List<RevocationEvent> events = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = record.getValue();
+            events.add(new RevocationEvent(
+                    RevocationEvent.id(REDIS_SOURCE, record.getId().getTimestamp()),
+                    String.valueOf(fields.get("type")),
+                    String.valueOf(fields.get("subject")),
+                    Long.parseLong(String.valueOf(fields.get("ts")))));
+        }
+        return events;
+    }
+
+    private static Counter events(MeterRegistry meterRegistry, String store) {
+        return Counter.builder("revocation.feed.events")
+                .description("Revocation events published")
+                .tag("store", store)
+                .register(meterRegistry);
+    }
+
+    /**
+     * An open subscription. Until its replay is done, events broadcast to it are queued instead of sent; the
+     * monitor only guards the queue, no send happens while holding it.
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private List<RevocationEvent> queued = new ArrayList<>();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * @return {@code true} if the subscriber is still replaying and the event was queued for it
+         */
+        private synchronized boolean queueWhileReplaying(RevocationEvent event) {
+            if (queued == null) {
+                return false;
+            }
+            queued.add(event);
+            return true;
+        }
+
+        /**
+         * @return the events queued during the replay so far, or {@code null} once none are left and broadcasts
+         * are sent directly
+         */
+        private synchronized List<RevocationEvent> goLiveOrTakeQueued() {
+            if (queued.isEmpty()) {
+                queued = null;
+                return null;
+            }
+            List<RevocationEvent> events = queued;
+            queued = new ArrayList<>();
+            return events;
+        }
+    }
+}
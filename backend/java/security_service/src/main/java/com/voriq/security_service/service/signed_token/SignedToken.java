@@ -0,0 +1,16 @@
+package com.voriq.security_service.service.signed_token;
+
+import java.util.UUID;
+
+/**
+ * Claims carried by a signed access token.
+ *
+ * @param tokenId    random id of the token; also the key of its session in the token store
+ * @param userId     owner of the token
+ * @param expiresAt  epoch millis after which the token is rejected
+ * @param generation session generation of the owner at issuance; see {@link SignedTokenRevocationList}
+ * @author RsLan
+ * @since 1.0.0
+ */
+public record SignedToken(UUID tokenId, UUID userId, long expiresAt, long generation) {
+}
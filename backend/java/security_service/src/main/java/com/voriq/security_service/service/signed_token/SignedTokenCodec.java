@@ -0,0 +1,149 @@
+package com.voriq.security_service.service.signed_token;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes and verifies signed access tokens.
+ *
+ * <h3>Format</h3>
+ * <p>Unpadded base64url of 65 bytes (87 characters):</p>
+ * <pre>
+ * version (1) | tokenId (16) | userId (16) | expiresAt (8) | generation (8) | HMAC-SHA256, first 16 bytes
+ * </pre>
+ * <p>The claims are readable by anyone; only the MAC is secret. Tokens signed with {@code previousSecret} are
+ * still accepted, so the secret can be rotated without invalidating issued tokens.</p>
+ *
+ * <p>Thread-safe: every call works on its own copy of the initialized {@link Mac}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+final class SignedTokenCodec {
+
+    static final byte VERSION = 1;
+    static final int PAYLOAD_BYTES = 1 + 16 + 16 + 8 + 8;
+    static final int MAC_BYTES = 16;
+    static final int TOKEN_BYTES = PAYLOAD_BYTES + MAC_BYTES;
+    static final int TOKEN_LENGTH = (TOKEN_BYTES * 8 + 5) / 6;
+
+    /**
+     * Shortest accepted secret, in bytes (the HMAC-SHA256 output size).
+     */
+    static final int MIN_SECRET_BYTES = 32;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac signer;
+    private final Mac previous;
+
+    /**
+     * @param secret         signing secret, at least {@link #MIN_SECRET_BYTES} bytes
+     * @param previousSecret secret accepted for verification only; {@code null} or empty if none
+     * @throws IllegalArgumentException if a secret is too short
+     */
+    SignedTokenCodec(byte[] secret, byte[] previousSecret) {
+        this.signer = newMac(secret);
+        this.previous = previousSecret == null || previousSecret.length == 0 ? null : newMac(previousSecret);
+    }
+
+    String encode(SignedToken token) {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES);
+        buffer.put(VERSION);
+        putUuid(buffer, token.tokenId());
+        putUuid(buffer, token.userId());
+        buffer.putLong(token.expiresAt());
+        buffer.putLong(token.generation());
+        byte[] bytes = buffer.array();
+        System.arraycopy(mac(signer, bytes), 0, bytes, PAYLOAD_BYTES, MAC_BYTES);
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * @return the claims of {@code token}, or {@code null} if it is malformed or its signature does not match;
+     * expiry is not checked
+     */
+    SignedToken decode(String token) {
+        if (!isWellFormed(token)) return null;
+        byte[] bytes = DECODER.decode(token);
+        if (bytes[0] != VERSION || !signatureMatches(bytes)) return null;
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, PAYLOAD_BYTES - 1);
+        return new SignedToken(getUuid(buffer), getUuid(buffer), buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Cheap shape check (length and alphabet) that tells signed tokens from anything else without decoding.
+     * The unused low bits of the last character must be zero, so every token has exactly one spelling.
+     */
+    static boolean isWellFormed(String token) {
+        if (token == null || token.length() != TOKEN_LENGTH) return false;
+        int value = 0;
+        for (int i = 0; i < TOKEN_LENGTH; i++) {
+            value = base64urlValue(token.charAt(i));
+            if (value < 0) return false;
+        }
+        int unusedBits = TOKEN_LENGTH * 6 - TOKEN_BYTES * 8;
+        return (value & ((1 << unusedBits) - 1)) == 0;
+    }
+
+    private static int base64urlValue(char c) {
+        if (c >= 'A' && c <= 'Z') return c - 'A';
+        if (c >= 'a' && c <= 'z') return c - 'a' + 26;
+        if (c >= '0' && c <= '9') return c - '0' + 52;
+        if (c == '-') return 62;
+        if (c == '_') return 63;
+        return -1;
+    }
+
+    private boolean signatureMatches(byte[] bytes) {
+        byte[] expected = new byte[MAC_BYTES];
+        System.arraycopy(bytes, PAYLOAD_BYTES, expected, 0, MAC_BYTES);
+        return matches(signer, bytes, expected) || (previous != null && matches(previous, bytes, expected));
+    }
+
+    private static boolean matches(Mac prototype, byte[] bytes, byte[] expected) {
+        byte[] actual = new byte[MAC_BYTES];
+        System.arraycopy(mac(prototype, bytes), 0, actual, 0, MAC_BYTES);
+        return MessageDigest.isEqual(actual, expected);
+    }
+
+    private static byte[] mac(Mac prototype, byte[] bytes) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            mac.update(bytes, 0, PAYLOAD_BYTES);
+            return mac.doFinal();
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException(ALGORITHM + " cannot be cloned", ex);
+        }
+    }
+
+    private static Mac newMac(byte[] secret) {
+        if (secret == null || secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("Token signing secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ALGORITHM + " is not available", ex);
+        }
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
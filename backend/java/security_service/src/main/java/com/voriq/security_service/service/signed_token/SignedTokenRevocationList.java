@@ -0,0 +1,191 @@
+package com.voriq.security_service.service.signed_token;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.voriq.security_service.utilitie.UuidUtilities.parseOrNull;
+
+/**
+ * Revocations of signed tokens that have not expired yet, kept in memory for validation without network I/O.
+ *
+ * <h3>What is kept</h3>
+ * <ul>
+ *   <li><b>Revoked tokens</b> — {@code tokenId -> expiresAt}; dropped once the token would have expired anyway.</li>
+ *   <li><b>Session generations</b> — {@code userId -> generation}, set to the current time when all sessions of
+ *       the user are revoked. A signed token carries the generation of its owner at issuance; tokens with an older
+ *       generation are rejected. Entries are dropped after {@code token.access-token-expiration-ms}, when every
+ *       token issued before them has expired.</li>
+ * </ul>
+ *
+ * <h3>Sync</h3>
+ * <ul>
+ *   <li>Writes go to the local tier first, then to the Redis sorted sets {@code <key-prefix>revoked} and
+ *       {@code <key-prefix>generations} (scored by expiry and generation).</li>
+ *   <li>Every {@code token.signing.revocation-sync-ms} the local tier is merged with both sets, so revocations made
+ *       on other replicas take effect within that interval. Writes that failed while Redis was unavailable are
+ *       replayed first.</li>
+ *   <li>Lookups never touch Redis.</li>
+ * </ul>
+ *
+ * <p>Everything is a no-op unless {@code token.format=signed}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Service
+@Slf4j
+public class SignedTokenRevocationList {
+
+    private final StringRedisTemplate redis;
+    private final boolean enabled;
+    private final long accessExpirationMs;
+    private final String revokedKey;
+    private final String generationsKey;
+
+    private final ConcurrentHashMap<UUID, Long> revokedUntil = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Long> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Local writes not yet stored in Redis; replayed by {@link #sync()}.
+     */
+    private final Set<UUID> pendingTokens = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> pendingGenerations = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean redisAvailable = true;
+
+    public SignedTokenRevocationList(StringRedisTemplate redis,
+                                     @Value("${token.format:opaque}") String format,
+                                     @Value("${token.access-token-expiration-ms}") long accessExpirationMs,
+                                     @Value("${token.signing.revocation-key-prefix:voriq:signed:}") String keyPrefix) {
+        this.redis = redis;
+        this.enabled = SignedTokens.FORMAT_SIGNED.equalsIgnoreCase(format);
+        this.accessExpirationMs = accessExpirationMs;
+        this.revokedKey = keyPrefix + "revoked";
+        this.generationsKey = keyPrefix + "generations";
+    }
+
+    /**
+     * Revokes one token until its expiry.
+     */
+    public void revoke(UUID tokenId, long expiresAt) {
+        if (!enabled) return;
+        revokedUntil.merge(tokenId, expiresAt, Math::max);
+        try {
+            redis.opsForZSet().add(revokedKey, tokenId.toString(), expiresAt);
+            pendingTokens.remove(tokenId);
+        } catch (Exception ex) {
+            pendingTokens.add(tokenId);
+            markRedisUnavailable(ex);
+        }
+    }
+
+    /**
+     * Revokes every token issued to {@code userId} so far by starting a new session generation.
+     */
+    public void revokeSessions(UUID userId) {
+        if (!enabled) return;
+        long generation = generations.merge(userId, System.currentTimeMillis(), (old, now) -> Math.max(old + 1, now));
+        try {
+            storeGeneration(userId, generation);
+            pendingGenerations.remove(userId);
+        } catch (Exception ex) {
+            pendingGenerations.add(userId);
+            markRedisUnavailable(ex);
+        }
+    }
+
+    /**
+     * @return the session generation new tokens of {@code userId} must carry
+     */
+    public long generation(UUID userId) {
+        Long generation = generations.get(userId);
+        return generation != null ? generation : 0L;
+    }
+
+    /**
+     * @return {@code true} if the token itself or all sessions of its owner were revoked
+     */
+    public boolean isRevoked(SignedToken token) {
+        return revokedUntil.containsKey(token.tokenId()) || token.generation() < generation(token.userId());
+    }
+
+    /**
+     * Replays local writes to Redis, merges the remote entries into the local tier and drops expired ones
+     * from both. Any Redis failure aborts the run; the local tier stays authoritative for this replica.
+     */
+    @Scheduled(fixedDelayString = "${token.signing.revocation-sync-ms:1000}")
+    public void sync() {
+        if (!enabled) return;
+        long now = System.currentTimeMillis();
+        long generationFloor = now - accessExpirationMs;
+        revokedUntil.values().removeIf(until -> until <= now);
+        generations.values().removeIf(generation -> generation <= generationFloor);
+
+        try {
+            for (UUID tokenId : pendingTokens) {
+                Long until = revokedUntil.get(tokenId);
+                if (until != null) {
+                    redis.opsForZSet().add(revokedKey, tokenId.toString(), until);
+                }
+                pendingTokens.remove(tokenId);
+            }
+            for (UUID userId : pendingGenerations) {
+                Long generation = generations.get(userId);
+                if (generation != null) {
+                    storeGeneration(userId, generation);
+                }
+                pendingGenerations.remove(userId);
+            }
+
+            ZSetOperations<String, String> zSet = redis.opsForZSet();
+            zSet.removeRangeByScore(revokedKey, Double.NEGATIVE_INFINITY, now);
+            zSet.removeRangeByScore(generationsKey, Double.NEGATIVE_INFINITY, generationFloor);
+            merge(zSet.rangeByScoreWithScores(revokedKey, now, Double.POSITIVE_INFINITY), revokedUntil);
+            merge(zSet.rangeByScoreWithScores(generationsKey, generationFloor, Double.POSITIVE_INFINITY), generations);
+
+            if (!redisAvailable) {
+                log.info("Signed token revocations are synced with Redis again.");
+                redisAvailable = true;
+            }
+        } catch (Exception ex) {
+            markRedisUnavailable(ex);
+        }
+    }
+
+    /**
+     * Stores a generation unless Redis already holds a newer one ({@code ZADD GT}).
+     */
+    private void storeGeneration(UUID userId, long generation) {
+        redis.execute((RedisCallback<Object>) connection -> ((StringRedisConnection) connection)
+                .zAdd(generationsKey, generation, userId.toString(), RedisZSetCommands.ZAddArgs.empty().gt()));
+    }
+
+    private static void merge(Set<ZSetOperations.TypedTuple<String>> remote, Map<UUID, Long> local) {
+        if (remote == null) return;
+        for (ZSetOperations.TypedTuple<String> entry : remote) {
+            UUID id = parseOrNull(entry.getValue());
+            if (id != null && entry.getScore() != null) {
+                local.merge(id, entry.getScore().longValue(), Math::max);
+            }
+        }
+    }
+
+    private void markRedisUnavailable(Exception ex) {
+        if (redisAvailable) {
+            log.warn("Signed token revocations are kept locally, Redis is unavailable: {}", ex.getMessage());
+        }
+        redisAvailable = false;
+    }
+}
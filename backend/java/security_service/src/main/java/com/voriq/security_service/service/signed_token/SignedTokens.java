@@ -0,0 +1,113 @@
+package com.voriq.security_service.service.signed_token;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Issues and verifies signed access tokens ({@code token.format=signed}).
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>A signed token carries its id, owner, expiry and the owner's session generation, signed with
+ *       HMAC-SHA256 (see {@link SignedTokenCodec}). Validation checks the signature, the expiry and the
+ *       {@link SignedTokenRevocationList} — all in memory, without a token store lookup.</li>
+ *   <li>Issuance still records the token id in the token store, so the per-user session limit, blocking and
+ *       revoke-all keep working unchanged.</li>
+ *   <li>Opaque UUID tokens issued before switching formats stay valid; {@link #accepts(String)} tells the two
+ *       apart by shape.</li>
+ *   <li>Secrets ({@code token.signing.secret}, optional {@code token.signing.previous-secret} for rotation) are
+ *       base64 encoded, at least 32 bytes, and must be the same on all replicas.</li>
+ * </ul>
+ *
+ * <p>With the default {@code token.format=opaque} nothing is signed and {@link #accepts(String)} is always
+ * {@code false}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Service
+public class SignedTokens {
+
+    public static final String FORMAT_OPAQUE = "opaque";
+    public static final String FORMAT_SIGNED = "signed";
+
+    private final SignedTokenRevocationList revocationList;
+    private final long accessExpirationMs;
+    private final SignedTokenCodec codec;
+
+    public SignedTokens(SignedTokenRevocationList revocationList,
+                        @Value("${token.format:opaque}") String format,
+                        @Value("${token.access-token-expiration-ms}") long accessExpirationMs,
+                        @Value("${token.signing.secret:}") String secret,
+                        @Value("${token.signing.previous-secret:}") String previousSecret) {
+        this.revocationList = revocationList;
+        this.accessExpirationMs = accessExpirationMs;
+        if (FORMAT_SIGNED.equalsIgnoreCase(format)) {
+            this.codec = new SignedTokenCodec(decodeSecret(secret), decodeSecret(previousSecret));
+        } else if (FORMAT_OPAQUE.equalsIgnoreCase(format)) {
+            this.codec = null;
+        } else {
+            throw new IllegalArgumentException("Unknown token.format '" + format + "', expected opaque or signed");
+        }
+    }
+
+    public boolean isEnabled() {
+        return codec != null;
+    }
+
+    /**
+     * @return {@code true} if signed tokens are enabled and {@code token} has their shape
+     */
+    public boolean accepts(String token) {
+        return codec != null && SignedTokenCodec.isWellFormed(token);
+    }
+
+    /**
+     * Signs a new token for {@code userId}, valid for {@code token.access-token-expiration-ms}.
+     *
+     * @param tokenId id under which the token's session is stored
+     */
+    public String issue(UUID tokenId, UUID userId) {
+        long expiresAt = System.currentTimeMillis() + accessExpirationMs;
+        return codec.encode(new SignedToken(tokenId, userId, expiresAt, revocationList.generation(userId)));
+    }
+
+    /**
+     * Checks the signature only; used where the owner is needed but validity is decided later.
+     *
+     * @return the claims, or {@code null} if the token is malformed or forged
+     */
+    public SignedToken decode(String token) {
+        return codec != null ? codec.decode(token) : null;
+    }
+
+    /**
+     * @return the claims of a genuine, unexpired and unrevoked token; otherwise {@code null}
+     */
+    public SignedToken verify(String token) {
+        SignedToken signed = decode(token);
+        if (signed == null || signed.expiresAt() <= System.currentTimeMillis() || revocationList.isRevoked(signed)) {
+            return null;
+        }
+        return signed;
+    }
+
+    /**
+     * Rejects {@code token} from now on, on every replica once the revocation list is synced.
+     */
+    public void revoke(SignedToken token) {
+        revocationList.revoke(token.tokenId(), token.expiresAt());
+    }
+
+    private static byte[] decodeSecret(String secret) {
+        if (secret == null || secret.isBlank()) return null;
+        try {
+            return Base64.getDecoder().decode(secret.trim());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Token signing secrets must be base64 encoded", ex);
+        }
+    }
+}
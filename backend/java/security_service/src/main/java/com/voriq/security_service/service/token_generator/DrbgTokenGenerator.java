@@ -0,0 +1,144 @@
+package com.voriq.security_service.service.token_generator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.security.DrbgParameters.Capability.RESEED_ONLY;
+
+/**
+ * {@link TokenGenerator} drawing from a pool of independent NIST SP 800-90A DRBG instances.
+ *
+ * <h3>Behavior</h3>
+ * <ul>
+ *   <li>{@code token.generator.stripes} DRBGs (default: twice the CPU count, rounded up to a power of two)
+ *       are instantiated at 256-bit strength, each with its own personalization string. Each call starts at
+ *       a random stripe ({@link ThreadLocalRandom}) and moves on to the next free one instead of waiting, so
+ *       concurrent issuers rarely queue on a lock, however thread ids are spread.</li>
+ *   <li>Each stripe reseeds from the system entropy source after {@code token.generator.reseed-after-tokens}
+ *       tokens.</li>
+ *   <li>With {@code token.generator.batch-size > 0} a stripe fills a buffer of that many tokens in one call
+ *       and hands them out one by one. Tokens generated ahead of time stay in heap memory until issued.</li>
+ *   <li>Output is a version 4, IETF variant UUID with 122 random bits, like {@link UUID#randomUUID()}.</li>
+ *   <li>Default generator; selected by {@code token.generator.type=drbg}.</li>
+ * </ul>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "token.generator.type", havingValue = "drbg", matchIfMissing = true)
+public class DrbgTokenGenerator implements TokenGenerator {
+
+    static final int TOKEN_BYTES = 16;
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public DrbgTokenGenerator(@Value("${token.generator.stripes:0}") int stripes,
+                              @Value("${token.generator.batch-size:64}") int batchSize,
+                              @Value("${token.generator.reseed-after-tokens:1000000}") long reseedAfterTokens) {
+        int requested = stripes > 0 ? stripes : 2 * Runtime.getRuntime().availableProcessors();
+        int size = 1;
+        while (size < requested) size <<= 1;
+        this.stripes = new Stripe[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe(newDrbg(i), Math.max(1, batchSize), Math.max(1, reseedAfterTokens));
+        }
+    }
+
+    @Override
+    public UUID nextToken() {
+        int home = ThreadLocalRandom.current().nextInt(stripes.length);
+        for (int i = 0; i <= mask; i++) {
+            Stripe stripe = stripes[(home + i) & mask];
+            if (stripe.tryLock()) {
+                try {
+                    return stripe.next();
+                } finally {
+                    stripe.unlock();
+                }
+            }
+        }
+        Stripe stripe = stripes[home & mask];
+        stripe.lock();
+        try {
+            return stripe.next();
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * @return number of DRBG instances in the pool
+     */
+    int stripes() {
+        return stripes.length;
+    }
+
+    static UUID toUuid(byte[] bytes, int offset) {
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 8; i++) {
+            msb = (msb << 8) | (bytes[offset + i] & 0xff);
+            lsb = (lsb << 8) | (bytes[offset + 8 + i] & 0xff);
+        }
+        msb = (msb & ~0xf000L) | 0x4000L;
+        lsb = (lsb & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static SecureRandom newDrbg(int stripe) {
+        byte[] personalization = ("voriq-token-" + stripe + "-" + System.nanoTime()).getBytes(StandardCharsets.US_ASCII);
+        try {
+            return SecureRandom.getInstance("DRBG", DrbgParameters.instantiation(256, RESEED_ONLY, personalization));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("DRBG is not available", ex);
+        }
+    }
+
+    /**
+     * One DRBG with its batch buffer; callers hold the stripe's lock.
+     */
+    private static final class Stripe extends ReentrantLock {
+
+        private final SecureRandom random;
+        private final byte[] buffer;
+        private final long reseedAfterTokens;
+        private int position;
+        private long sinceReseed;
+
+        private Stripe(SecureRandom random, int batchSize, long reseedAfterTokens) {
+            this.random = random;
+            this.buffer = new byte[batchSize * TOKEN_BYTES];
+            this.position = buffer.length;
+            this.reseedAfterTokens = reseedAfterTokens;
+        }
+
+        private UUID next() {
+            if (position == buffer.length) {
+                if (sinceReseed >= reseedAfterTokens) {
+                    random.reseed();
+                    sinceReseed = 0;
+                }
+                random.nextBytes(buffer);
+                sinceReseed += buffer.length / TOKEN_BYTES;
+                position = 0;
+            }
+            UUID token = toUuid(buffer, position);
+            Arrays.fill(buffer, position, position + TOKEN_BYTES, (byte) 0);
+            position += TOKEN_BYTES;
+            return token;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.voriq.security_service.service.token_generator;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * {@link TokenGenerator} backed by {@link UUID#randomUUID()}, which shares one JVM-wide {@code SecureRandom}.
+ *
+ * <p>Selected by {@code token.generator.type=jdk}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "token.generator.type", havingValue = "jdk")
+public class JdkTokenGenerator implements TokenGenerator {
+
+    @Override
+    public UUID nextToken() {
+        return UUID.randomUUID();
+    }
+}
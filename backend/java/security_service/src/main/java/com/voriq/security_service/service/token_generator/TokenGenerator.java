@@ -0,0 +1,20 @@
+package com.voriq.security_service.service.token_generator;
+
+import java.util.UUID;
+
+/**
+ * Source of new access tokens.
+ *
+ * <p>Implementations must be thread-safe and return random (version 4, IETF variant) UUIDs drawn from a
+ * cryptographically strong generator. Selected by {@code token.generator.type}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+public interface TokenGenerator {
+
+    /**
+     * @return a new, unpredictable access token
+     */
+    UUID nextToken();
+}
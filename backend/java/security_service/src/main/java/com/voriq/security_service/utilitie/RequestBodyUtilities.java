@@ -0,0 +1,56 @@
+package com.voriq.security_service.utilitie;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+public class RequestBodyUtilities {
+
+    public static final String USER_ID_FIELD = "userId";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Streams over a JSON object and returns the text of its top-level {@code userId} field.
+     *
+     * <p>Nested values are skipped without being materialized. If the field occurs more than once the last
+     * occurrence wins, as when Jackson binds the body, so the logged id is the one the request was bound to.
+     * Scalars are returned as text (like {@code JsonNode.asText()}), containers as an empty string.</p>
+     *
+     * @return the value, or {@code null} if the body is not a JSON object, is malformed before the field,
+     * or has no {@code userId}; for a body malformed after the field, the last value read before the error
+     */
+    public static String extractUserId(byte[] body) {
+        return body == null ? null : extractUserId(body, 0, body.length);
+    }
+
+    /**
+     * Same as {@link #extractUserId(byte[])} for the region {@code body[offset, offset + length)}.
+     */
+    public static String extractUserId(byte[] body, int offset, int length) {
+        if (body == null || length == 0) return null;
+        String userId = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(body, offset, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean match = USER_ID_FIELD.equals(parser.currentName());
+                JsonToken value = parser.nextToken();
+                if (value == null) break;
+                if (match) {
+                    if (value.isStructStart()) {
+                        userId = "";
+                    } else {
+                        userId = value == JsonToken.VALUE_NULL ? "null" : parser.getText();
+                    }
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            // keep the last userId read before the malformed part
+        }
+        return userId;
+    }
+}
@@ -2,6 +2,7 @@ package com.voriq.security_service.utilitie;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.NativeWebRequest;
 
@@ -17,6 +18,10 @@ public class TokenUtilities {
         return extractTokenFromHeader(webRequest.getHeader(HttpHeaders.AUTHORIZATION));
     }
 
+    public static String extractTokenFromRequest(ServerHttpRequest request) {
+        return extractTokenFromHeader(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+    }
+
     private static String extractTokenFromHeader(String authHeader) {
         if (StringUtils.hasText(authHeader) && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
@@ -38,13 +43,10 @@ public class TokenUtilities {
         return mask + uuidString.substring(uuidString.length() - 3);
     }
 
+    /**
+     * Non-throwing canonical UUID check; see {@link UuidUtilities#isUuid(CharSequence)}.
+     */
     public static boolean isUuid(String s) {
-        if (s == null) return false;
-        try {
-            UUID.fromString(s);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return UuidUtilities.isUuid(s);
     }
 }
@@ -0,0 +1,79 @@
+package com.voriq.security_service.utilitie;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+public class UuidUtilities {
+
+    public static final int UUID_LENGTH = 36;
+
+    private static final byte[] HEX = new byte[128];
+
+    static {
+        Arrays.fill(HEX, (byte) -1);
+        for (int i = 0; i < 10; i++) HEX['0' + i] = (byte) i;
+        for (int i = 0; i < 6; i++) {
+            HEX['a' + i] = (byte) (10 + i);
+            HEX['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    /**
+     * Checks that {@code s} is a UUID in canonical form ({@code 8-4-4-4-12} hex digits, either case).
+     *
+     * <p>Never throws and never allocates, unlike a {@link UUID#fromString(String)} guarded by try/catch.
+     * Shortened forms that {@code UUID.fromString} tolerates (e.g. {@code "1-1-1-1-1"}) are rejected.</p>
+     */
+    public static boolean isUuid(CharSequence s) {
+        return hasLayout(s)
+                && (hex(s, 0, 8) | hex(s, 9, 13) | hex(s, 14, 18) | hex(s, 19, 23) | hex(s, 24, 36)) >= 0;
+    }
+
+    /**
+     * Parses a canonical UUID into its two halves without allocating.
+     *
+     * @param s   candidate string
+     * @param out receives the most significant bits at {@code out[0]} and the least significant at {@code out[1]};
+     *            left untouched if {@code s} is not a canonical UUID
+     * @return {@code true} if {@code s} was parsed
+     */
+    public static boolean parse(CharSequence s, long[] out) {
+        if (!hasLayout(s)) return false;
+        long a = hex(s, 0, 8), b = hex(s, 9, 13), c = hex(s, 14, 18), d = hex(s, 19, 23), e = hex(s, 24, 36);
+        if ((a | b | c | d | e) < 0) return false;
+        out[0] = (a << 32) | (b << 16) | c;
+        out[1] = (d << 48) | e;
+        return true;
+    }
+
+    /**
+     * Parses a canonical UUID.
+     *
+     * @return the UUID, or {@code null} if {@code s} is not a canonical UUID
+     */
+    public static UUID parseOrNull(CharSequence s) {
+        if (!hasLayout(s)) return null;
+        long a = hex(s, 0, 8), b = hex(s, 9, 13), c = hex(s, 14, 18), d = hex(s, 19, 23), e = hex(s, 24, 36);
+        if ((a | b | c | d | e) < 0) return null;
+        return new UUID((a << 32) | (b << 16) | c, (d << 48) | e);
+    }
+
+    private static boolean hasLayout(CharSequence s) {
+        return s != null && s.length() == UUID_LENGTH
+                && s.charAt(8) == '-' && s.charAt(13) == '-' && s.charAt(18) == '-' && s.charAt(23) == '-';
+    }
+
+    /**
+     * @return value of the hex digits in {@code s[from, to)} (at most 12), or {@code -1} if any is not a hex digit
+     */
+    private static long hex(CharSequence s, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            int digit = c < 128 ? HEX[c] : -1;
+            if (digit < 0) return -1;
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,17 @@
+-- GCRA admission check shared by all replicas.
+-- KEYS[1] rate-limit key; ARGV[1] emission interval (ms); ARGV[2] tolerance tau (ms).
+-- Returns 0 when admitted, otherwise the retry delay in ms. Time comes from the Redis server.
+local interval = tonumber(ARGV[1])
+local tolerance = tonumber(ARGV[2])
+local t = redis.call('TIME')
+local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+
+local tat = tonumber(redis.call('GET', KEYS[1])) or now
+if tat < now then tat = now end
+if tat - now > tolerance then
+  return tat - tolerance - now
+end
+
+local newTat = tat + interval
+redis.call('SET', KEYS[1], newTat, 'PX', newTat - now)
+return 0
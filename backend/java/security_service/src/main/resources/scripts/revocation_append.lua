@@ -0,0 +1,12 @@
+-- Appends one revocation event with the next sequence number, atomically across replicas.
+-- KEYS[1] stream key; ARGV[1] approximate max stream length; ARGV[2] type; ARGV[3] subject; ARGV[4] timestamp (ms).
+-- Entry ids are "<seq>-0", so the sequence is part of the id. Returns the sequence.
+-- A lost stream restarts the sequence at 1; RevocationFeed detects that and resets its subscribers.
+local last = redis.call('XREVRANGE', KEYS[1], '+', '-', 'COUNT', 1)
+local seq = 1
+if #last > 0 then
+  seq = tonumber(string.match(last[1][1], '^(%d+)')) + 1
+end
+redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], seq .. '-0',
+  'type', ARGV[2], 'subject', ARGV[3], 'ts', ARGV[4])
+return seq
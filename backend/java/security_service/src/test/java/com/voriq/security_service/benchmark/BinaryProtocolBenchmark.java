@@ -0,0 +1,130 @@
+package com.voriq.security_service.benchmark;
+
+import com.voriq.security_service.SecurityServiceApplication;
+import com.voriq.security_service.binary_protocol.BinaryProtocolClient;
+import com.voriq.security_service.binary_protocol.BinaryProtocolServer;
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.domain.entity.User;
+import com.voriq.security_service.repository.UserRepository;
+import com.voriq.security_service.service.interfaces.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.voriq.security_service.config.SecurityConfig.VALIDATE_URL;
+
+/**
+ * Validate latency over localhost: REST endpoint against the binary protocol, one request at a time, pipelined
+ * and batched ({@link #PIPELINE} tokens per invocation, reported per token).
+ *
+ * <p>Needs the Postgres and Redis of the {@code test} profile; per-token and per-IP limits are lifted so that
+ * every REST call reaches the token store. Run with
+ * {@code mvn -Pbenchmark test -Djmh.args="BinaryProtocol -prof gc"}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryProtocolBenchmark {
+
+    private static final int PIPELINE = 32;
+    private static final UUID USER_ID = UUID.fromString("77777777-7777-7777-7777-777777777777");
+    private static final UUID USER_KEY = UUID.fromString("dddddddd-dddd-dddd-dddd-dddddddddddd");
+
+    private ConfigurableApplicationContext context;
+    private HttpClient http;
+    private HttpRequest request;
+    private BinaryProtocolClient client;
+    private UUID token;
+    private List<UUID> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SecurityServiceApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--binary-protocol.enabled=true",
+                        "--binary-protocol.port=0",
+                        "--rate.ip.enabled=false",
+                        "--rate.limit-ms.validate=1",
+                        "--rate.burst.validate=1000000000");
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        if (!userRepository.existsByUserId(USER_ID)) {
+            userRepository.save(User.builder().userId(USER_ID).key(USER_KEY).build());
+        }
+        String accessToken = context.getBean(TokenService.class)
+                .createTokens(new TokenRequestDto(USER_ID, USER_KEY))
+                .getAccessToken();
+        token = UUID.fromString(accessToken);
+        batch = Collections.nCopies(PIPELINE, token);
+
+        String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + context.getEnvironment().getProperty("server.servlet.context-path", "");
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create(base + VALIDATE_URL))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+
+        client = new BinaryProtocolClient("127.0.0.1", context.getBean(BinaryProtocolServer.class).getPort(), 1, 1000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int rest() throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public boolean binary() {
+        return client.validate(token).join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE)
+    public boolean binaryPipelined() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[PIPELINE];
+        for (int i = 0; i < PIPELINE; i++) {
+            futures[i] = client.validate(token);
+        }
+        CompletableFuture.allOf(futures).join();
+        return futures[PIPELINE - 1].isDone();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE)
+    public boolean[] binaryBatch() {
+        return client.validateBatch(batch).join();
+    }
+}
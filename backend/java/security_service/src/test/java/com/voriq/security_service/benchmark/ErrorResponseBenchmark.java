@@ -0,0 +1,96 @@
+package com.voriq.security_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.voriq.security_service.exception_handler.ErrorBodyTemplates;
+import com.voriq.security_service.exception_handler.dto.ErrorResponse;
+import com.voriq.security_service.exception_handler.exception.RestException;
+import com.voriq.security_service.exception_handler.exception.UnauthorizedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of producing one 401 body for an invalid token: throwing an exception with a stack trace and serializing
+ * a fresh {@link ErrorResponse} with Jackson (former path) versus a stackless exception rendered from
+ * {@link ErrorBodyTemplates}.
+ *
+ * <p>Call depth matters for stack capture, so both variants throw from a few frames down. Allocation is reported
+ * with {@code mvn -Pbenchmark test -Djmh.args="ErrorResponseBenchmark -prof gc"}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private static final String PATH = "/api/v1/tokens/validate";
+    private static final String MESSAGE = "Token is invalid.";
+    private static final int DEPTH = 40;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ErrorBodyTemplates templates = new ErrorBodyTemplates(256);
+
+    @Benchmark
+    public byte[] stackTraceAndJackson() throws Exception {
+        try {
+            throwAt(DEPTH, false);
+            return null;
+        } catch (RestException ex) {
+            ErrorResponse response = ErrorResponse.builder()
+                    .timestamp(LocalDateTime.now())
+                    .status(ex.getStatus().value())
+                    .error(ex.getStatus().getReasonPhrase())
+                    .message(new HashSet<>(ex.getMessages()))
+                    .path(PATH)
+                    .build();
+            return objectMapper.writeValueAsBytes(response);
+        }
+    }
+
+    @Benchmark
+    public byte[] stacklessAndTemplate() {
+        try {
+            throwAt(DEPTH, true);
+            return null;
+        } catch (RestException ex) {
+            return templates.render(ex.getStatus(), ex.getMessage(), PATH);
+        }
+    }
+
+    private static void throwAt(int depth, boolean stackless) {
+        if (depth > 0) {
+            throwAt(depth - 1, stackless);
+            return;
+        }
+        throw stackless ? new UnauthorizedException(MESSAGE) : new LegacyUnauthorizedException(MESSAGE);
+    }
+
+    /**
+     * {@link RestException} as it was before: stack trace captured.
+     */
+    private static final class LegacyUnauthorizedException extends RestException {
+        private LegacyUnauthorizedException(String message) {
+            super(HttpStatus.UNAUTHORIZED, message);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.voriq.security_service.benchmark;
+
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.domain.dto.TokensDto;
+import com.voriq.security_service.service.IssuePrecheckExecutor;
+import com.voriq.security_service.service.StartupTimeTracker;
+import com.voriq.security_service.service.TokenRules;
+import com.voriq.security_service.service.TokenServiceImpl;
+import com.voriq.security_service.service.TokenStoreStrategy.SavePrecheck;
+import com.voriq.security_service.service.TokenStoreStrategy.TokenStoreStrategy;
+import com.voriq.security_service.service.UserKeyCache;
+import com.voriq.security_service.service.revocation_feed.RevocationFeed;
+import com.voriq.security_service.service.signed_token.SignedTokenRevocationList;
+import com.voriq.security_service.service.signed_token.SignedTokens;
+import com.voriq.security_service.service.token_generator.JdkTokenGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Issue latency of the sequential flow versus the async one, which overlaps the token store precheck with the
+ * user key lookup.
+ *
+ * <p>The database and Redis are simulated by parking for {@code dbLatencyUs} per key lookup and
+ * {@code redisRttUs} per Redis round trip; the precheck and the write cost {@value #PRECHECK_ROUND_TRIPS} and
+ * {@value #WRITE_ROUND_TRIPS} round trips, as in {@code RedisTokenStoreStrategy} for a user with one live
+ * token. The user key cache is disabled so every issue reaches the "database". Report p50/p99 from the
+ * sample-time histogram.</p>
+ *
+ * <p>Run with {@code mvn -Pbenchmark test -Djmh.args="IssuePipelineBenchmark"}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class IssuePipelineBenchmark {
+
+    private static final int PRECHECK_ROUND_TRIPS = 3;
+    private static final int WRITE_ROUND_TRIPS = 4;
+    private static final long LIFETIME_MS = 900_000;
+    private static final UUID USER_KEY = UUID.fromString("eeeeeeee-eeee-eeee-eeee-eeeeeeeeeeee");
+
+    @Param({"sequential", "async"})
+    public String path;
+
+    @Param({"1000"})
+    public long dbLatencyUs;
+
+    @Param({"250"})
+    public long redisRttUs;
+
+    private IssuePrecheckExecutor executor;
+    private TokenServiceImpl tokenService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StringRedisTemplate redis = new StringRedisTemplate();
+        UserKeyCache userKeyCache = new UserKeyCache(userId -> {
+            park(dbLatencyUs);
+            return USER_KEY;
+        }, registry, false, 60_000, 10_000, 10_000, 10_000);
+        executor = new IssuePrecheckExecutor(registry, "async".equals(path), 16, 256);
+        tokenService = new TokenServiceImpl(
+                userKeyCache,
+                new SimulatedStore(),
+                new JdkTokenGenerator(),
+                new RevocationFeed(redis, registry, false, "bench", 1, 1, 1, 1),
+                new TokenRules(new SignedTokens(
+                        new SignedTokenRevocationList(redis, SignedTokens.FORMAT_OPAQUE, LIFETIME_MS, "bench:"),
+                        SignedTokens.FORMAT_OPAQUE, LIFETIME_MS, "", "")),
+                executor,
+                new StartupTimeTracker(registry));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public TokensDto issue() {
+        return tokenService.createTokens(new TokenRequestDto(UUID.randomUUID(), USER_KEY));
+    }
+
+    private static void park(long micros) {
+        long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(micros);
+        for (long left; (left = deadline - System.nanoTime()) > 0; ) {
+            LockSupport.parkNanos(left);
+        }
+    }
+
+    private final class SimulatedStore implements TokenStoreStrategy {
+
+        @Override
+        public boolean isApplicable() {
+            return true;
+        }
+
+        @Override
+        public SavePrecheck precheckSave(UUID userId) {
+            park(PRECHECK_ROUND_TRIPS * redisRttUs);
+            return new SavePrecheck(this, 1);
+        }
+
+        @Override
+        public void saveToken(String token, UUID userId) {
+            saveToken(token, userId, null);
+        }
+
+        @Override
+        public void saveToken(String token, UUID userId, SavePrecheck precheck) {
+            if (precheck == null || precheck.strategy() != this) {
+                precheckSave(userId);
+            }
+            park(WRITE_ROUND_TRIPS * redisRttUs);
+        }
+
+        @Override
+        public boolean isValid(String token) {
+            return true;
+        }
+
+        @Override
+        public String getSetValueByKey(String key) {
+            return null;
+        }
+
+        @Override
+        public boolean revokeToken(String token) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.voriq.security_service.benchmark;
+
+import com.voriq.security_service.exception_handler.exception.RateLimitExceededException;
+import com.voriq.security_service.rate_limit.GcraRateLimiter;
+import com.voriq.security_service.rate_limit.RateLimitPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contended comparison of the legacy fixed-interval map (exception thrown inside {@code compute})
+ * and {@link GcraRateLimiter}.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test -Djmh.args="RateLimiterBenchmark"}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    /**
+     * Number of distinct keys shared by all threads; fewer keys means more contention.
+     */
+    @Param({"4", "1024"})
+    public int keys;
+
+    private static final long INTERVAL_MS = 1;
+
+    private String[] userIds;
+    private final Map<String, Long> legacyTimestamps = new ConcurrentHashMap<>();
+    private final GcraRateLimiter gcra = new GcraRateLimiter(
+            60_000, Long.MAX_VALUE, new SimpleMeterRegistry());
+    private final RateLimitPolicy strict = new RateLimitPolicy(INTERVAL_MS, 1);
+    private final RateLimitPolicy bursty = new RateLimitPolicy(INTERVAL_MS, 16);
+
+    @Setup
+    public void setUp() {
+        userIds = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            userIds[i] = "00000000-0000-0000-0000-" + String.format("%012d", i);
+        }
+    }
+
+    @Benchmark
+    public long legacyComputeWithThrow() {
+        String key = nextKey();
+        try {
+            legacyTimestamps.compute(key, (k, last) -> {
+                long now = System.currentTimeMillis();
+                if (last != null && now - last < INTERVAL_MS) {
+                    long retryMs = INTERVAL_MS - (now - last);
+                    throw new RateLimitExceededException((retryMs + 999) / 1000);
+                }
+                return now;
+            });
+            return 0L;
+        } catch (RateLimitExceededException ex) {
+            return 1L;
+        }
+    }
+
+    @Benchmark
+    public long gcraBurstOne() {
+        return gcra.tryAcquire(nextKey(), strict);
+    }
+
+    @Benchmark
+    public long gcraBurstSixteen() {
+        return gcra.tryAcquire(nextKey(), bursty);
+    }
+
+    private String nextKey() {
+        return userIds[ThreadLocalRandom.current().nextInt(keys)];
+    }
+}
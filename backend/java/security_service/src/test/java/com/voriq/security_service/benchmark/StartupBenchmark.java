@@ -0,0 +1,227 @@
+package com.voriq.security_service.benchmark;
+
+import com.voriq.security_service.SecurityServiceApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.voriq.security_service.config.SecurityConfig.ISSUE_URL;
+import static com.voriq.security_service.config.SecurityConfig.VALIDATE_URL;
+
+/**
+ * Time-to-first-successful-validate of a fresh JVM: from spawning the packaged application until
+ * {@code GET VALIDATE_URL} first answers {@code 204} for a token issued to the seeded user.
+ *
+ * <p>Modes: {@code jvm} (plain), {@code cds} (AppCDS archive), {@code aot} (Spring AOT,
+ * {@code -Dspring.aot.enabled=true}) and {@code aot_cds} (both, as in the {@code STARTUP_OPTIMIZED} image).
+ * The archive of the CDS modes is made by a training run in the trial setup.</p>
+ *
+ * <p>Runs the jar in {@code target}, extracted, with the {@code dev,test} profiles (H2, users from
+ * {@code DataInitializer}) and rate limits lifted. Package it first; the AOT modes need it processed with the same profiles:
+ * {@code mvn -Pstartup -DskipTests package -Dstartup.aot.jvm-arguments="-Dspring.profiles.active=dev,test"},
+ * then {@code mvn -Pbenchmark test -Djmh.args="Startup"}. Without Redis the token store runs on its in-memory
+ * fallback.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final String USER_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String USER_KEY = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    @Param({"jvm", "cds", "aot", "aot_cds"})
+    public String mode;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    private Path dir;
+    private List<String> command;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Path jar = packagedJar();
+        boolean aot = mode.startsWith("aot");
+        if (aot && !isAotProcessed(jar)) {
+            throw new IllegalStateException(jar + " has no AOT classes, package it with -Pstartup");
+        }
+        dir = Files.createTempDirectory("startup-benchmark-");
+        run(List.of(javaCommand(), "-Djarmode=tools", "-jar", jar.toString(), "extract",
+                "--destination", dir.resolve("app").toString()));
+
+        List<String> jvmArgs = new ArrayList<>();
+        if (aot) jvmArgs.add("-Dspring.aot.enabled=true");
+        if (mode.endsWith("cds")) {
+            Path archive = dir.resolve("application.jsa");
+            List<String> training = new ArrayList<>(jvmArgs);
+            training.add("-XX:ArchiveClassesAtExit=" + archive);
+            training.add("-Dspring.context.exit=onRefresh");
+            run(application(training, freePort()));
+            jvmArgs.add("-XX:SharedArchiveFile=" + archive);
+        }
+        command = jvmArgs;
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) process.destroyForcibly().waitFor();
+            process = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (dir == null) return;
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted((a, b) -> b.compareTo(a)).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public int firstValidate() throws Exception {
+        int port = freePort();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        process = new ProcessBuilder(application(command, port))
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        String base = "http://localhost:" + port + "/api";
+        String token = null;
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue());
+            }
+            try {
+                if (token == null) token = issue(base);
+                if (token != null) {
+                    int status = client.send(HttpRequest.newBuilder(URI.create(base + VALIDATE_URL))
+                                    .header("Authorization", "Bearer " + token)
+                                    .GET().build(),
+                            HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (status == 204) return status;
+                }
+            } catch (IOException notListeningYet) {
+                // the server socket is not bound yet
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("No successful validate within " + TIMEOUT);
+    }
+
+    private String issue(String base) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base + ISSUE_URL))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"userId\":\"" + USER_ID + "\",\"key\":\"" + USER_KEY + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+        return response.statusCode() == 200 && matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * The extracted application jar (its manifest adds {@code lib/}) plus H2, which is test-scoped and not packaged.
+     */
+    private List<String> application(List<String> jvmArgs, int port) {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(javaCommand());
+        cmd.addAll(jvmArgs);
+        cmd.add("-cp");
+        cmd.add(dir.resolve("app").resolve(packagedJar().getFileName()) + File.pathSeparator + h2Jar());
+        cmd.add(SecurityServiceApplication.class.getName());
+        cmd.add("--spring.profiles.active=dev,test");
+        cmd.add("--server.port=" + port);
+        cmd.add("--log.dir=" + dir.resolve("logs"));
+        cmd.add("--rate.ip.enabled=false");
+        cmd.add("--rate.limit-ms.issue=1");
+        cmd.add("--rate.burst.issue=1000000000");
+        cmd.add("--rate.limit-ms.validate=1");
+        cmd.add("--rate.burst.validate=1000000000");
+        return cmd;
+    }
+
+    private static Path packagedJar() {
+        try (Stream<Path> jars = Files.list(Path.of("target"))) {
+            return jars.filter(p -> p.getFileName().toString().matches("security_service-.*\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No jar in target, run mvn package first"))
+                    .toAbsolutePath();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isAotProcessed(Path jar) throws IOException {
+        String initializer = SecurityServiceApplication.class.getName().replace('.', '/')
+                + "__ApplicationContextInitializer.class";
+        try (JarFile file = new JarFile(jar.toFile())) {
+            return file.getEntry("BOOT-INF/classes/" + initializer) != null;
+        }
+    }
+
+    private static String h2Jar() {
+        return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .filter(entry -> Path.of(entry).getFileName().toString().matches("h2-.*\\.jar"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("H2 is not on the test classpath"));
+    }
+
+    private static String javaCommand() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private void run(List<String> cmd) throws IOException, InterruptedException {
+        Process child = new ProcessBuilder(cmd)
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        if (!child.waitFor(TIMEOUT.toMinutes(), TimeUnit.MINUTES) || child.exitValue() != 0) {
+            child.destroyForcibly();
+            throw new IllegalStateException("Failed: " + String.join(" ", cmd));
+        }
+    }
+}
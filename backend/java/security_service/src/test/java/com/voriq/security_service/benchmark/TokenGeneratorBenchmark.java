@@ -0,0 +1,54 @@
+package com.voriq.security_service.benchmark;
+
+import com.voriq.security_service.service.token_generator.DrbgTokenGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contended token generation: {@link UUID#randomUUID()} (one shared {@code SecureRandom}) versus the striped
+ * {@link DrbgTokenGenerator}, with and without pre-generated batches.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test -Djmh.args="TokenGeneratorBenchmark"}; vary the thread count with
+ * {@code -t}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class TokenGeneratorBenchmark {
+
+    private final DrbgTokenGenerator drbg = new DrbgTokenGenerator(0, 0, 1_000_000);
+    private final DrbgTokenGenerator drbgBatched = new DrbgTokenGenerator(0, 64, 1_000_000);
+
+    @Benchmark
+    public UUID jdkRandomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID drbg() {
+        return drbg.nextToken();
+    }
+
+    @Benchmark
+    public UUID drbgBatched() {
+        return drbgBatched.nextToken();
+    }
+}
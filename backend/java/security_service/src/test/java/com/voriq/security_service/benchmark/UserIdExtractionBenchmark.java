@@ -0,0 +1,54 @@
+package com.voriq.security_service.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voriq.security_service.utilitie.RequestBodyUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of reading {@code userId} from an issue body: the former tree parse
+ * ({@code new String} + {@code readTree}) versus the streaming extractor.
+ *
+ * <p>Allocation is reported with {@code mvn -Pbenchmark test -Djmh.args="UserIdExtractionBenchmark -prof gc"}
+ * (see {@code gc.alloc.rate.norm}).</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserIdExtractionBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final byte[] body = ("{\"userId\":\"11111111-1111-1111-1111-111111111111\","
+            + "\"key\":\"aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa\"}").getBytes(StandardCharsets.UTF_8);
+
+    @Benchmark
+    public String treeParse() throws Exception {
+        String json = new String(body, StandardCharsets.UTF_8);
+        JsonNode node = objectMapper.readTree(json);
+        JsonNode userId = node.get("userId");
+        return userId != null ? userId.asText() : null;
+    }
+
+    @Benchmark
+    public String streaming() {
+        return RequestBodyUtilities.extractUserId(body);
+    }
+}
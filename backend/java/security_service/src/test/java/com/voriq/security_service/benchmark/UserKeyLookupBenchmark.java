@@ -0,0 +1,83 @@
+package com.voriq.security_service.benchmark;
+
+import com.voriq.security_service.SecurityServiceApplication;
+import com.voriq.security_service.domain.entity.User;
+import com.voriq.security_service.repository.JdbcUserKeyLookup;
+import com.voriq.security_service.repository.JpaUserKeyLookup;
+import com.voriq.security_service.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User key lookup through Spring Data JPA versus plain JDBC.
+ *
+ * <p>Runs against the in-memory H2 database of the {@code test} profile, so the numbers isolate the
+ * per-call overhead of each path (repository proxy, JPQL, persistence context vs. a bare statement);
+ * network and PostgreSQL planning costs come on top of both in production.</p>
+ *
+ * <p>Run with {@code mvn -Pbenchmark test -Djmh.args="UserKeyLookupBenchmark -prof gc"}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserKeyLookupBenchmark {
+
+    private static final UUID USER_ID = UUID.fromString("55555555-5555-5555-5555-555555555555");
+    private static final UUID USER_KEY = UUID.fromString("eeeeeeee-eeee-eeee-eeee-eeeeeeeeeeee");
+
+    private ConfigurableApplicationContext context;
+    private JpaUserKeyLookup jpa;
+    private JdbcUserKeyLookup jdbc;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SecurityServiceApplication.class)
+                .profiles("test")
+                .properties("server.port=0")
+                .run();
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        if (!userRepository.existsByUserId(USER_ID)) {
+            userRepository.save(User.builder().userId(USER_ID).key(USER_KEY).build());
+        }
+        jpa = new JpaUserKeyLookup(userRepository);
+        jdbc = new JdbcUserKeyLookup(context.getBean(DataSource.class), 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UUID jpa() {
+        return jpa.findKeyByUserId(USER_ID);
+    }
+
+    @Benchmark
+    public UUID jdbc() {
+        return jdbc.findKeyByUserId(USER_ID);
+    }
+}
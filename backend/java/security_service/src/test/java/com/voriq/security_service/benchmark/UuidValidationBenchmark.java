@@ -0,0 +1,70 @@
+package com.voriq.security_service.benchmark;
+
+import com.voriq.security_service.utilitie.UuidUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one token format check: the former {@code UUID.fromString} guarded by try/catch versus
+ * {@link UuidUtilities#isUuid(CharSequence)}, for valid tokens and for the garbage sent in invalid-token floods.
+ *
+ * <p>A validate request used to run the check several times (service, rate limiter, token store); allocation is
+ * reported with {@code mvn -Pbenchmark test -Djmh.args="UuidValidationBenchmark -prof gc"}.</p>
+ *
+ * @author RsLan
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidValidationBenchmark {
+
+    @Param({"valid", "wrong-length", "bad-digit"})
+    public String kind;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        token = switch (kind) {
+            case "valid" -> UUID.randomUUID().toString();
+            case "wrong-length" -> "eyJhbGciOiJIUzI1NiJ9.garbage";
+            default -> "3f2a9c1e-8b7d-4e6f-a5c4-3b2a1d0e9f8z";
+        };
+    }
+
+    @Benchmark
+    public boolean tryCatchFromString() {
+        try {
+            UUID.fromString(token);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean nonThrowingCheck() {
+        return UuidUtilities.isUuid(token);
+    }
+
+    @Benchmark
+    public UUID nonThrowingParse() {
+        return UuidUtilities.parseOrNull(token);
+    }
+}
@@ -0,0 +1,96 @@
+package com.voriq.security_service.benchmark;
+
+import com.voriq.security_service.SecurityServiceApplication;
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.domain.entity.User;
+import com.voriq.security_service.repository.UserRepository;
+import com.voriq.security_service.service.interfaces.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.voriq.security_service.config.SecurityConfig.VALIDATE_URL;
+
+/**
+ * End-to-end latency of {@code GET VALIDATE_URL} over HTTP: the regular MVC path against the servlet fast path
+ * ({@code fast-path.validate.enabled}).
+ *
+ * <p>Needs the Postgres and Redis of the {@code test} profile. Per-token and per-IP limits are lifted so that
+ * every call reaches the token store. Run with {@code mvn -Pbenchmark test -Djmh.args="ValidateEndpoint -prof gc"}
+ * to compare allocation per request as well.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidateEndpointBenchmark {
+
+    private static final UUID USER_ID = UUID.fromString("66666666-6666-6666-6666-666666666666");
+    private static final UUID USER_KEY = UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    @Param({"mvc", "fast-path"})
+    public String path;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SecurityServiceApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--fast-path.validate.enabled=" + "fast-path".equals(path),
+                        "--rate.ip.enabled=false",
+                        "--rate.limit-ms.validate=1",
+                        "--rate.burst.validate=1000000000");
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        if (!userRepository.existsByUserId(USER_ID)) {
+            userRepository.save(User.builder().userId(USER_ID).key(USER_KEY).build());
+        }
+        String token = context.getBean(TokenService.class)
+                .createTokens(new TokenRequestDto(USER_ID, USER_KEY))
+                .getAccessToken();
+
+        String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + context.getEnvironment().getProperty("server.servlet.context-path", "");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create(base + VALIDATE_URL))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int validate() throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,188 @@
+package com.voriq.security_service.benchmark;
+
+import com.voriq.security_service.SecurityServiceApplication;
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.domain.entity.User;
+import com.voriq.security_service.repository.UserRepository;
+import com.voriq.security_service.service.interfaces.ReactiveTokenService;
+import com.voriq.security_service.service.interfaces.TokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.voriq.security_service.config.SecurityConfig.VALIDATE_URL;
+
+/**
+ * {@code GET VALIDATE_URL} under 1k&ndash;10k concurrent keep-alive connections, served by the three deployments:
+ * {@code platform} (Tomcat pool of {@code server.tomcat.threads.max}), {@code virtual} (Tomcat on virtual threads,
+ * {@code spring.threads.virtual.enabled}) and {@code reactive} (WebFlux on Reactor Netty with reactive Redis,
+ * {@code spring.main.web-application-type=reactive}).
+ *
+ * <p>One operation is a round: every connection sends one request, then all responses are read, so all
+ * {@code connections} requests are in flight at once. The score is the time of a round; divide
+ * {@code connections} by it for the throughput.</p>
+ *
+ * <p>The {@code virtual} mode needs Java 21 ({@code mvn -Pjava21 -Pbenchmark test
+ * -Djmh.args="VirtualThreadLoad"} on a JDK 21). Needs the Redis of the {@code test} profile and about
+ * {@code 2 * connections} file descriptors ({@code ulimit -n}). Per-token and per-IP limits and load shedding
+ * are lifted so that every request reaches the token store.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+
+    private static final UUID USER_ID = UUID.fromString("77777777-7777-7777-7777-777777777777");
+    private static final UUID USER_KEY = UUID.fromString("eeeeeeee-eeee-eeee-eeee-eeeeeeeeeeee");
+
+    @Param({"platform", "virtual", "reactive"})
+    public String stack;
+
+    @Param({"1000", "10000"})
+    public int connections;
+
+    private ConfigurableApplicationContext context;
+    private Socket[] sockets;
+    private InputStream[] in;
+    private OutputStream[] out;
+    private byte[] request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        boolean virtual = "virtual".equals(stack);
+        boolean reactive = "reactive".equals(stack);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21, running " + Runtime.version());
+        }
+        context = new SpringApplicationBuilder(SecurityServiceApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.main.web-application-type=" + (reactive ? "reactive" : "servlet"),
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--server.tomcat.max-connections=" + (connections + 100),
+                        "--server.tomcat.accept-count=" + connections,
+                        "--server.tomcat.max-keep-alive-requests=-1",
+                        "--concurrency.enabled=false",
+                        "--rate.ip.enabled=false",
+                        "--rate.limit-ms.validate=1",
+                        "--rate.burst.validate=1000000000");
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        if (!userRepository.existsByUserId(USER_ID)) {
+            userRepository.save(User.builder().userId(USER_ID).key(USER_KEY).build());
+        }
+        TokenRequestDto issue = new TokenRequestDto(USER_ID, USER_KEY);
+        String token = reactive
+                ? context.getBean(ReactiveTokenService.class).createTokens(issue).block().getAccessToken()
+                : context.getBean(TokenService.class).createTokens(issue).getAccessToken();
+
+        int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+        String basePath = reactive ? "spring.webflux.base-path" : "server.servlet.context-path";
+        String path = context.getEnvironment().getProperty(basePath, "") + VALIDATE_URL;
+        request = ("GET " + path + " HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Authorization: Bearer " + token + "\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII);
+
+        sockets = new Socket[connections];
+        in = new InputStream[connections];
+        out = new OutputStream[connections];
+        for (int i = 0; i < connections; i++) {
+            Socket socket = new Socket();
+            socket.setTcpNoDelay(true);
+            socket.connect(new InetSocketAddress("localhost", port), 10_000);
+            sockets[i] = socket;
+            in[i] = new BufferedInputStream(socket.getInputStream(), 512);
+            out[i] = socket.getOutputStream();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (sockets != null) {
+            for (Socket socket : sockets) {
+                try {
+                    if (socket != null) socket.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public int round() throws IOException {
+        for (OutputStream stream : out) {
+            stream.write(request);
+            stream.flush();
+        }
+        int ok = 0;
+        for (InputStream stream : in) {
+            int status = readResponse(stream);
+            if (status != 204) {
+                throw new IllegalStateException("Unexpected status " + status);
+            }
+            ok++;
+        }
+        return ok;
+    }
+
+    /**
+     * Reads one HTTP/1.1 response with a {@code Content-Length} (or no) body.
+     *
+     * @return the status code
+     */
+    private static int readResponse(InputStream stream) throws IOException {
+        String statusLine = readLine(stream);
+        int status = Integer.parseInt(statusLine.substring(9, 12));
+        long contentLength = 0;
+        for (String line; !(line = readLine(stream)).isEmpty(); ) {
+            if (line.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                contentLength = Long.parseLong(line.substring(15).trim());
+            }
+        }
+        while (contentLength > 0) {
+            long skipped = stream.skip(contentLength);
+            if (skipped <= 0) {
+                if (stream.read() < 0) throw new IOException("Connection closed");
+                skipped = 1;
+            }
+            contentLength -= skipped;
+        }
+        return status;
+    }
+
+    private static String readLine(InputStream stream) throws IOException {
+        StringBuilder line = new StringBuilder(64);
+        for (int b; (b = stream.read()) != '\n'; ) {
+            if (b < 0) throw new IOException("Connection closed");
+            if (b != '\r') line.append((char) b);
+        }
+        return line.toString();
+    }
+}
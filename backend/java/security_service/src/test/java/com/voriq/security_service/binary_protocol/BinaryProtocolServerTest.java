@@ -0,0 +1,99 @@
+package com.voriq.security_service.binary_protocol;
+
+import com.voriq.security_service.service.TokenStoreStrategy.TokenStoreStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Binary protocol server tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class BinaryProtocolServerTest {
+
+    private static final UUID VALID = UUID.fromString("3f2a9c1e-8b7d-4e6f-a5c4-3b2a1d0e9f80");
+    private static final UUID UNKNOWN = UUID.fromString("0c1d2e3f-4a5b-4c6d-8e7f-9a0b1c2d3e4f");
+    private static final UUID OWNER = UUID.fromString("11111111-1111-1111-1111-111111111111");
+
+    private final TokenStoreStrategy store = mock(TokenStoreStrategy.class);
+    private BinaryProtocolServer server;
+    private BinaryProtocolClient client;
+
+    @BeforeEach
+    void setUp() {
+        when(store.isValid(anyString())).thenAnswer(call -> VALID.toString().equals(call.getArgument(0)));
+        when(store.getSetValueByKey(anyString()))
+                .thenAnswer(call -> VALID.toString().equals(call.getArgument(0)) ? OWNER.toString() : "unknown");
+
+        server = new BinaryProtocolServer(store, new SimpleMeterRegistry(), "127.0.0.1", 0, 2, 1024, 8, 4, 16);
+        server.start();
+        client = new BinaryProtocolClient("127.0.0.1", server.getPort(), 2, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop();
+    }
+
+    @Test
+    void validate_batch_validate_and_owner_lookup_answer_from_the_token_store() throws Exception {
+        assertTrue(client.validate(VALID).get(5, TimeUnit.SECONDS));
+        assertFalse(client.validate(UNKNOWN).get(5, TimeUnit.SECONDS));
+        assertArrayEquals(new boolean[]{false, true, false},
+                client.validateBatch(List.of(UNKNOWN, VALID, UNKNOWN)).get(5, TimeUnit.SECONDS));
+        assertEquals(OWNER, client.owner(VALID).get(5, TimeUnit.SECONDS));
+        assertNull(client.owner(UNKNOWN).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void pipelined_requests_beyond_the_in_flight_limit_all_complete() throws Exception {
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            futures.add(client.validate(i % 2 == 0 ? VALID : UNKNOWN));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(i % 2 == 0, futures.get(i).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void malformed_request_and_store_failure_are_reported_by_status() throws Exception {
+        try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            out.writeInt(BinaryProtocol.HEADER_BYTES + 3);
+            out.writeInt(7);
+            out.writeByte(BinaryProtocol.OP_VALIDATE);
+            out.write(new byte[3]);
+            out.flush();
+
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            assertEquals(BinaryProtocol.HEADER_BYTES, in.readInt());
+            assertEquals(7, in.readInt());
+            assertEquals(BinaryProtocol.STATUS_BAD_REQUEST, in.readByte());
+        }
+
+        when(store.isValid(anyString())).thenThrow(new IllegalStateException("Redis down"));
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> client.validate(VALID).get(5, TimeUnit.SECONDS));
+        assertEquals(BinaryProtocol.STATUS_UNAVAILABLE,
+                ((BinaryProtocolClient.StatusException) ex.getCause()).getStatus());
+    }
+}
@@ -0,0 +1,57 @@
+package com.voriq.security_service.config;
+
+import com.voriq.security_service.scheduler.FilesZipper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = StartupConfig.LAZY_INIT_PROPERTY + "=true")
+@ActiveProfiles("test")
+@DisplayName("Startup lazy init tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class StartupConfigIT {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private ScheduledTaskHolder scheduledTaskHolder;
+
+    @Test
+    void springdoc_beans_are_not_created_during_startup() {
+        String[] springdoc = Arrays.stream(beanFactory.getBeanDefinitionNames())
+                .filter(name -> "openApiResource".equals(name) || "springDocConfiguration".equals(name)
+                        || name.startsWith("org.springdoc.") && name.endsWith("SpringDocConfiguration"))
+                .toArray(String[]::new);
+
+        assertTrue(springdoc.length > 0, "Springdoc is on the classpath");
+        for (String name : springdoc) {
+            assertTrue(beanFactory.getBeanDefinition(name).isLazyInit(), name + " is lazy");
+        }
+        assertFalse(beanFactory.containsSingleton("openApiResource"), "OpenAPI resource is created on first use");
+    }
+
+    @Test
+    void files_zipper_is_lazy_but_scheduled_once_the_application_is_ready() {
+        assertTrue(beanFactory.getBeanDefinition("filesZipper").isLazyInit());
+
+        long zipperTasks = scheduledTaskHolder.getScheduledTasks().stream()
+                .map(ScheduledTask::toString)
+                .filter(task -> task.startsWith(FilesZipper.class.getName() + "."))
+                .count();
+        assertEquals(2, zipperTasks);
+    }
+}
@@ -0,0 +1,64 @@
+package com.voriq.security_service.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+import static com.voriq.security_service.config.SecurityConfig.VALIDATE_URL;
+
+/**
+ * With the fast path on, {@code GET VALIDATE_URL} skips the security chain; the response must still carry the
+ * CORS and security headers the chain would have written.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "fast-path.validate.enabled=true",
+        "spring.data.redis.port=1"
+})
+@ActiveProfiles("test")
+@DisplayName("Validate fast path config tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class ValidateFastPathConfigTest {
+
+    private static final String ORIGIN = "http://localhost";
+
+    @LocalServerPort
+    private int port;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port + "/api").build();
+    }
+
+    @Test
+    void fast_path_response_carries_cors_and_security_headers() {
+        client.get().uri(VALIDATE_URL)
+                .header(HttpHeaders.ORIGIN, ORIGIN)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + UUID.randomUUID())
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectHeader().valueEquals(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, ORIGIN)
+                .expectHeader().valueEquals("X-Content-Type-Options", "nosniff")
+                .expectHeader().valueEquals("X-Frame-Options", "DENY");
+    }
+
+    @Test
+    void request_from_a_foreign_origin_is_rejected() {
+        client.get().uri(VALIDATE_URL)
+                .header(HttpHeaders.ORIGIN, "http://evil.example")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + UUID.randomUUID())
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectHeader().doesNotExist(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN);
+    }
+}
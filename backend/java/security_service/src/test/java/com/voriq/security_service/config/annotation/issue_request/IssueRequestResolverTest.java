@@ -0,0 +1,85 @@
+package com.voriq.security_service.config.annotation.issue_request;
+
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.exception_handler.dto.ValidationError;
+import com.voriq.security_service.exception_handler.exception.ValidationException;
+import com.voriq.security_service.filter.IssueRequestParser;
+import com.voriq.security_service.filter.ParsedIssueRequest;
+import com.voriq.security_service.filter.RepeatableBodyRequestWrapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static com.voriq.security_service.filter.IssueRequestParsingFilter.ATTR_ISSUE_REQUEST;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Issue request resolver tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class IssueRequestResolverTest {
+
+    private static final TokenRequestDto DTO = new TokenRequestDto(UUID.randomUUID(), UUID.randomUUID());
+
+    private final IssueRequestParser parser = mock(IssueRequestParser.class);
+    private final IssueRequestResolver resolver = new IssueRequestResolver(parser);
+
+    @SuppressWarnings("unused")
+    private void handler(@IssueRequest TokenRequestDto issueRequest, TokenRequestDto other, @IssueRequest String text) {
+    }
+
+    private static MethodParameter parameter(int index) throws NoSuchMethodException {
+        return MethodParameter.forExecutable(IssueRequestResolverTest.class.getDeclaredMethod("handler",
+                TokenRequestDto.class, TokenRequestDto.class, String.class), index);
+    }
+
+    private static Object resolve(IssueRequestResolver resolver, MockHttpServletRequest request) throws Exception {
+        return resolver.resolveArgument(parameter(0), null, new ServletWebRequest(request), null);
+    }
+
+    @Test
+    void supports_only_annotated_token_request_parameters() throws NoSuchMethodException {
+        assertTrue(resolver.supportsParameter(parameter(0)));
+        assertFalse(resolver.supportsParameter(parameter(1)));
+        assertFalse(resolver.supportsParameter(parameter(2)));
+    }
+
+    @Test
+    void binds_the_request_parsed_by_the_filter_without_parsing_again() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(ATTR_ISSUE_REQUEST, new ParsedIssueRequest(DTO, DTO.getUserId().toString(), null));
+
+        assertSame(DTO, resolve(resolver, request));
+        verifyNoInteractions(parser);
+    }
+
+    @Test
+    void rethrows_the_error_recorded_by_the_filter() {
+        ValidationException recorded = new ValidationException("The error of validation of the request",
+                Set.of(ValidationError.builder().field("userId").message("User id cannot be null").build()));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(ATTR_ISSUE_REQUEST, new ParsedIssueRequest(null, null, recorded));
+
+        assertSame(recorded, assertThrows(ValidationException.class, () -> resolve(resolver, request)));
+    }
+
+    @Test
+    void parses_once_and_stores_the_result_when_the_filter_did_not_run() throws Exception {
+        RepeatableBodyRequestWrapper body = mock(RepeatableBodyRequestWrapper.class);
+        ParsedIssueRequest parsed = new ParsedIssueRequest(DTO, DTO.getUserId().toString(), null);
+        when(parser.readBody(any())).thenReturn(body);
+        when(parser.parse(body)).thenReturn(parsed);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        assertSame(DTO, resolve(resolver, request));
+        assertSame(parsed, request.getAttribute(ATTR_ISSUE_REQUEST));
+        verify(body).release();
+    }
+}
@@ -0,0 +1,113 @@
+package com.voriq.security_service.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Read replica routing data source tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class ReadReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replicaA = mock(DataSource.class);
+    private final DataSource replicaB = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection connectionA = mock(Connection.class);
+    private final Connection connectionB = mock(Connection.class);
+
+    private final ReadReplicaRoutingDataSource routing =
+            new ReadReplicaRoutingDataSource(primary, List.of(replicaA, replicaB));
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void writes_go_to_the_primary_and_reads_alternate_between_replicas() throws SQLException {
+        stubConnections();
+
+        assertSame(primaryConnection, routing.getConnection());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(connectionA, routing.getConnection());
+        assertSame(connectionB, routing.getConnection());
+        assertSame(connectionA, routing.readOnlyView().getConnection());
+    }
+
+    @Test
+    void failed_replica_is_skipped_until_it_validates_again() throws SQLException {
+        stubConnections();
+        when(replicaA.getConnection()).thenThrow(new SQLException("down")).thenReturn(connectionA);
+        when(connectionA.isValid(1)).thenReturn(true);
+        when(connectionB.isValid(1)).thenReturn(true);
+        DataSource reads = routing.readOnlyView();
+
+        assertSame(connectionB, reads.getConnection());
+        assertEquals(1, routing.healthyReplicas());
+        assertSame(connectionB, reads.getConnection());
+
+        routing.checkReplicas(1);
+        assertEquals(2, routing.healthyReplicas());
+    }
+
+    @Test
+    void reads_fall_back_to_the_primary_when_no_replica_is_healthy() throws SQLException {
+        stubConnections();
+        when(replicaA.getConnection()).thenThrow(new SQLException("down"));
+        when(replicaB.getConnection()).thenThrow(new SQLException("down"));
+
+        assertSame(primaryConnection, routing.readOnlyView().getConnection());
+        assertEquals(0, routing.healthyReplicas());
+    }
+
+    @Test
+    void credentials_are_passed_to_the_primary_outside_read_only_transactions() throws SQLException {
+        when(primary.getConnection("app", "secret")).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, routing.getConnection("app", "secret"));
+        verifyNoInteractions(replicaA, replicaB);
+    }
+
+    @Test
+    void credentials_are_passed_to_a_replica_in_read_only_transactions() throws SQLException {
+        when(replicaA.getConnection("reader", "secret")).thenReturn(connectionA);
+        when(replicaB.getConnection("reader", "secret")).thenReturn(connectionB);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(connectionA, routing.getConnection("reader", "secret"));
+        assertSame(connectionB, routing.readOnlyView().getConnection("reader", "secret"));
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void pool_without_credential_support_does_not_mark_a_replica_down() throws SQLException {
+        when(replicaA.getConnection("reader", "secret")).thenThrow(new SQLFeatureNotSupportedException());
+
+        assertThrows(SQLFeatureNotSupportedException.class,
+                () -> routing.readOnlyView().getConnection("reader", "secret"));
+        assertEquals(2, routing.healthyReplicas());
+    }
+
+    private void stubConnections() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaA.getConnection()).thenReturn(connectionA);
+        when(replicaB.getConnection()).thenReturn(connectionB);
+    }
+}
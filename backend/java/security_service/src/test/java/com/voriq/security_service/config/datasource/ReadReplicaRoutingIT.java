@@ -0,0 +1,92 @@
+package com.voriq.security_service.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes between two independent Postgres instances: the primary on {@code localhost:5432} and a "replica" on
+ * {@code localhost:5433} (see the {@code replica} profile in {@code docker-compose.yml}). Each instance is
+ * tagged with a marker table so the test can tell which one served a query.
+ */
+@DisplayName("Read replica routing with two Postgres instances: ")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class ReadReplicaRoutingIT {
+
+    private static final String MARKER = "SELECT name FROM routing_marker";
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReadReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+
+    @BeforeAll
+    void setUp() {
+        primary = pool(5432);
+        replica = pool(5433);
+        mark(primary, "primary");
+        mark(replica, "replica");
+
+        routing = new ReadReplicaRoutingDataSource(primary, List.of(replica));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        routing.close();
+        primary.close();
+    }
+
+    @Test
+    @Order(1)
+    void read_only_transactions_use_the_replica_and_others_the_primary() {
+        assertEquals("replica", readOnly.execute(status -> jdbc.queryForObject(MARKER, String.class)));
+        assertEquals("primary", jdbc.queryForObject(MARKER, String.class));
+        assertEquals("replica", new JdbcTemplate(routing.readOnlyView()).queryForObject(MARKER, String.class));
+    }
+
+    @Test
+    @Order(2)
+    void reads_fall_back_to_the_primary_when_the_replica_is_gone() {
+        replica.close();
+
+        assertEquals("primary", readOnly.execute(status -> jdbc.queryForObject(MARKER, String.class)));
+        routing.checkReplicas(1);
+        assertEquals(0, routing.healthyReplicas());
+    }
+
+    private static HikariDataSource pool(int port) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:postgresql://localhost:" + port + "/" + env("DB_NAME", "securitydb"));
+        pool.setUsername(env("DB_USERNAME", "postgres"));
+        pool.setPassword(env("DB_PASSWORD", "postgres"));
+        pool.setMaximumPoolSize(2);
+        pool.setConnectionTimeout(1_000);
+        return pool;
+    }
+
+    private static void mark(HikariDataSource pool, String name) {
+        JdbcTemplate template = new JdbcTemplate(pool);
+        template.execute("DROP TABLE IF EXISTS routing_marker");
+        template.execute("CREATE TABLE routing_marker (name TEXT)");
+        template.update("INSERT INTO routing_marker VALUES (?)", name);
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value != null ? value : fallback;
+    }
+}
@@ -0,0 +1,237 @@
+package com.voriq.security_service.controller;
+
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.domain.dto.TokensDto;
+import com.voriq.security_service.domain.entity.User;
+import com.voriq.security_service.exception_handler.dto.ErrorResponse;
+import com.voriq.security_service.exception_handler.exception.UserNotFoundException;
+import com.voriq.security_service.repository.UserRepository;
+import com.voriq.security_service.service.TokenStoreStrategy.InMemoryTokenStoreStrategy;
+import com.voriq.security_service.service.interfaces.BlockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+import static com.voriq.security_service.config.SecurityConfig.ISSUE_URL;
+import static com.voriq.security_service.config.SecurityConfig.REVOKE_URL;
+import static com.voriq.security_service.config.SecurityConfig.VALIDATE_URL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The WebFlux deployment against the responses of the servlet API ({@link TokenControllerIT}): same statuses and
+ * error bodies. Redis points at a closed port, so tokens go through the in-memory fallback and user keys are read
+ * over R2DBC from the H2 database of the {@code test} profile.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.data.redis.port=1",
+        "rate.limit-ms.issue=" + ReactiveTokenControllerTest.ISSUE_LIMIT_MS
+})
+@ActiveProfiles("test")
+@DisplayName("Reactive token controller tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class ReactiveTokenControllerTest {
+
+    static final long ISSUE_LIMIT_MS = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BlockService blockService;
+
+    @Autowired
+    private InMemoryTokenStoreStrategy inMemoryTokenStore;
+
+    private WebTestClient client;
+    private UUID userId;
+    private UUID userKey;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + port + "/api").build();
+        userId = UUID.randomUUID();
+        userKey = UUID.randomUUID();
+        userRepository.save(User.builder().userId(userId).key(userKey).build());
+    }
+
+    private WebTestClient.ResponseSpec issue(Object body) {
+        return client.post().uri(ISSUE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange();
+    }
+
+    /**
+     * Issues a token and, as {@link TokenControllerIT} does, waits until the owner's rate limit allows the next call.
+     */
+    private String issueToken() throws InterruptedException {
+        TokensDto tokens = issue(new TokenRequestDto(userId, userKey))
+                .expectStatus().isOk()
+                .expectBody(TokensDto.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(tokens);
+        Thread.sleep(ISSUE_LIMIT_MS + 50);
+        return tokens.getAccessToken();
+    }
+
+    private WebTestClient.ResponseSpec validate(String token) {
+        return client.get().uri(VALIDATE_URL)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .exchange();
+    }
+
+    private static ErrorResponse errorBody(WebTestClient.ResponseSpec response, HttpStatus status, String url) {
+        ErrorResponse body = response
+                .expectStatus().isEqualTo(status)
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(ErrorResponse.class)
+                .returnResult()
+                .getResponseBody();
+        assertNotNull(body);
+        assertEquals(status.value(), body.getStatus());
+        assertEquals(status.getReasonPhrase(), body.getError());
+        assertEquals("/api" + url, body.getPath());
+        assertNotNull(body.getTimestamp());
+        return body;
+    }
+
+    @Nested
+    @DisplayName("POST /api" + ISSUE_URL)
+    class IssueTokenTest {
+
+        @Test
+        void issue_token_should_return_200() throws InterruptedException {
+            String token = issueToken();
+
+            assertTrue(token.matches("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}"));
+        }
+
+        @Test
+        void issue_token_should_return_400_when_user_id_is_not_a_uuid() {
+            ErrorResponse body = errorBody(issue("""
+                    {"userId": "Test1", "key": "%s"}
+                    """.formatted(userKey)), HttpStatus.BAD_REQUEST, ISSUE_URL);
+
+            assertEquals(1, body.getMessage().size());
+        }
+
+        @Test
+        void issue_token_should_return_400_with_validation_errors_when_user_id_is_missing() {
+            ErrorResponse body = errorBody(issue("""
+                    {"key": "%s"}
+                    """.formatted(userKey)), HttpStatus.BAD_REQUEST, ISSUE_URL);
+
+            assertEquals(1, body.getMessage().size());
+            assertTrue(body.getMessage().contains("The error of validation of the request"));
+            assertTrue(body.getValidationErrors().stream().anyMatch(error -> "userId".equals(error.getField())));
+        }
+
+        @Test
+        void issue_token_should_return_403_when_user_is_blocked() {
+            blockService.block(userId);
+
+            ErrorResponse body = errorBody(issue(new TokenRequestDto(userId, userKey)), HttpStatus.FORBIDDEN, ISSUE_URL);
+
+            assertTrue(body.getMessage().contains(
+                    "The active session limit has been exceeded. New sessions are temporarily unavailable."));
+        }
+
+        @Test
+        void issue_token_should_return_404_when_user_not_found() {
+            UUID unknown = UUID.randomUUID();
+
+            ErrorResponse body = errorBody(issue(new TokenRequestDto(unknown, userKey)), HttpStatus.NOT_FOUND, ISSUE_URL);
+
+            assertEquals(new UserNotFoundException(unknown, userKey).getMessages(), body.getMessage());
+        }
+
+        @Test
+        void issue_token_should_return_404_when_key_does_not_match() {
+            UUID wrongKey = UUID.randomUUID();
+
+            ErrorResponse body = errorBody(issue(new TokenRequestDto(userId, wrongKey)), HttpStatus.NOT_FOUND, ISSUE_URL);
+
+            assertEquals(new UserNotFoundException(userId, wrongKey).getMessages(), body.getMessage());
+        }
+
+        @Test
+        void issue_token_should_return_429_when_too_many_requests_from_user() {
+            issue(new TokenRequestDto(userId, userKey)).expectStatus().isOk();
+
+            WebTestClient.ResponseSpec response = issue(new TokenRequestDto(userId, userKey));
+
+            response.expectHeader().exists(HttpHeaders.RETRY_AFTER);
+            errorBody(response, HttpStatus.TOO_MANY_REQUESTS, ISSUE_URL);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api" + VALIDATE_URL)
+    class ValidateTokenTest {
+
+        @Test
+        void validate_token_should_return_204() throws InterruptedException {
+            validate(issueToken())
+                    .expectStatus().isNoContent()
+                    .expectBody().isEmpty();
+        }
+
+        @Test
+        void validate_token_should_return_401_when_token_isnt_valid() {
+            ErrorResponse body = errorBody(validate(UUID.randomUUID().toString()), HttpStatus.UNAUTHORIZED, VALIDATE_URL);
+
+            assertTrue(body.getMessage().contains("Token is invalid."));
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /api" + REVOKE_URL)
+    class RevokeTokenTest {
+
+        @Test
+        void revoke_token_should_return_204_and_invalidate_the_token() throws InterruptedException {
+            String token = issueToken();
+
+            client.delete().uri(REVOKE_URL)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .exchange()
+                    .expectStatus().isNoContent()
+                    .expectBody().isEmpty();
+
+            errorBody(validate(token), HttpStatus.UNAUTHORIZED, VALIDATE_URL);
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis down")
+    class RedisFallbackTest {
+
+        @Test
+        void tokens_are_kept_by_the_in_memory_store() throws InterruptedException {
+            String token = issueToken();
+
+            assertTrue(inMemoryTokenStore.isValid(token));
+            validate(token).expectStatus().isNoContent();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.voriq.security_service.controller;
+
+import com.voriq.security_service.exception_handler.exception.UnauthorizedException;
+import com.voriq.security_service.exception_handler.exception.ValidationException;
+import com.voriq.security_service.service.interfaces.TokenService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("Validate fast path servlet tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class ValidateFastPathServletTest {
+
+    private static final String TOKEN = "3f2a9c1e-8b7d-4e6f-a5c4-3b2a1d0e9f80";
+
+    private final TokenService tokenService = mock(TokenService.class);
+    private final HandlerExceptionResolver resolver = mock(HandlerExceptionResolver.class);
+    private final ValidateFastPathServlet servlet = new ValidateFastPathServlet(tokenService, resolver);
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tokens/validate");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void valid_token_gets_no_content() {
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+
+        servlet.doGet(request, response);
+
+        verify(tokenService).validateToken(TOKEN);
+        assertEquals(204, response.getStatus());
+        verifyNoInteractions(resolver);
+    }
+
+    @Test
+    void rejected_token_is_rendered_by_the_exception_resolver() {
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        UnauthorizedException rejected = new UnauthorizedException("Token is invalid.");
+        doThrow(rejected).when(tokenService).validateToken(TOKEN);
+
+        servlet.doGet(request, response);
+
+        verify(resolver).resolveException(request, response, null, rejected);
+    }
+
+    @Test
+    void missing_token_is_a_validation_error() {
+        servlet.doGet(request, response);
+
+        verifyNoInteractions(tokenService);
+        verify(resolver).resolveException(eq(request), eq(response), isNull(), any(ValidationException.class));
+    }
+}
@@ -0,0 +1,68 @@
+package com.voriq.security_service.exception_handler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.voriq.security_service.exception_handler.exception.UnauthorizedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Error body templates tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class ErrorBodyTemplatesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ErrorBodyTemplates templates = new ErrorBodyTemplates(2);
+
+    @Test
+    void renders_the_same_document_as_the_error_response() throws Exception {
+        UnauthorizedException ex = new UnauthorizedException("Token is invalid.");
+        var response = ex.getResponse();
+        response.setPath("/api/v1/tokens/validate");
+
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsBytes(response));
+        JsonNode actual = objectMapper.readTree(
+                templates.render(ex.getStatus(), ex.getMessage(), "/api/v1/tokens/validate"));
+
+        assertNotNull(LocalDateTime.parse(actual.get("timestamp").asText()));
+        ((ObjectNode) expected).remove("timestamp");
+        ((ObjectNode) actual).remove("timestamp");
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void escapes_message_and_path() throws Exception {
+        JsonNode body = objectMapper.readTree(
+                templates.render(HttpStatus.BAD_REQUEST, "bad \"token\"\n", "/api/\\xé"));
+
+        assertEquals("bad \"token\"\n", body.get("message").get(0).asText());
+        assertEquals("/api/\\xé", body.get("path").asText());
+    }
+
+    @Test
+    void caches_at_most_the_configured_number_of_templates() {
+        for (int i = 0; i < 5; i++) {
+            templates.render(HttpStatus.TOO_MANY_REQUESTS, "Too many requests. Try again in " + i + "s.", "/");
+        }
+        assertEquals(2, templates.size());
+    }
+
+    @Test
+    void stackless_exceptions_capture_no_stack_trace() {
+        assertTrue(new UnauthorizedException("Token is invalid.").isStackless());
+        assertEquals(0, new UnauthorizedException("Token is invalid.").getStackTrace().length);
+        assertFalse(new UnauthorizedException("Token is invalid.", new RuntimeException()).isStackless());
+    }
+}
@@ -0,0 +1,117 @@
+package com.voriq.security_service.filter;
+
+import com.voriq.security_service.exception_handler.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("Per-IP rate limit filter tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class IpRateLimitFilterTest {
+
+    private static final int LIMIT = 3;
+
+    private final HandlerExceptionResolver resolver = mock(HandlerExceptionResolver.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FilterChain chain = mock(FilterChain.class);
+
+    private IpRateLimitFilter filter(boolean enabled) throws Exception {
+        IpRateLimitFilter filter = new IpRateLimitFilter(resolver, registry);
+        ReflectionTestUtils.setField(filter, "enabled", enabled);
+        ReflectionTestUtils.setField(filter, "windowMs", 60_000L);
+        ReflectionTestUtils.setField(filter, "limit", LIMIT);
+        ReflectionTestUtils.setField(filter, "sketchWidth", 1024);
+        filter.afterPropertiesSet();
+        return filter;
+    }
+
+    private static MockHttpServletRequest request(String path, String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api" + path);
+        request.setContextPath("/api");
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    @Test
+    void requests_under_the_limit_pass() throws Exception {
+        IpRateLimitFilter filter = filter(true);
+
+        for (int i = 0; i < LIMIT; i++) {
+            filter.doFilter(request("/v1/tokens/validate", "10.0.0.1"), new MockHttpServletResponse(), chain);
+        }
+
+        verify(chain, times(LIMIT)).doFilter(any(), any());
+        verifyNoInteractions(resolver);
+        assertEquals(0, registry.counter("rate.limiter.ip.rejected").count());
+    }
+
+    @Test
+    void request_over_the_limit_is_rejected_with_429() throws Exception {
+        IpRateLimitFilter filter = filter(true);
+        for (int i = 0; i < LIMIT; i++) {
+            filter.doFilter(request("/v1/tokens/issue", "10.0.0.1"), new MockHttpServletResponse(), chain);
+        }
+
+        MockHttpServletRequest over = request("/v1/tokens/revoke", "10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(over, response, chain);
+
+        verify(chain, times(LIMIT)).doFilter(any(), any());
+        verify(resolver).resolveException(eq(over), eq(response), isNull(), any(RateLimitExceededException.class));
+        assertEquals(1, registry.counter("rate.limiter.ip.rejected").count());
+    }
+
+    @Test
+    void budgets_are_per_ip() throws Exception {
+        IpRateLimitFilter filter = filter(true);
+        for (int i = 0; i < LIMIT; i++) {
+            filter.doFilter(request("/v1/tokens/validate", "10.0.0.1"), new MockHttpServletResponse(), chain);
+        }
+
+        filter.doFilter(request("/v1/tokens/validate", "10.0.0.2"), new MockHttpServletResponse(), chain);
+
+        verify(chain, times(LIMIT + 1)).doFilter(any(), any());
+        verifyNoInteractions(resolver);
+    }
+
+    @Test
+    void disabled_filter_never_rejects() throws Exception {
+        IpRateLimitFilter filter = filter(false);
+
+        for (int i = 0; i < LIMIT * 10; i++) {
+            filter.doFilter(request("/v1/tokens/validate", "10.0.0.1"), new MockHttpServletResponse(), chain);
+        }
+
+        verify(chain, times(LIMIT * 10)).doFilter(any(), any());
+        verify(resolver, never()).resolveException(any(), any(), any(), any());
+    }
+
+    @Test
+    void other_paths_are_not_limited() throws Exception {
+        IpRateLimitFilter filter = filter(true);
+
+        for (int i = 0; i < LIMIT * 2; i++) {
+            filter.doFilter(request("/actuator/health", "10.0.0.1"), new MockHttpServletResponse(), chain);
+        }
+
+        verify(chain, times(LIMIT * 2)).doFilter(any(), any());
+        verifyNoInteractions(resolver);
+    }
+}
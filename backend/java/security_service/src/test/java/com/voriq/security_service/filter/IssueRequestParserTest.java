@@ -0,0 +1,144 @@
+package com.voriq.security_service.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voriq.security_service.exception_handler.exception.PayloadTooLargeException;
+import com.voriq.security_service.exception_handler.exception.ValidationException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Issue request parser tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class IssueRequestParserTest {
+
+    private static final int MAX_BODY_BYTES = 256;
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID USER_KEY = UUID.randomUUID();
+
+    private final IssueRequestParser parser = parser();
+
+    private static IssueRequestParser parser() {
+        IssueRequestParser parser = new IssueRequestParser(new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), new BodyBufferPool(8192, 1 << 20));
+        ReflectionTestUtils.setField(parser, "maxBodyBytes", MAX_BODY_BYTES);
+        return parser;
+    }
+
+    private ParsedIssueRequest parse(String contentType, String body) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/tokens/issue");
+        request.setContentType(contentType);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        RepeatableBodyRequestWrapper wrapped = parser.readBody(request);
+        try {
+            return parser.parse(wrapped);
+        } finally {
+            wrapped.release();
+        }
+    }
+
+    private ParsedIssueRequest parse(String body) throws IOException {
+        return parse(MediaType.APPLICATION_JSON_VALUE, body);
+    }
+
+    @Test
+    void valid_body_is_bound_and_validated() throws IOException {
+        ParsedIssueRequest parsed = parse("{\"userId\":\"%s\",\"key\":\"%s\"}".formatted(USER_ID, USER_KEY));
+
+        assertNull(parsed.error());
+        assertEquals(USER_ID, parsed.dto().getUserId());
+        assertEquals(USER_KEY, parsed.dto().getKey());
+        assertEquals(USER_ID.toString(), parsed.userId());
+    }
+
+    @Test
+    void malformed_json_is_not_readable_and_keeps_the_user_id() throws IOException {
+        ParsedIssueRequest parsed = parse("{\"userId\":\"%s\",\"key\":".formatted(USER_ID));
+
+        assertNull(parsed.dto());
+        HttpMessageNotReadableException error = assertInstanceOf(HttpMessageNotReadableException.class, parsed.error());
+        assertTrue(error.getMessage().startsWith("JSON parse error: "));
+        assertEquals(USER_ID.toString(), parsed.userId());
+    }
+
+    @Test
+    void user_id_that_is_not_a_uuid_is_not_readable() throws IOException {
+        ParsedIssueRequest parsed = parse("{\"userId\":\"Test1\",\"key\":\"%s\"}".formatted(USER_KEY));
+
+        assertInstanceOf(HttpMessageNotReadableException.class, parsed.error());
+        assertEquals("Test1", parsed.userId());
+    }
+
+    @Test
+    void missing_user_id_is_a_validation_error() throws IOException {
+        ParsedIssueRequest parsed = parse("{\"key\":\"%s\"}".formatted(USER_KEY));
+
+        ValidationException error = assertInstanceOf(ValidationException.class, parsed.error());
+        assertEquals("The error of validation of the request", error.getMessage());
+        assertEquals(1, error.getErrors().size());
+        assertEquals("userId", error.getErrors().iterator().next().getField());
+        assertEquals("User id cannot be null", error.getErrors().iterator().next().getMessage());
+        assertNull(parsed.userId());
+    }
+
+    @Test
+    void empty_body_is_missing() throws IOException {
+        ParsedIssueRequest parsed = parse("");
+
+        HttpMessageNotReadableException error = assertInstanceOf(HttpMessageNotReadableException.class, parsed.error());
+        assertEquals("Required request body is missing", error.getMessage());
+    }
+
+    @Test
+    void non_json_content_type_is_not_supported() throws IOException {
+        ParsedIssueRequest parsed = parse(MediaType.TEXT_PLAIN_VALUE,
+                "{\"userId\":\"%s\",\"key\":\"%s\"}".formatted(USER_ID, USER_KEY));
+
+        assertNull(parsed.dto());
+        HttpMediaTypeNotSupportedException error = assertInstanceOf(HttpMediaTypeNotSupportedException.class, parsed.error());
+        assertEquals(MediaType.TEXT_PLAIN, error.getContentType());
+        assertEquals(USER_ID.toString(), parsed.userId());
+    }
+
+    @Test
+    void duplicate_keys_bind_the_last_value() throws IOException {
+        UUID other = UUID.randomUUID();
+
+        ParsedIssueRequest parsed = parse("{\"userId\":\"%s\",\"key\":\"%s\",\"userId\":\"%s\"}"
+                .formatted(other, USER_KEY, USER_ID));
+
+        assertNull(parsed.error());
+        assertEquals(USER_ID, parsed.dto().getUserId());
+        assertEquals(USER_ID.toString(), parsed.userId());
+    }
+
+    @Test
+    void duplicate_keys_in_an_unreadable_body_report_the_last_user_id() throws IOException {
+        ParsedIssueRequest parsed = parse("{\"userId\":\"%s\",\"userId\":\"Test1\",\"key\":\"%s\"}"
+                .formatted(USER_ID, USER_KEY));
+
+        assertInstanceOf(HttpMessageNotReadableException.class, parsed.error());
+        assertEquals("Test1", parsed.userId());
+    }
+
+    @Test
+    void oversized_body_is_rejected_before_parsing() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/tokens/issue");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(new byte[MAX_BODY_BYTES + 1]);
+
+        assertThrows(PayloadTooLargeException.class, () -> parser.readBody(request));
+    }
+}
@@ -0,0 +1,128 @@
+package com.voriq.security_service.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voriq.security_service.exception_handler.dto.ErrorResponse;
+import com.voriq.security_service.exception_handler.dto.ValidationError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static com.voriq.security_service.config.SecurityConfig.ISSUE_URL;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static test_utils.LogTestUtils.getLastLineFromLog;
+import static test_utils.LogTestUtils.removeLastLogLine;
+
+/**
+ * The issue request pipeline (parsing filter, rate limit, argument resolver, logging aspect) answers invalid
+ * requests as {@code @Valid @RequestBody} did. None of the requests reaches the token store.
+ */
+@SpringBootTest(properties = {"rate.limit-ms.issue=1", "rate.burst.issue=1000000"})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Issue request parsing filter tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class IssueRequestParsingFilterTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID USER_KEY = UUID.randomUUID();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    private ErrorResponse perform(String contentType, byte[] body, ResultMatcher expectedStatus) throws Exception {
+        String json = mockMvc.perform(post(ISSUE_URL)
+                        .contentType(contentType)
+                        .content(body))
+                .andExpect(expectedStatus)
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return json.isEmpty() ? null : mapper.readValue(json, ErrorResponse.class);
+    }
+
+    private ErrorResponse perform(String body, ResultMatcher expectedStatus) throws Exception {
+        return perform(MediaType.APPLICATION_JSON_VALUE, body.getBytes(), expectedStatus);
+    }
+
+    private static void assertLogged(String userId, int code) throws Exception {
+        String last = getLastLineFromLog();
+        assertNotNull(last);
+        assertTrue(last.contains("User with ID " + userId), last);
+        assertTrue(last.contains("Code= " + code), last);
+        removeLastLogLine();
+    }
+
+    @Test
+    void malformed_json_returns_400_with_the_parser_message() throws Exception {
+        ErrorResponse body = perform("{\"userId\":\"%s\",\"key\":".formatted(USER_ID), status().isBadRequest());
+
+        assertEquals(HttpStatus.BAD_REQUEST.value(), body.getStatus());
+        assertEquals(1, body.getMessage().size());
+        assertTrue(body.getMessage().iterator().next().startsWith("JSON parse error: "));
+        assertNull(body.getValidationErrors());
+        assertLogged(USER_ID.toString(), 400);
+    }
+
+    @Test
+    void user_id_that_is_not_a_uuid_returns_400_and_is_logged() throws Exception {
+        ErrorResponse body = perform("{\"userId\":\"Test1\",\"key\":\"%s\"}".formatted(USER_KEY),
+                status().isBadRequest());
+
+        assertEquals(HttpStatus.BAD_REQUEST.value(), body.getStatus());
+        assertTrue(body.getMessage().iterator().next().startsWith("JSON parse error: "));
+        assertLogged("Test1", 400);
+    }
+
+    @Test
+    void missing_user_id_returns_400_with_the_validation_errors() throws Exception {
+        ErrorResponse body = perform("{\"key\":\"%s\"}".formatted(USER_KEY), status().isBadRequest());
+
+        assertEquals(HttpStatus.BAD_REQUEST.value(), body.getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST.getReasonPhrase(), body.getError());
+        assertEquals(Set.of("The error of validation of the request"), body.getMessage());
+        assertEquals(Set.of(ValidationError.builder().field("userId").message("User id cannot be null").build()),
+                body.getValidationErrors());
+        assertEquals("/v1/tokens/issue", body.getPath());
+    }
+
+    @Test
+    void wrong_content_type_returns_415() throws Exception {
+        perform(MediaType.TEXT_PLAIN_VALUE, "{\"userId\":\"%s\",\"key\":\"%s\"}".formatted(USER_ID, USER_KEY).getBytes(),
+                status().isUnsupportedMediaType());
+    }
+
+    @Test
+    void oversized_body_returns_413() throws Exception {
+        ErrorResponse body = perform(MediaType.APPLICATION_JSON_VALUE, new byte[64 * 1024],
+                status().isPayloadTooLarge());
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE.value(), body.getStatus());
+    }
+
+    @Test
+    void duplicate_keys_use_the_last_value_for_binding_and_logging() throws Exception {
+        UUID unknown = UUID.randomUUID();
+
+        perform("{\"userId\":\"%s\",\"key\":\"%s\",\"userId\":\"%s\"}".formatted(USER_ID, USER_KEY, unknown),
+                status().isNotFound());
+
+        assertLogged(unknown.toString(), 404);
+    }
+}
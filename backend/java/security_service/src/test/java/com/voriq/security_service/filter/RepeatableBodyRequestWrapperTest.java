@@ -0,0 +1,78 @@
+package com.voriq.security_service.filter;
+
+import com.voriq.security_service.exception_handler.exception.PayloadTooLargeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Repeatable body request wrapper tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class RepeatableBodyRequestWrapperTest {
+
+    private static final byte[] BODY = "{\"userId\":\"u\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final BodyBufferPool pool = new BodyBufferPool(8192, 1 << 20);
+
+    @Test
+    void rejects_bodies_over_the_limit() {
+        MockHttpServletRequest large = new MockHttpServletRequest();
+        large.setContent(new byte[BODY.length + 1]);
+        assertThrows(PayloadTooLargeException.class, () -> RepeatableBodyRequestWrapper.read(large, BODY.length, pool));
+
+        MockHttpServletRequest chunked = new MockHttpServletRequest() {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunked.setContent(new byte[BODY.length + 1]);
+        assertThrows(PayloadTooLargeException.class, () -> RepeatableBodyRequestWrapper.read(chunked, BODY.length, pool));
+        assertTrue(pool.pooledBytes() > 0);
+    }
+
+    @Test
+    void body_can_be_read_repeatedly_with_bulk_operations() throws Exception {
+        RepeatableBodyRequestWrapper wrapper = RepeatableBodyRequestWrapper.read(request(BODY), BODY.length, pool);
+
+        assertEquals(BODY.length, wrapper.getBodyLength());
+        assertArrayEquals(BODY, wrapper.getInputStream().readAllBytes());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(BODY.length, wrapper.getInputStream().transferTo(out));
+        assertArrayEquals(BODY, out.toByteArray());
+
+        InputStream in = wrapper.getInputStream();
+        byte[] chunk = new byte[4];
+        assertEquals(4, in.read(chunk, 0, 4));
+        assertEquals(BODY.length - 4, in.available());
+
+        assertEquals("{\"userId\":\"u\"}", wrapper.getReader().readLine());
+        assertSame(wrapper.getCachedBody(), wrapper.getCachedBody());
+    }
+
+    @Test
+    void released_buffer_is_reused() throws Exception {
+        RepeatableBodyRequestWrapper first = RepeatableBodyRequestWrapper.read(request(BODY), 4096, pool);
+        byte[] buffer = first.getBodyBuffer();
+        first.release();
+        first.release();
+
+        RepeatableBodyRequestWrapper second = RepeatableBodyRequestWrapper.read(request(BODY), 4096, pool);
+        assertSame(buffer, second.getBodyBuffer());
+        assertThrows(NullPointerException.class, first::getInputStream);
+    }
+
+    private static MockHttpServletRequest request(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(body);
+        return request;
+    }
+}
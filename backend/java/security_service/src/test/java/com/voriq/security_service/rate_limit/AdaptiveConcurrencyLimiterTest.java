@@ -0,0 +1,61 @@
+package com.voriq.security_service.rate_limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Adaptive concurrency limiter tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = 1_000_000L;
+    private static final long SLOW = 1_000_000_000L;
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 20, 100, 0.5);
+
+    @Test
+    void low_priority_share_is_shed_first() {
+        for (int i = 0; i < 8; i++) {
+            assertTrue(limiter.tryAcquire(0.8));
+        }
+        assertFalse(limiter.tryAcquire(0.8));
+        assertTrue(limiter.tryAcquire(1.0));
+        assertTrue(limiter.tryAcquire(1.0));
+        assertFalse(limiter.tryAcquire(1.0));
+        assertEquals(10, limiter.inFlight());
+    }
+
+    @Test
+    void slow_or_failed_samples_back_off_down_to_the_minimum() {
+        limiter.tryAcquire(1.0);
+        limiter.release(SLOW, false);
+        assertEquals(5.0, limiter.limit());
+
+        limiter.tryAcquire(1.0);
+        limiter.release(FAST, true);
+        assertEquals(2.5, limiter.limit());
+
+        limiter.tryAcquire(1.0);
+        limiter.release(SLOW, false);
+        assertEquals(2.0, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void fast_samples_grow_the_limit_only_when_it_is_used() {
+        limiter.tryAcquire(1.0);
+        limiter.release(FAST, false);
+        assertEquals(10.0, limiter.limit());
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(1.0);
+        }
+        limiter.release(FAST, false);
+        assertEquals(11.0, limiter.limit());
+    }
+}
@@ -0,0 +1,159 @@
+package com.voriq.security_service.rate_limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("GCRA rate limiter tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class GcraRateLimiterTest {
+
+    private final AtomicLong millis = new AtomicLong(1_000_000L);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final GcraRateLimiter limiter = limiter(10_000, 1_000);
+
+    @Test
+    void burst_one_behaves_like_fixed_interval() {
+        RateLimitPolicy policy = new RateLimitPolicy(300, 1);
+
+        assertEquals(0, limiter.tryAcquire("u", policy));
+        millis.addAndGet(100);
+        assertEquals(200, limiter.tryAcquire("u", policy));
+        millis.addAndGet(200);
+        assertEquals(0, limiter.tryAcquire("u", policy));
+    }
+
+    @Test
+    void burst_is_admitted_then_sustained_rate_applies() {
+        RateLimitPolicy policy = new RateLimitPolicy(1000, 3);
+
+        assertEquals(0, limiter.tryAcquire("u", policy));
+        assertEquals(0, limiter.tryAcquire("u", policy));
+        assertEquals(0, limiter.tryAcquire("u", policy));
+        assertEquals(1000, limiter.tryAcquire("u", policy));
+
+        millis.addAndGet(1000);
+        assertEquals(0, limiter.tryAcquire("u", policy));
+        assertTrue(limiter.tryAcquire("u", policy) > 0);
+    }
+
+    @Test
+    void rejection_does_not_consume_capacity_and_keys_are_independent() {
+        RateLimitPolicy policy = new RateLimitPolicy(500, 1);
+
+        assertEquals(0, limiter.tryAcquire("a", policy));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(500, limiter.tryAcquire("a", policy));
+        }
+        assertEquals(0, limiter.tryAcquire("b", policy));
+
+        millis.addAndGet(500);
+        assertEquals(0, limiter.tryAcquire("a", policy));
+    }
+
+    @Test
+    void idle_keys_are_dropped_with_their_generation() {
+        RateLimitPolicy policy = new RateLimitPolicy(100, 1);
+
+        limiter.tryAcquire("idle", policy);
+        limiter.tryAcquire("active", policy);
+
+        millis.addAndGet(10_000);
+        limiter.tryAcquire("active", policy);
+        assertEquals(2, limiter.size());
+
+        millis.addAndGet(10_000);
+        limiter.tryAcquire("active", policy);
+        assertEquals(1, limiter.size());
+        assertEquals(1.0, registry.get("rate.limiter.evictions").counter().count());
+        assertEquals(1.0, registry.get("rate.limiter.keys").gauge().value());
+    }
+
+    @Test
+    void generation_is_never_shorter_than_the_policy_horizon() {
+        GcraRateLimiter shortLived = limiter(10, 1_000);
+        RateLimitPolicy policy = new RateLimitPolicy(5_000, 1);
+
+        assertEquals(0, shortLived.tryAcquire("u", policy));
+        millis.addAndGet(4_000);
+        shortLived.tryAcquire("other", policy);
+        millis.addAndGet(500);
+        assertEquals(500, shortLived.tryAcquire("u", policy));
+    }
+
+    @Test
+    void overflow_evicts_the_least_recently_used_generation() {
+        GcraRateLimiter bounded = limiter(10_000, 3);
+        RateLimitPolicy policy = new RateLimitPolicy(100, 1);
+
+        bounded.tryAcquire("active", policy);
+        bounded.tryAcquire("idle", policy);
+        millis.addAndGet(10_000);
+        assertEquals(0, bounded.tryAcquire("active", policy));
+        bounded.tryAcquire("new-1", policy);
+
+        // max-keys reached: the generation holding only "idle" is dropped early
+        assertEquals(0, bounded.tryAcquire("new-2", policy));
+        assertEquals(100, bounded.tryAcquire("active", policy));
+        assertEquals(3, bounded.size());
+        assertEquals(1.0, registry.get("rate.limiter.overflow").counter().count());
+        assertEquals(1.0, registry.get("rate.limiter.evictions").counter().count());
+    }
+
+    @Test
+    void flood_of_new_keys_never_switches_limiting_off() {
+        GcraRateLimiter bounded = limiter(60_000, 2);
+        RateLimitPolicy policy = new RateLimitPolicy(100, 1);
+
+        for (int i = 0; i < 10; i++) {
+            bounded.tryAcquire("flood-" + i, policy);
+        }
+
+        assertEquals(0, bounded.tryAcquire("user", policy));
+        assertEquals(100, bounded.tryAcquire("user", policy));
+        assertTrue(bounded.size() <= 3);
+    }
+
+    private GcraRateLimiter limiter(long generationMs, long maxKeys) {
+        return new GcraRateLimiter(new MutableClock(millis), generationMs, maxKeys, registry);
+    }
+
+    private static final class MutableClock extends Clock {
+        private final AtomicLong millis;
+
+        private MutableClock(AtomicLong millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.voriq.security_service.rate_limit;
+
+import com.voriq.security_service.domain.entity.User;
+import com.voriq.security_service.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.UUID;
+
+import static com.voriq.security_service.config.SecurityConfig.ISSUE_URL;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A flood of made-up user ids fills {@code rate.state.max-keys}; the limiter evicts the oldest generation early,
+ * so a real user that is not tracked yet is still served and still rate limited.
+ */
+@SpringBootTest(properties = {"rate.state.max-keys=" + RateStateOverflowTest.MAX_KEYS, "spring.data.redis.port=1"})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Rate limiter overflow tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class RateStateOverflowTest {
+
+    static final int MAX_KEYS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private void issue(UUID userId, UUID key, ResultMatcher expectedStatus) throws Exception {
+        mockMvc.perform(post(ISSUE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"%s\",\"key\":\"%s\"}".formatted(userId, key)))
+                .andExpect(expectedStatus);
+    }
+
+    @Test
+    void new_user_is_served_and_limited_after_a_flood_of_unknown_user_ids() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID key = UUID.randomUUID();
+        userRepository.save(User.builder().userId(userId).key(key).build());
+
+        for (int i = 0; i < MAX_KEYS * 2; i++) {
+            issue(UUID.randomUUID(), UUID.randomUUID(), status().isNotFound());
+        }
+
+        issue(userId, key, status().isOk());
+        issue(userId, key, status().isTooManyRequests());
+        assertTrue(meterRegistry.get("rate.limiter.overflow").counter().count() > 0);
+    }
+}
@@ -0,0 +1,122 @@
+package com.voriq.security_service.rate_limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Simulates several replicas, each with its own Redis connection and local fallback limiter,
+ * sharing one Redis instance on {@code localhost:6379}.
+ */
+@DisplayName("Redis rate limiter multi-replica tests: ")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class RedisGcraRateLimiterIT {
+
+    private static final int REPLICAS = 3;
+    private static final int THREADS_PER_REPLICA = 4;
+    private static final String KEY_PREFIX = "test-rl:";
+
+    private final List<LettuceConnectionFactory> factories = new ArrayList<>();
+    private final List<RedisGcraRateLimiter> replicas = new ArrayList<>();
+    private StringRedisTemplate admin;
+
+    @BeforeAll
+    void setUp() {
+        for (int i = 0; i < REPLICAS; i++) {
+            LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+            factory.afterPropertiesSet();
+            factory.start();
+            factories.add(factory);
+
+            StringRedisTemplate template = new StringRedisTemplate(factory);
+            GcraRateLimiter local = new GcraRateLimiter(Clock.systemUTC(), 60_000, 100_000, new SimpleMeterRegistry());
+            replicas.add(new RedisGcraRateLimiter(template, local, KEY_PREFIX, 5_000));
+        }
+        admin = new StringRedisTemplate(factories.get(0));
+    }
+
+    @AfterAll
+    void tearDown() {
+        factories.forEach(LettuceConnectionFactory::destroy);
+    }
+
+    @Test
+    void global_limit_holds_across_replicas() throws Exception {
+        String userId = UUID.randomUUID().toString();
+        RateLimitPolicy policy = new RateLimitPolicy(100, 5);
+        long durationMs = 2_000;
+
+        long admitted = hammer(userId, policy, durationMs);
+
+        long upperBound = policy.burst() + durationMs / policy.emissionIntervalMs() + 1;
+        assertTrue(admitted <= upperBound, "admitted " + admitted + " > global bound " + upperBound);
+        assertTrue(admitted >= policy.burst(), "burst was not admitted: " + admitted);
+    }
+
+    @Test
+    void token_owner_limit_is_shared_across_replicas() {
+        String userId = UUID.randomUUID().toString();
+        String token = UUID.randomUUID().toString();
+        admin.opsForSet().add(token, userId);
+        admin.expire(token, 10, TimeUnit.SECONDS);
+        RateLimitPolicy policy = new RateLimitPolicy(10_000, 1);
+
+        TokenAcquisition first = replicas.get(0).tryAcquireByToken(token, admin.opsForSet()::randomMember, policy);
+        TokenAcquisition second = replicas.get(1).tryAcquireByToken(token, admin.opsForSet()::randomMember, policy);
+
+        assertEquals(userId, first.userId());
+        assertEquals(0, first.retryAfterMs());
+        assertEquals(userId, second.userId());
+        assertTrue(second.retryAfterMs() > 0);
+
+        admin.delete(List.of(token, KEY_PREFIX + userId));
+    }
+
+    private long hammer(String key, RateLimitPolicy policy, long durationMs) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(REPLICAS * THREADS_PER_REPLICA);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong admitted = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (RedisGcraRateLimiter replica : replicas) {
+                for (int t = 0; t < THREADS_PER_REPLICA; t++) {
+                    futures.add(pool.submit(() -> {
+                        start.await();
+                        long end = System.currentTimeMillis() + durationMs;
+                        while (System.currentTimeMillis() < end) {
+                            if (replica.tryAcquire(key, policy) == 0) {
+                                admitted.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdownNow();
+            admin.delete(KEY_PREFIX + key);
+        }
+        return admitted.get();
+    }
+}
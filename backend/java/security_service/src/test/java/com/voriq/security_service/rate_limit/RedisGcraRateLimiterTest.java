@@ -0,0 +1,76 @@
+package com.voriq.security_service.rate_limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Redis rate limiter fallback tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class RedisGcraRateLimiterTest {
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    private final GcraRateLimiter local = new GcraRateLimiter(Clock.systemUTC(), 60_000, 100, new SimpleMeterRegistry());
+    private final RedisGcraRateLimiter limiter = new RedisGcraRateLimiter(redis, local, "rl:", 60_000);
+    private final RateLimitPolicy policy = new RateLimitPolicy(60_000, 1);
+
+    private static RedisScript<Long> anyScript() {
+        return ArgumentMatchers.any();
+    }
+
+    @Test
+    void falls_back_to_local_limits_and_skips_redis_until_retry_interval() {
+        when(redis.execute(anyScript(), anyList(), any(Object[].class))).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(0, limiter.tryAcquire("user", policy));
+        assertEquals(1, local.size());
+        assertTrue(limiter.tryAcquire("user", policy) > 0);
+
+        verify(redis, times(1)).execute(anyScript(), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void token_owner_is_resolved_by_the_caller_and_only_its_key_is_sent() {
+        String token = UUID.randomUUID().toString();
+        String owner = UUID.randomUUID().toString();
+        when(redis.execute(anyScript(), eq(List.of("rl:" + owner)), any(Object[].class))).thenReturn(1_000L);
+
+        TokenAcquisition acquisition = limiter.tryAcquireByToken(token, t -> owner, policy);
+
+        assertEquals(owner, acquisition.userId());
+        assertEquals(1_000, acquisition.retryAfterMs());
+        verify(redis, never()).execute(anyScript(), eq(List.of(token)), any(Object[].class));
+    }
+
+    @Test
+    void token_path_uses_resolver_when_redis_is_down() {
+        when(redis.execute(anyScript(), anyList(), any(Object[].class))).thenThrow(new RedisConnectionFailureException("down"));
+        String token = UUID.randomUUID().toString();
+        String owner = UUID.randomUUID().toString();
+
+        TokenAcquisition acquisition = limiter.tryAcquireByToken(token, t -> owner, policy);
+
+        assertEquals(owner, acquisition.userId());
+        assertEquals(0, acquisition.retryAfterMs());
+    }
+
+    @Test
+    void non_uuid_token_is_not_sent_to_redis() {
+        TokenAcquisition acquisition = limiter.tryAcquireByToken("not-a-token", t -> "x", policy);
+
+        assertNull(acquisition.userId());
+        verifyNoInteractions(redis);
+    }
+}
@@ -0,0 +1,77 @@
+package com.voriq.security_service.rate_limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Sliding window sketch tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class SlidingWindowSketchTest {
+
+    private final AtomicLong millis = new AtomicLong(1_000_000L);
+    private final SlidingWindowSketch sketch = new SlidingWindowSketch(clock(), 1000, 3, 1024);
+
+    @Test
+    void admits_up_to_the_limit_per_key() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, sketch.tryAcquire("10.0.0.1"));
+        }
+        assertEquals(1000, sketch.tryAcquire("10.0.0.1"));
+        assertEquals(0, sketch.tryAcquire("10.0.0.2"));
+    }
+
+    @Test
+    void previous_window_fades_out() {
+        for (int i = 0; i < 3; i++) {
+            sketch.tryAcquire("10.0.0.1");
+        }
+
+        millis.addAndGet(1000);
+        assertTrue(sketch.tryAcquire("10.0.0.1") > 0);
+
+        millis.addAndGet(900);
+        assertEquals(0, sketch.tryAcquire("10.0.0.1"));
+
+        millis.addAndGet(2000);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, sketch.tryAcquire("10.0.0.1"));
+        }
+    }
+
+    @Test
+    void many_distinct_keys_do_not_block_a_quiet_key() {
+        for (int i = 0; i < 500; i++) {
+            sketch.tryAcquire("192.168." + (i >> 8) + "." + (i & 0xFF));
+        }
+        assertEquals(0, sketch.tryAcquire("10.0.0.1"));
+    }
+
+    private Clock clock() {
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+    }
+}
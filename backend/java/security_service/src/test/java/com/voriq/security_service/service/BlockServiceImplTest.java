@@ -0,0 +1,184 @@
+package com.voriq.security_service.service;
+
+import com.voriq.security_service.service.revocation_feed.RevocationFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Block service tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class BlockServiceImplTest {
+
+    private static final String PREFIX = "blocked:";
+    private static final String TOMBSTONE_PREFIX = "unblocked:" + PREFIX;
+    private static final String CHANNEL = "test:block-events";
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private ValueOperations<String, String> values;
+
+    @Mock
+    private Cursor<String> emptyScan;
+
+    @Mock
+    private RevocationFeed revocationFeed;
+
+    private BlockServiceImpl blockService;
+
+    @BeforeEach
+    void setUp() {
+        when(redis.opsForValue()).thenReturn(values);
+        when(redis.scan(any(ScanOptions.class))).thenReturn(emptyScan);
+        when(values.multiGet(anyList())).thenAnswer(inv -> Collections.nCopies(inv.<List<?>>getArgument(0).size(), null));
+        blockService = blockService(60_000);
+    }
+
+    private BlockServiceImpl blockService(long expirationMs) {
+        BlockServiceImpl service = new BlockServiceImpl(redis, revocationFeed);
+        ReflectionTestUtils.setField(service, "accessExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(service, "blockedPrefix", PREFIX);
+        ReflectionTestUtils.setField(service, "blockChannel", CHANNEL);
+        return service;
+    }
+
+    @Test
+    void block_while_redis_is_down_is_kept_locally_and_replayed() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .doNothing()
+                .when(values).set(anyString(), anyString(), any(Duration.class));
+
+        assertTrue(blockService.block(USER_ID));
+        assertTrue(blockService.isBlocked(USER_ID));
+        verify(revocationFeed).userBlocked(USER_ID);
+
+        blockService.reconcile();
+
+        verify(values, times(2)).set(eq(PREFIX + USER_ID), eq("blocked"), any(Duration.class));
+        assertTrue(blockService.isBlocked(USER_ID));
+    }
+
+    @Test
+    void block_survives_reconcile_after_its_redis_key_was_lost() {
+        blockService.block(USER_ID);
+        verify(values).set(eq(PREFIX + USER_ID), eq("blocked"), any(Duration.class));
+
+        // failover: Redis no longer holds the key and there is no unblock tombstone, so it is written back
+        blockService.reconcile();
+
+        verify(values, times(2)).set(eq(PREFIX + USER_ID), eq("blocked"), any(Duration.class));
+        assertTrue(blockService.isBlocked(USER_ID));
+    }
+
+    @Test
+    void expired_block_is_removed() throws InterruptedException {
+        BlockServiceImpl shortLived = blockService(20);
+        shortLived.block(USER_ID);
+
+        Thread.sleep(40);
+        shortLived.reconcile();
+        shortLived.reconcile();
+
+        assertFalse(shortLived.isBlocked(USER_ID));
+        verify(values, times(1)).set(eq(PREFIX + USER_ID), eq("blocked"), any(Duration.class));
+    }
+
+    @Test
+    void unblock_event_lifts_the_local_block() {
+        blockService.block(USER_ID);
+
+        blockService.onMessage(message("U|" + USER_ID), null);
+
+        assertFalse(blockService.isBlocked(USER_ID));
+    }
+
+    @Test
+    void block_event_from_another_replica_is_applied() {
+        long until = System.currentTimeMillis() + 60_000;
+
+        blockService.onMessage(message("B|" + USER_ID + "|" + until), null);
+
+        assertTrue(blockService.isBlocked(USER_ID));
+    }
+
+    @Test
+    void remove_block_publishes_an_unblock_event() {
+        blockService.block(USER_ID);
+        when(redis.delete(PREFIX + USER_ID)).thenReturn(true);
+
+        assertTrue(blockService.removeBlock(USER_ID));
+
+        assertFalse(blockService.isBlocked(USER_ID));
+        verify(redis).convertAndSend(CHANNEL, "U|" + USER_ID);
+    }
+
+    @Test
+    void unblock_missed_by_a_replica_is_not_written_back() {
+        BlockServiceImpl otherReplica = blockService(60_000);
+        blockService.block(USER_ID);
+
+        // the unblock event published by the other replica never reaches blockService
+        otherReplica.removeBlock(USER_ID);
+        ArgumentCaptor<String> removedAt = ArgumentCaptor.forClass(String.class);
+        verify(values).set(eq(TOMBSTONE_PREFIX + USER_ID), removedAt.capture(), any(Duration.class));
+        when(values.multiGet(List.of(TOMBSTONE_PREFIX + USER_ID))).thenReturn(List.of(removedAt.getValue()));
+        assertTrue(blockService.isBlocked(USER_ID));
+
+        blockService.reconcile();
+
+        assertFalse(blockService.isBlocked(USER_ID));
+        verify(values, times(1)).set(eq(PREFIX + USER_ID), eq("blocked"), any(Duration.class));
+    }
+
+    @Test
+    void block_newer_than_the_unblock_tombstone_is_written_back() {
+        long removedAt = System.currentTimeMillis() - 1_000;
+        when(values.multiGet(List.of(TOMBSTONE_PREFIX + USER_ID))).thenReturn(List.of(String.valueOf(removedAt)));
+        blockService.block(USER_ID);
+
+        blockService.reconcile();
+
+        assertTrue(blockService.isBlocked(USER_ID));
+        verify(values, times(2)).set(eq(PREFIX + USER_ID), eq("blocked"), any(Duration.class));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
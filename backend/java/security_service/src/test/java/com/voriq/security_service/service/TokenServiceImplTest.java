@@ -0,0 +1,106 @@
+package com.voriq.security_service.service;
+
+import com.voriq.security_service.domain.dto.TokenRequestDto;
+import com.voriq.security_service.exception_handler.exception.UserNotFoundException;
+import com.voriq.security_service.service.TokenStoreStrategy.SavePrecheck;
+import com.voriq.security_service.service.TokenStoreStrategy.TokenStoreStrategy;
+import com.voriq.security_service.service.revocation_feed.RevocationFeed;
+import com.voriq.security_service.service.signed_token.SignedTokenRevocationList;
+import com.voriq.security_service.service.signed_token.SignedTokens;
+import com.voriq.security_service.service.token_generator.TokenGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Token service tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class TokenServiceImplTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID USER_KEY = UUID.randomUUID();
+    private static final UUID TOKEN_ID = UUID.randomUUID();
+
+    private final UserKeyCache userKeyCache = mock(UserKeyCache.class);
+    private final TokenStoreStrategy store = mock(TokenStoreStrategy.class);
+    private final TokenGenerator tokenGenerator = mock(TokenGenerator.class);
+    private final IssuePrecheckExecutor executor = new IssuePrecheckExecutor(new SimpleMeterRegistry(), true, 2, 8);
+    private final TokenServiceImpl tokenService = new TokenServiceImpl(userKeyCache, store, tokenGenerator,
+            mock(RevocationFeed.class), new TokenRules(mock(SignedTokens.class)), executor, mock(StartupTimeTracker.class));
+
+    private final RevocationFeed signedFeed = mock(RevocationFeed.class);
+    private final SignedTokens signedTokens = new SignedTokens(
+            new SignedTokenRevocationList(mock(StringRedisTemplate.class), SignedTokens.FORMAT_SIGNED, 60_000, "test:"),
+            SignedTokens.FORMAT_SIGNED, 60_000, Base64.getEncoder().encodeToString(new byte[32]), "");
+    private final TokenServiceImpl signedTokenService = new TokenServiceImpl(userKeyCache, store, tokenGenerator,
+            signedFeed, new TokenRules(signedTokens), executor, mock(StartupTimeTracker.class));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void uncached_key_lookup_overlaps_with_the_store_precheck() {
+        SavePrecheck precheck = new SavePrecheck(store, 1);
+        when(userKeyCache.isCached(USER_ID)).thenReturn(false);
+        when(userKeyCache.findKey(USER_ID)).thenReturn(USER_KEY);
+        when(store.precheckSave(USER_ID)).thenReturn(precheck);
+        when(tokenGenerator.nextToken()).thenReturn(TOKEN_ID);
+
+        String token = tokenService.createTokens(new TokenRequestDto(USER_ID, USER_KEY)).getAccessToken();
+
+        assertEquals(TOKEN_ID.toString(), token);
+        verify(store).saveToken(TOKEN_ID.toString(), USER_ID, precheck);
+    }
+
+    @Test
+    void cached_key_skips_the_async_precheck() {
+        when(userKeyCache.isCached(USER_ID)).thenReturn(true);
+        when(userKeyCache.findKey(USER_ID)).thenReturn(USER_KEY);
+        when(tokenGenerator.nextToken()).thenReturn(TOKEN_ID);
+
+        tokenService.createTokens(new TokenRequestDto(USER_ID, USER_KEY));
+
+        verify(store, never()).precheckSave(any());
+        verify(store).saveToken(TOKEN_ID.toString(), USER_ID, null);
+    }
+
+    @Test
+    void wrong_key_saves_nothing() {
+        when(userKeyCache.isCached(USER_ID)).thenReturn(false);
+        when(userKeyCache.findKey(USER_ID)).thenReturn(USER_KEY);
+
+        assertThrows(UserNotFoundException.class,
+                () -> tokenService.createTokens(new TokenRequestDto(USER_ID, UUID.randomUUID())));
+        verify(store, never()).saveToken(anyString(), eq(USER_ID), any());
+        verify(store, never()).saveToken(anyString(), eq(USER_ID));
+    }
+
+    @Test
+    void revoking_a_signed_token_publishes_the_token_id_kept_by_the_store() {
+        when(userKeyCache.isCached(USER_ID)).thenReturn(true);
+        when(userKeyCache.findKey(USER_ID)).thenReturn(USER_KEY);
+        when(tokenGenerator.nextToken()).thenReturn(TOKEN_ID);
+        String token = signedTokenService.createTokens(new TokenRequestDto(USER_ID, USER_KEY)).getAccessToken();
+
+        signedTokenService.revokeToken(token);
+
+        verify(store).saveToken(TOKEN_ID.toString(), USER_ID, null);
+        verify(store).revokeToken(TOKEN_ID.toString());
+        verify(signedFeed).tokenRevoked(TOKEN_ID.toString());
+        verify(signedFeed, never()).tokenRevoked(token);
+    }
+}
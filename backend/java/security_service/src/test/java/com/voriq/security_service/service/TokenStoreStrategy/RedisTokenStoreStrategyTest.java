@@ -0,0 +1,63 @@
+package com.voriq.security_service.service.TokenStoreStrategy;
+
+import com.voriq.security_service.service.interfaces.BlockService;
+import com.voriq.security_service.service.revocation_feed.RevocationFeed;
+import com.voriq.security_service.service.signed_token.SignedTokenRevocationList;
+import com.voriq.security_service.service.signed_token.SignedTokens;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Redis token store tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class RedisTokenStoreStrategyTest {
+
+    private static final long LIFETIME_MS = 60_000;
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private SetOperations<String, String> sets;
+
+    @Mock
+    private RevocationFeed revocationFeed;
+
+    @Mock
+    private SignedTokenRevocationList signedTokenRevocationList;
+
+    @Test
+    void revoke_all_publishes_the_ids_carried_by_signed_tokens() {
+        SignedTokens signedTokens = new SignedTokens(signedTokenRevocationList, SignedTokens.FORMAT_SIGNED, LIFETIME_MS,
+                Base64.getEncoder().encodeToString(new byte[32]), "");
+        UUID userId = UUID.randomUUID();
+        String first = signedTokens.issue(UUID.randomUUID(), userId);
+        String second = signedTokens.issue(UUID.randomUUID(), userId);
+        String firstId = signedTokens.decode(first).tokenId().toString();
+        String secondId = signedTokens.decode(second).tokenId().toString();
+        when(redis.opsForSet()).thenReturn(sets);
+        when(sets.members(userId.toString())).thenReturn(Set.of(firstId, secondId));
+        RedisTokenStoreStrategy store = new RedisTokenStoreStrategy(mock(BlockService.class), redis, revocationFeed,
+                signedTokenRevocationList);
+
+        store.revokeAll(userId);
+
+        verify(revocationFeed).tokenRevoked(firstId);
+        verify(revocationFeed).tokenRevoked(secondId);
+        verifyNoMoreInteractions(revocationFeed);
+        verify(signedTokenRevocationList).revokeSessions(userId);
+    }
+}
@@ -0,0 +1,153 @@
+package com.voriq.security_service.service.TokenStoreStrategy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Single flight tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class SingleFlightTest {
+
+    private final Counter coalesced = new SimpleMeterRegistry().counter("coalesced");
+    private final SingleFlight<Boolean> flight = new SingleFlight<>(100, coalesced);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrent_calls_share_one_backend_call() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Boolean> leader = executor.submit(() -> flight.execute("t", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return true;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Future<Boolean> follower = executor.submit(() -> flight.execute("t", () -> {
+            calls.incrementAndGet();
+            return false;
+        }));
+        waitForCoalesced(1);
+        release.countDown();
+
+        assertTrue(leader.get(5, TimeUnit.SECONDS));
+        assertTrue(follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void cancelled_result_is_not_shared() throws Exception {
+        AtomicBoolean revoked = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Boolean> leader = executor.submit(() -> flight.execute("t", () -> {
+            started.countDown();
+            await(release);
+            return true;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Future<Boolean> follower = executor.submit(() -> flight.execute("t", () -> !revoked.get()));
+        waitForCoalesced(1);
+
+        revoked.set(true);
+        flight.cancel("t");
+        release.countDown();
+
+        assertTrue(leader.get(5, TimeUnit.SECONDS));
+        assertFalse(follower.get(5, TimeUnit.SECONDS));
+        assertFalse(flight.execute("t", () -> !revoked.get()));
+    }
+
+    @Test
+    void waiters_are_released_when_the_leader_throws_an_error() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Boolean> leader = executor.submit(() -> flight.execute("t", () -> {
+            started.countDown();
+            await(release);
+            throw new AssertionError("boom");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Future<Boolean> follower = executor.submit(() -> flight.execute("t", () -> true));
+        waitForCoalesced(1);
+        release.countDown();
+
+        for (Future<Boolean> call : List.of(leader, follower)) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(AssertionError.class, ex.getCause());
+        }
+    }
+
+    @Test
+    void cancelled_flight_that_failed_is_re_run() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Boolean> leader = executor.submit(() -> flight.execute("t", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("stale");
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Future<Boolean> follower = executor.submit(() -> flight.execute("t", () -> true));
+        waitForCoalesced(1);
+        flight.cancel("t");
+        release.countDown();
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertTrue(follower.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void runs_uncoalesced_when_disabled() {
+        SingleFlight<Boolean> disabled = new SingleFlight<>(0, coalesced);
+        assertTrue(disabled.execute("t", () -> true));
+        assertEquals(0, coalesced.count());
+    }
+
+    private void waitForCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced.count() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, coalesced.count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
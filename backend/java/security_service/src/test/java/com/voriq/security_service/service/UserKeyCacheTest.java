@@ -0,0 +1,75 @@
+package com.voriq.security_service.service;
+
+import com.voriq.security_service.repository.UserKeyLookup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("User key cache tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class UserKeyCacheTest {
+
+    private static final UUID USER_ID = UUID.fromString("33333333-3333-3333-3333-333333333333");
+    private static final UUID USER_KEY = UUID.fromString("cccccccc-cccc-cccc-cccc-cccccccccccc");
+
+    private final UserKeyLookup lookup = mock(UserKeyLookup.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UserKeyCache cache = new UserKeyCache(lookup, registry, true, 60_000, 4, 60_000, 4);
+
+    @Test
+    void known_and_unknown_users_are_served_from_cache() {
+        UUID unknown = UUID.randomUUID();
+        when(lookup.findKeyByUserId(USER_ID)).thenReturn(USER_KEY);
+
+        assertEquals(USER_KEY, cache.findKey(USER_ID));
+        assertEquals(USER_KEY, cache.findKey(USER_ID));
+        assertNull(cache.findKey(unknown));
+        assertNull(cache.findKey(unknown));
+
+        verify(lookup, times(1)).findKeyByUserId(USER_ID);
+        verify(lookup, times(1)).findKeyByUserId(unknown);
+        assertEquals(1, registry.get("user.key.cache.requests").tag("result", "hit").counter().count());
+        assertEquals(1, registry.get("user.key.cache.requests").tag("result", "negative_hit").counter().count());
+    }
+
+    @Test
+    void invalidation_forces_a_reload() {
+        when(lookup.findKeyByUserId(USER_ID)).thenReturn(null, USER_KEY);
+
+        assertNull(cache.findKey(USER_ID));
+        cache.invalidate(USER_ID);
+        assertEquals(USER_KEY, cache.findKey(USER_ID));
+    }
+
+    @Test
+    void negative_flood_does_not_evict_known_users() {
+        when(lookup.findKeyByUserId(USER_ID)).thenReturn(USER_KEY);
+        cache.findKey(USER_ID);
+
+        for (int i = 0; i < 100; i++) {
+            cache.findKey(UUID.randomUUID());
+        }
+
+        assertEquals(USER_KEY, cache.findKey(USER_ID));
+        verify(lookup, times(1)).findKeyByUserId(USER_ID);
+        assertTrue(registry.get("user.key.cache.size").gauge().value() <= 8);
+    }
+
+    @Test
+    void repository_errors_are_not_cached() {
+        when(lookup.findKeyByUserId(any()))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenReturn(USER_KEY);
+
+        assertThrows(RuntimeException.class, () -> cache.findKey(USER_ID));
+        assertEquals(USER_KEY, cache.findKey(USER_ID));
+    }
+}
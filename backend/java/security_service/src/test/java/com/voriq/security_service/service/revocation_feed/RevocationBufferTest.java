@@ -0,0 +1,63 @@
+package com.voriq.security_service.service.revocation_feed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Revocation buffer tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class RevocationBufferTest {
+
+    private final RevocationBuffer buffer = new RevocationBuffer(3);
+
+    @Test
+    void resuming_subscriber_gets_the_missed_events() {
+        for (long seq = 1; seq <= 3; seq++) {
+            buffer.append(event("r", seq));
+        }
+
+        assertEquals(List.of("r-2", "r-3"), ids(buffer.since("r-1")));
+        assertEquals(List.of(), buffer.since("r-3"));
+        assertEquals(List.of(), buffer.since(null));
+        assertEquals("r-3", buffer.lastId());
+    }
+
+    @Test
+    void subscriber_behind_the_buffer_or_ahead_of_it_must_reset() {
+        for (long seq = 1; seq <= 5; seq++) {
+            buffer.append(event("r", seq));
+        }
+
+        assertEquals(List.of("r-3", "r-4", "r-5"), ids(buffer.since("r-2")));
+        assertNull(buffer.since("r-1"));
+        assertNull(buffer.since("r-6"));
+        assertNull(buffer.since("r-x"));
+        assertNull(buffer.since("garbage"));
+    }
+
+    @Test
+    void switching_source_clears_the_buffer() {
+        assertTrue(buffer.append(event("r", 1)));
+        buffer.append(event("r", 2));
+
+        assertTrue(buffer.append(event("l1a2b3c4d", 1)));
+        assertFalse(buffer.append(event("l1a2b3c4d", 2)));
+
+        assertNull(buffer.since("r-2"));
+        assertEquals(List.of("l1a2b3c4d-2"), ids(buffer.since("l1a2b3c4d-1")));
+    }
+
+    private static RevocationEvent event(String source, long sequence) {
+        return new RevocationEvent(RevocationEvent.id(source, sequence), RevocationFeed.TOKEN_REVOKED,
+                "token-" + sequence, sequence);
+    }
+
+    private static List<String> ids(List<RevocationEvent> events) {
+        return events.stream().map(RevocationEvent::id).toList();
+    }
+}
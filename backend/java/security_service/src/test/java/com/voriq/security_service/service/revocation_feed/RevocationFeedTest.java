@@ -0,0 +1,304 @@
+package com.voriq.security_service.service.revocation_feed;
+
+import com.voriq.security_service.exception_handler.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Revocation feed tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class RevocationFeedTest {
+
+    private static final String STREAM_KEY = "voriq:revocations";
+    private static final int BUFFER_SIZE = 3;
+    private static final int MAX_SUBSCRIBERS = 4;
+
+    @Mock
+    private StreamOperations<String, Object, Object> stream;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Object[]> appended = new CopyOnWriteArrayList<>();
+    private final List<MapRecord<String, Object, Object>> entries = new CopyOnWriteArrayList<>();
+    private volatile boolean redisUp;
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class, this::redis);
+    private final RevocationFeed feed = new RevocationFeed(redis, meterRegistry, true, STREAM_KEY, 1000,
+            BUFFER_SIZE, 60_000, MAX_SUBSCRIBERS);
+
+    /**
+     * Every Redis call fails while {@link #redisUp} is {@code false}; otherwise appends are recorded.
+     */
+    private Object redis(InvocationOnMock invocation) throws Throwable {
+        if (!redisUp) {
+            throw new RedisConnectionFailureException("Redis is down");
+        }
+        return switch (invocation.getMethod().getName()) {
+            case "opsForStream" -> stream;
+            case "execute" -> {
+                appended.add(invocation.getArguments());
+                yield 1L;
+            }
+            default -> RETURNS_DEFAULTS.answer(invocation);
+        };
+    }
+
+    private List<String> publishLocally(int count) {
+        List<String> ids = new ArrayList<>();
+        RecordingEmitter probe = new RecordingEmitter();
+        feed.subscribe(null, probe);
+        for (int i = 1; i <= count; i++) {
+            feed.tokenRevoked("token-" + i);
+        }
+        probe.revocations().forEach(event -> ids.add(event.id()));
+        return ids;
+    }
+
+    /**
+     * Backs the stream reads with {@link #entries}.
+     */
+    private void streamHoldsEntries() {
+        redisUp = true;
+        when(stream.reverseRange(eq(STREAM_KEY), ArgumentMatchers.<Range<String>>any(), any(Limit.class)))
+                .thenAnswer(inv -> {
+                    List<MapRecord<String, Object, Object>> newest = new ArrayList<>(entries);
+                    Collections.reverse(newest);
+                    return newest.subList(0, Math.min(inv.<Limit>getArgument(2).getCount(), newest.size()));
+                });
+        when(stream.range(eq(STREAM_KEY), ArgumentMatchers.<Range<String>>any(), any(Limit.class)))
+                .thenAnswer(inv -> {
+                    String after = inv.<Range<String>>getArgument(1).getLowerBound().getValue().orElseThrow();
+                    return entries.stream()
+                            .filter(entry -> entry.getId().getTimestamp() > RecordId.of(after).getTimestamp())
+                            .toList();
+                });
+    }
+
+    private static MapRecord<String, Object, Object> entry(long sequence, String subject) {
+        Map<Object, Object> fields = Map.of("type", RevocationFeed.TOKEN_REVOKED, "subject", subject, "ts", "1");
+        return StreamRecords.newRecord().in(STREAM_KEY).withId(RecordId.of(sequence + "-0")).ofMap(fields);
+    }
+
+    private double subscribers() {
+        return meterRegistry.get("revocation.feed.subscribers").gauge().value();
+    }
+
+    @Test
+    void redis_down_events_are_delivered_locally_and_appended_once_redis_is_back() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(null, emitter);
+
+        feed.tokenRevoked("token-1");
+
+        assertEquals(1, emitter.revocations().size());
+        RevocationEvent event = emitter.revocations().get(0);
+        assertEquals(RevocationFeed.TOKEN_REVOKED, event.type());
+        assertEquals("token-1", event.subject());
+        assertFalse(event.id().startsWith(RevocationFeed.REDIS_SOURCE + "-"), event.id());
+        assertEquals(1, meterRegistry.get("revocation.feed.events").tag("store", "local").counter().count());
+
+        redisUp = true;
+        when(stream.range(eq(STREAM_KEY), ArgumentMatchers.<Range<String>>any(), any(Limit.class)))
+                .thenReturn(List.of());
+        feed.poll();
+
+        assertEquals(1, appended.size());
+        assertEquals(RevocationFeed.TOKEN_REVOKED, appended.get(0)[3]);
+        assertEquals("token-1", appended.get(0)[4]);
+        feed.poll();
+        assertEquals(1, appended.size());
+    }
+
+    @Test
+    void last_event_id_resumes_after_the_last_seen_event() {
+        List<String> ids = publishLocally(3);
+
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(ids.get(0), emitter);
+        feed.tokenRevoked("token-4");
+
+        assertEquals(List.of("token-2", "token-3", "token-4"), subjects(emitter));
+        assertEquals(ids.subList(1, 3), emitter.revocations().subList(0, 2).stream().map(RevocationEvent::id).toList());
+    }
+
+    @Test
+    void last_event_id_outside_the_buffer_gets_a_reset() {
+        List<String> ids = publishLocally(BUFFER_SIZE + 2);
+
+        RecordingEmitter behind = new RecordingEmitter();
+        feed.subscribe(ids.get(0), behind);
+        RecordingEmitter unknown = new RecordingEmitter();
+        feed.subscribe(RevocationFeed.REDIS_SOURCE + "-7", unknown);
+
+        for (RecordingEmitter emitter : List.of(behind, unknown)) {
+            assertEquals(1, emitter.events.size());
+            assertEquals(RevocationFeed.RESET, emitter.events.get(0).type());
+            assertEquals(ids.get(ids.size() - 1), emitter.events.get(0).id());
+        }
+    }
+
+    @Test
+    void replay_does_not_hold_up_delivery_and_keeps_the_order() throws Exception {
+        List<String> ids = publishLocally(2);
+        CountDownLatch replaying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                if (events.isEmpty()) {
+                    replaying.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.send(builder);
+            }
+        };
+
+        CompletableFuture<SseEmitter> subscription = CompletableFuture.supplyAsync(() -> feed.subscribe(ids.get(0), slow));
+        assertTrue(replaying.await(5, TimeUnit.SECONDS));
+        CompletableFuture.runAsync(() -> feed.tokenRevoked("token-3")).get(5, TimeUnit.SECONDS);
+        release.countDown();
+        subscription.get(5, TimeUnit.SECONDS);
+        feed.tokenRevoked("token-4");
+
+        assertEquals(List.of("token-2", "token-3", "token-4"), subjects(slow));
+    }
+
+    @Test
+    void concurrent_subscriptions_do_not_exceed_the_cap() throws Exception {
+        int attempts = MAX_SUBSCRIBERS * 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        feed.subscribe(null, new RecordingEmitter());
+                        return true;
+                    } catch (ServiceUnavailableException ex) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                accepted += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertEquals(MAX_SUBSCRIBERS, accepted);
+            assertEquals(MAX_SUBSCRIBERS, subscribers());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void restarted_stream_resets_subscribers_and_is_read_from_the_start() {
+        streamHoldsEntries();
+        for (long seq = 1; seq <= 3; seq++) {
+            entries.add(entry(seq, "token-" + seq));
+        }
+        feed.poll();
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(RevocationFeed.REDIS_SOURCE + "-3", emitter);
+
+        // the stream is lost and numbering restarts below the last entry read
+        entries.clear();
+        entries.add(entry(1, "token-new"));
+        feed.poll();
+        entries.add(entry(2, "token-newer"));
+        feed.poll();
+
+        assertEquals(RevocationFeed.RESET, emitter.events.get(0).type());
+        assertEquals(List.of("token-new", "token-newer"), subjects(emitter));
+        RecordingEmitter resumed = new RecordingEmitter();
+        feed.subscribe(RevocationFeed.REDIS_SOURCE + "-1", resumed);
+        assertEquals(List.of("token-newer"), subjects(resumed));
+    }
+
+    @Test
+    void subscriber_failing_during_replay_frees_its_slot() {
+        publishLocally(1);
+        SseEmitter broken = new RecordingEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        feed.subscribe("garbage", broken);
+        feed.subscribe("garbage", broken);
+
+        assertEquals(1, subscribers());
+    }
+
+    private static List<String> subjects(RecordingEmitter emitter) {
+        return emitter.revocations().stream().map(RevocationEvent::subject).toList();
+    }
+
+    /**
+     * Keeps the events sent to the subscriber instead of writing them to a response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<RevocationEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof RevocationEvent event) {
+                    events.add(event);
+                }
+            }
+        }
+
+        /**
+         * @return the events sent, without resets (the first event of a source is preceded by one)
+         */
+        List<RevocationEvent> revocations() {
+            return events.stream().filter(event -> !RevocationFeed.RESET.equals(event.type())).toList();
+        }
+    }
+}
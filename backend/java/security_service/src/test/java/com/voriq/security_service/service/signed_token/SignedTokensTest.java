@@ -0,0 +1,91 @@
+package com.voriq.security_service.service.signed_token;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Signed tokens tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class SignedTokensTest {
+
+    private static final String SECRET = secret('a');
+    private static final String OTHER_SECRET = secret('b');
+    private static final long LIFETIME_MS = 60_000;
+
+    private final SignedTokenRevocationList revocationList = new SignedTokenRevocationList(
+            mock(StringRedisTemplate.class), SignedTokens.FORMAT_SIGNED, LIFETIME_MS, "test:");
+    private final SignedTokens signedTokens = signedTokens(SECRET, "");
+
+    @Test
+    void issued_token_verifies_and_carries_its_claims() {
+        UUID tokenId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        String token = signedTokens.issue(tokenId, userId);
+        SignedToken signed = signedTokens.verify(token);
+
+        assertEquals(SignedTokenCodec.TOKEN_LENGTH, token.length());
+        assertTrue(signedTokens.accepts(token));
+        assertFalse(signedTokens.accepts(tokenId.toString()));
+        assertNotNull(signed);
+        assertEquals(tokenId, signed.tokenId());
+        assertEquals(userId, signed.userId());
+        assertEquals(0L, signed.generation());
+    }
+
+    @Test
+    void tampered_or_foreign_tokens_are_rejected() {
+        String token = signedTokens.issue(UUID.randomUUID(), UUID.randomUUID());
+        String tampered = token.substring(0, 10) + (token.charAt(10) == 'A' ? 'B' : 'A') + token.substring(11);
+        String respelled = token.substring(0, token.length() - 1) + (char) (token.charAt(token.length() - 1) + 1);
+
+        assertNull(signedTokens.verify(tampered));
+        assertFalse(signedTokens.accepts(respelled));
+        assertNull(signedTokens(OTHER_SECRET, "").verify(token));
+        assertNotNull(signedTokens(OTHER_SECRET, SECRET).verify(token));
+    }
+
+    @Test
+    void revoked_token_and_older_sessions_are_rejected() {
+        UUID userId = UUID.randomUUID();
+        String revoked = signedTokens.issue(UUID.randomUUID(), userId);
+        String older = signedTokens.issue(UUID.randomUUID(), userId);
+
+        signedTokens.revoke(signedTokens.verify(revoked));
+        assertNull(signedTokens.verify(revoked));
+        assertNotNull(signedTokens.verify(older));
+
+        revocationList.revokeSessions(userId);
+        String newer = signedTokens.issue(UUID.randomUUID(), userId);
+
+        assertNull(signedTokens.verify(older));
+        assertNotNull(signedTokens.verify(newer));
+    }
+
+    @Test
+    void opaque_format_accepts_no_signed_tokens() {
+        SignedTokens opaque = new SignedTokens(revocationList, SignedTokens.FORMAT_OPAQUE, LIFETIME_MS, "", "");
+        String token = signedTokens.issue(UUID.randomUUID(), UUID.randomUUID());
+
+        assertFalse(opaque.isEnabled());
+        assertFalse(opaque.accepts(token));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SignedTokens(revocationList, SignedTokens.FORMAT_SIGNED, LIFETIME_MS, "c2hvcnQ=", ""));
+    }
+
+    private SignedTokens signedTokens(String secret, String previousSecret) {
+        return new SignedTokens(revocationList, SignedTokens.FORMAT_SIGNED, LIFETIME_MS, secret, previousSecret);
+    }
+
+    private static String secret(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes());
+    }
+}
@@ -0,0 +1,53 @@
+package com.voriq.security_service.service.token_generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DRBG token generator tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class DrbgTokenGeneratorTest {
+
+    @Test
+    void tokens_are_distinct_version_4_uuids_with_and_without_batches() {
+        assertValidAndDistinct(new DrbgTokenGenerator(1, 0, 1_000_000));
+        assertValidAndDistinct(new DrbgTokenGenerator(1, 7, 3));
+    }
+
+    @Test
+    void stripe_count_is_rounded_up_to_a_power_of_two() {
+        assertEquals(1, new DrbgTokenGenerator(1, 0, 1).stripes());
+        assertEquals(8, new DrbgTokenGenerator(5, 0, 1).stripes());
+        assertTrue(Integer.bitCount(new DrbgTokenGenerator(0, 0, 1).stripes()) == 1);
+    }
+
+    @Test
+    void version_and_variant_bits_are_forced() {
+        byte[] ones = new byte[DrbgTokenGenerator.TOKEN_BYTES];
+        Arrays.fill(ones, (byte) 0xff);
+
+        assertEquals(UUID.fromString("ffffffff-ffff-4fff-bfff-ffffffffffff"), DrbgTokenGenerator.toUuid(ones, 0));
+        assertEquals(UUID.fromString("00000000-0000-4000-8000-000000000000"),
+                DrbgTokenGenerator.toUuid(new byte[DrbgTokenGenerator.TOKEN_BYTES], 0));
+    }
+
+    private static void assertValidAndDistinct(TokenGenerator generator) {
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            UUID token = generator.nextToken();
+            assertEquals(4, token.version());
+            assertEquals(2, token.variant());
+            assertTrue(seen.add(token));
+            assertEquals(token, UUID.fromString(token.toString()));
+        }
+    }
+}
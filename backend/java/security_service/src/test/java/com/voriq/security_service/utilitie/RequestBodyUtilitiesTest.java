@@ -0,0 +1,48 @@
+package com.voriq.security_service.utilitie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.voriq.security_service.utilitie.RequestBodyUtilities.extractUserId;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Request body utilities tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class RequestBodyUtilitiesTest {
+
+    @Test
+    void extracts_top_level_user_id_and_skips_nested_values() {
+        assertEquals("Test1", extractUserId(bytes("{\"key\":{\"userId\":\"nested\"},\"userId\":\"Test1\"}")));
+        assertEquals("42", extractUserId(bytes("{\"userId\":42}")));
+        assertEquals("", extractUserId(bytes("{\"userId\":{\"a\":1}}")));
+    }
+
+    @Test
+    void returns_null_for_missing_field_or_malformed_json() {
+        assertNull(extractUserId(bytes("{\"key\":\"k\"}")));
+        assertNull(extractUserId(bytes("[1,2]")));
+        assertNull(extractUserId(bytes("{\"key\":")));
+        assertNull(extractUserId(new byte[0]));
+    }
+
+    @Test
+    void duplicate_user_id_uses_the_last_occurrence_like_jackson() {
+        assertEquals("last", extractUserId(bytes("{\"userId\":\"first\",\"key\":\"k\",\"userId\":\"last\"}")));
+        assertEquals("last", extractUserId(bytes("{\"userId\":\"first\",\"userId\":\"last\",\"key\":")));
+        assertEquals("first", extractUserId(bytes("{\"userId\":\"first\",\"key\":{\"userId\":\"nested\"}}")));
+    }
+
+    @Test
+    void reads_only_the_given_region() {
+        byte[] body = bytes("xx{\"userId\":\"u\"}{\"userId\":\"other\"}");
+        assertEquals("u", extractUserId(body, 2, 14));
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
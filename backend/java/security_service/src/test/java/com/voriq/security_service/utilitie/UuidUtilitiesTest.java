@@ -0,0 +1,51 @@
+package com.voriq.security_service.utilitie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static com.voriq.security_service.utilitie.UuidUtilities.isUuid;
+import static com.voriq.security_service.utilitie.UuidUtilities.parse;
+import static com.voriq.security_service.utilitie.UuidUtilities.parseOrNull;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UUID utilities tests: ")
+@DisplayNameGeneration(value = DisplayNameGenerator.ReplaceUnderscores.class)
+class UuidUtilitiesTest {
+
+    @Test
+    void parses_canonical_uuids_like_the_jdk() {
+        for (int i = 0; i < 1_000; i++) {
+            UUID expected = UUID.randomUUID();
+            assertEquals(expected, parseOrNull(expected.toString()));
+            assertEquals(expected, parseOrNull(expected.toString().toUpperCase()));
+
+            long[] halves = new long[2];
+            assertTrue(parse(expected.toString(), halves));
+            assertEquals(expected.getMostSignificantBits(), halves[0]);
+            assertEquals(expected.getLeastSignificantBits(), halves[1]);
+        }
+        assertEquals(new UUID(-1L, -1L), parseOrNull("ffffffff-ffff-ffff-ffff-ffffffffffff"));
+    }
+
+    @Test
+    void rejects_everything_else_without_throwing() {
+        assertFalse(isUuid(null));
+        assertFalse(isUuid(""));
+        assertFalse(isUuid("1-1-1-1-1"));
+        assertFalse(isUuid("11111111-1111-1111-1111-11111111111"));
+        assertFalse(isUuid("11111111-1111-1111-1111-1111111111111"));
+        assertFalse(isUuid("11111111x1111-1111-1111-111111111111"));
+        assertFalse(isUuid("1111111g-1111-1111-1111-111111111111"));
+        assertFalse(isUuid("1111111١-1111-1111-1111-111111111111"));
+        assertFalse(isUuid("11111111-1111-1111-1111-11111111111-"));
+        assertNull(parseOrNull("not-a-token"));
+
+        long[] untouched = {7, 7};
+        assertFalse(parse("not-a-token", untouched));
+        assertArrayEquals(new long[]{7, 7}, untouched);
+    }
+}